@@ -0,0 +1,66 @@
+package com.aslan.academymanagement.benchmark;
+
+import com.aslan.academymanagement.AcademyManagementApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+/**
+ * 벤치마크용 애플리케이션 컨텍스트 (메모리 H2, 웹 서버는 빈 포트에 띄움)
+ * - 보안 설정(OAuth2 로그인)이 서블릿 환경을 요구하므로 웹 서버 없이 띄우지 않음
+ * - application-secret.yml 없이 뜨도록 토큰/OAuth 값은 더미로 채움
+ * - SQL 로그는 측정에 섞이지 않도록 끔
+ */
+final class BenchmarkContext {
+
+    private static final String[] SURNAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임", "한", "오", "서", "신", "권"};
+    private static final String[] SYLLABLES = {
+            "민", "서", "지", "현", "우", "준", "수", "연", "도", "하", "윤", "예", "은", "주", "건",
+            "시", "유", "진", "아", "원", "태", "성", "재", "영", "호", "다", "채", "린", "율", "훈"
+    };
+
+    private BenchmarkContext() {
+    }
+
+    static ConfigurableApplicationContext start(String profile) {
+        return new SpringApplicationBuilder(AcademyManagementApplication.class)
+                .profiles(profile)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:benchmark",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "jwt.secret=YmVuY2htYXJrLW9ubHktc2VjcmV0LWtleS1mb3ItaG1hYy1zaGEyNTYtc2lnbmluZw==",
+                        "spring.security.oauth2.client.registration.google.client-id=benchmark",
+                        "spring.security.oauth2.client.registration.google.client-secret=benchmark")
+                .run();
+    }
+
+    // 엔티티/이벤트를 거치지 않고 "BENCH" + i 번호로 초등부 학생을 채움 (메모리 색인은 호출한 쪽이 다시 채움)
+    static void insertStudents(ConfigurableApplicationContext context, int count, IntFunction<String> name) {
+        context.getBean(JdbcTemplate.class).batchUpdate("""
+                        INSERT INTO students (student_id, name, birth_date, parent_phone_number, grade, division,
+                                              attendance_count, average_score)
+                        VALUES (?, ?, ?, '010-0000-0000', 'GRADE_4', 'ELEMENTARY', 0, 0.0)
+                        """,
+                IntStream.range(0, count).boxed().toList(), 1_000, (ps, i) -> {
+                    ps.setString(1, "BENCH" + i);
+                    ps.setString(2, name.apply(i));
+                    ps.setDate(3, Date.valueOf(LocalDate.of(2015, 1, 1)));
+                });
+    }
+
+    // 성 + 이름 두 글자 (같은 seed면 같은 명단)
+    static String koreanName(Random random) {
+        return SURNAMES[random.nextInt(SURNAMES.length)]
+                + SYLLABLES[random.nextInt(SYLLABLES.length)]
+                + SYLLABLES[random.nextInt(SYLLABLES.length)];
+    }
+}
@@ -0,0 +1,82 @@
+package com.aslan.academymanagement.benchmark;
+
+import com.aslan.academymanagement.domain.Student;
+import com.aslan.academymanagement.dto.StudentSuggestion;
+import com.aslan.academymanagement.repository.StudentRepository;
+import com.aslan.academymanagement.service.search.StudentNameIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 학생 이름 검색: 메모리 역색인(StudentNameIndex) vs 저장소 LIKE '%x%' (findByNameContaining)
+ *
+ * - 학생 수만큼 이름을 넣고 색인을 다시 채운 뒤 같은 검색어로 두 경로를 측정
+ * - SampleTime 모드라 결과에 p0.99 등 백분위가 함께 나옴 (목표: 10만 명에서 색인 p99 5ms 미만)
+ * - 초성 검색어("ㄱㅁ")는 LIKE로는 찾을 수 없으므로 완성형 검색어만 비교
+ *
+ * 실행: ./gradlew jmh -PjmhInclude=StudentNameSearchBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class StudentNameSearchBenchmark {
+
+    private static final int SUGGESTION_LIMIT = 10;
+
+    @Param({"100000"})
+    private int students;
+
+    // 성 한 글자(앞부분 일치 다수), 성+이름 첫 글자, 이름 두 글자(중간 일치)
+    @Param({"김", "김민", "민수"})
+    private String query;
+
+    private ConfigurableApplicationContext context;
+    private StudentNameIndex studentNameIndex;
+    private StudentRepository studentRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("elementary");
+        studentNameIndex = context.getBean(StudentNameIndex.class);
+        studentRepository = context.getBean(StudentRepository.class);
+
+        Random random = new Random(42);
+        List<String> names = IntStream.range(0, students).mapToObj(i -> BenchmarkContext.koreanName(random)).toList();
+        BenchmarkContext.insertStudents(context, students, names::get);
+        // 시작 시 빈 DB로 채워졌으므로 넣은 학생으로 다시 채움
+        studentNameIndex.warmUp();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<StudentSuggestion> nameIndex() {
+        return studentNameIndex.search(query, SUGGESTION_LIMIT);
+    }
+
+    @Benchmark
+    public List<Student> findByNameContaining() {
+        return studentRepository.findByNameContaining(query);
+    }
+}
@@ -0,0 +1,115 @@
+package com.aslan.academymanagement.benchmark;
+
+import com.aslan.academymanagement.domain.Student;
+import com.aslan.academymanagement.domain.enums.Division;
+import com.aslan.academymanagement.domain.enums.Grade;
+import com.aslan.academymanagement.dto.StudentRequest;
+import com.aslan.academymanagement.repository.StudentRepository;
+import com.aslan.academymanagement.service.student.StudentIdFilter;
+import com.aslan.academymanagement.service.student.StudentManagementService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 학생 등록 처리량: 매번 중복 확인 쿼리(이전) vs Bloom filter로 쿼리 생략(이후)
+ *
+ * - existsQueryThenSave: 필터 도입 전 경로 (existsByStudentId → save)
+ * - filterThenSave: 필터가 "확실히 없음"이면 확인 쿼리 없이 save (최종 판정은 유니크 제약)
+ * - registerStudent: 서비스 전체 경로 (이벤트 발행, 등록 알림 포함) 참고용
+ * - 매 호출마다 새 번호라 필터는 항상 "없음" → 신규 등록이 대부분인 실제 상황과 같음
+ * - 확인 쿼리가 인덱스를 타도록 미리 학생을 채워 둠
+ *
+ * 실행: ./gradlew jmh -PjmhInclude=StudentRegistrationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class StudentRegistrationBenchmark {
+
+    @Param({"100000"})
+    private int students;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private ConfigurableApplicationContext context;
+    private StudentManagementService studentManagementService;
+    private StudentRepository studentRepository;
+    private StudentIdFilter studentIdFilter;
+    private TransactionTemplate transactionTemplate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("elementary");
+        studentManagementService = context.getBean(StudentManagementService.class);
+        studentRepository = context.getBean(StudentRepository.class);
+        studentIdFilter = context.getBean(StudentIdFilter.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        BenchmarkContext.insertStudents(context, students, i -> "기존학생");
+        // 시작 시 빈 DB로 채워졌으므로 넣은 번호로 다시 채움
+        studentIdFilter.warmUp();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Student existsQueryThenSave() {
+        StudentRequest request = nextRequest();
+        return transactionTemplate.execute(status -> {
+            if (studentRepository.existsByStudentId(request.getStudentId())) {
+                throw new IllegalStateException("중복 번호: " + request.getStudentId());
+            }
+            return studentRepository.save(studentManagementService.newStudent(request));
+        });
+    }
+
+    @Benchmark
+    public Student filterThenSave() {
+        StudentRequest request = nextRequest();
+        return transactionTemplate.execute(status -> {
+            if (studentIdFilter.mightContain(request.getStudentId())
+                    && studentRepository.existsByStudentId(request.getStudentId())) {
+                throw new IllegalStateException("중복 번호: " + request.getStudentId());
+            }
+            return studentRepository.save(studentManagementService.newStudent(request));
+        });
+    }
+
+    @Benchmark
+    public Student registerStudent() {
+        return studentManagementService.registerStudent(nextRequest());
+    }
+
+    private StudentRequest nextRequest() {
+        return StudentRequest.builder()
+                .studentId("REG" + sequence.incrementAndGet())
+                .name("등록측정")
+                .birthDate(LocalDate.of(2016, 1, 1))
+                .parentPhoneNumber("010-0000-0000")
+                .grade(Grade.GRADE_2)
+                .division(Division.ELEMENTARY)
+                .build();
+    }
+}
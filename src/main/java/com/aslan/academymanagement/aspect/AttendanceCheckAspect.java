@@ -1,5 +1,8 @@
 package com.aslan.academymanagement.aspect;
 
+import com.aslan.academymanagement.dto.AttendanceResult;
+import com.aslan.academymanagement.service.attendance.AttendanceLogService;
+import com.aslan.academymanagement.service.notification.NotificationDispatcher;
 import com.aslan.academymanagement.service.notification.NotificationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -10,6 +13,8 @@ import org.aspectj.lang.annotation.Before;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalTime;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * 출석 체크 Aspect
@@ -44,9 +49,10 @@ import java.time.LocalTime;
 public class AttendanceCheckAspect {
 
     private final NotificationService notificationService;
+    private final NotificationDispatcher notificationDispatcher;
 
     /**
-     * 출석 체크 메서드 실행 전에 지각 여부를 확인
+     * 출석 체크 메서드 실행 전에 요청된 학생을 기록
      *
      * @Before Advice 특징:
      * - 메서드 실행 전에 자동으로 실행
@@ -57,35 +63,66 @@ public class AttendanceCheckAspect {
      */
     @Before("@annotation(com.aslan.academymanagement.annotation.AttendanceRequired)")
     public void beforeAttendanceCheck(JoinPoint joinPoint) {
-        LocalTime now = LocalTime.now();
         // JoinPoint.getArgs()로 메서드의 파라미터에 접근
-        // 첫 번째 인자가 studentId입니다.
-        String studentId = (String) joinPoint.getArgs()[0];
-
-        log.info("⏰ 출석 체크 시작: {} at {}", studentId, now);
-
-        // 9시 이후 출석은 지각으로 처리
-        if (now.isAfter(LocalTime.of(9, 0))) {
-            log.warn("⏰ 지각 감지: {} ({})", studentId, now);
-            notificationService.notifyTeacher(
-                    String.format("⚠️ %s 학생이 %s에 출석했습니다 (지각)", studentId, now)
-            );
-        }
+        // 단건 출석은 studentId(String), 일괄 출석은 studentIds(List)가 인자로 들어옵니다.
+        log.info("⏰ 출석 체크 시작: {} at {}",
+                String.join(", ", extractStudentIds(joinPoint.getArgs())), LocalTime.now());
     }
 
     /**
-     * 출석 체크 메서드가 정상적으로 완료된 후 실행
+     * 출석 체크 메서드가 정상적으로 완료된 후 지각 여부를 확인
      *
      * @AfterReturning Advice 특징:
      * - 메서드가 정상적으로 종료된 후에만 실행
-     * - 예외가 발생하면 실행되지 않음
-     * - returning 속성으로 반환값에 접근 가능 (여기서는 사용하지 않음)
+     * - 예외가 발생하면 실행되지 않음 (실패한 출석에는 지각 알림을 보내지 않음)
+     * - returning 속성으로 반환값에 접근 가능 (일괄 출석 결과에서 실제 출석한 학생만 사용)
      *
      * @param joinPoint 실행된 메서드의 정보
+     * @param result    메서드 반환값 (단건 출석은 null)
      */
-    @AfterReturning("@annotation(com.aslan.academymanagement.annotation.AttendanceRequired)")
-    public void afterAttendanceCheck(JoinPoint joinPoint) {
-        String studentId = (String) joinPoint.getArgs()[0];
-        log.info("✅ 출석 체크 완료: {}", studentId);
+    @AfterReturning(
+            pointcut = "@annotation(com.aslan.academymanagement.annotation.AttendanceRequired)",
+            returning = "result")
+    public void afterAttendanceCheck(JoinPoint joinPoint, Object result) {
+        LocalTime now = LocalTime.now();
+        List<String> attended = attendedStudentIds(joinPoint.getArgs(), result);
+        String students = String.join(", ", attended);
+
+        log.info("✅ 출석 체크 완료: {}", students);
+
+        // 9시 이후 출석은 지각으로 처리 (일괄 출석도 알림은 한 번만, 커밋 후 전송)
+        if (!attended.isEmpty() && AttendanceLogService.isLate(now)) {
+            log.warn("⏰ 지각 감지: {} ({})", students, now);
+            String message = String.format("⚠️ %s 학생이 %s에 출석했습니다 (지각)", students, now);
+            notificationDispatcher.dispatchAfterCommit(() -> notificationService.notifyTeacher(message));
+        }
+    }
+
+    // 실제로 출석 처리된 학생 번호
+    // - 일괄 출석: 반환된 결과 중 ATTENDED만 (수강생이 아닌 학생 제외)
+    // - 단건 출석: 예외 없이 끝났으면 인자의 학생 번호
+    private List<String> attendedStudentIds(Object[] args, Object result) {
+        if (result instanceof Collection<?> results) {
+            return results.stream()
+                    .filter(AttendanceResult.class::isInstance)
+                    .map(AttendanceResult.class::cast)
+                    .filter(attendance -> attendance.getStatus() == AttendanceResult.Status.ATTENDED)
+                    .map(AttendanceResult::getStudentId)
+                    .toList();
+        }
+        return extractStudentIds(args);
+    }
+
+    // 인자 중 학생 번호(String) 또는 학생 번호 목록(Collection)을 찾아서 반환
+    private List<String> extractStudentIds(Object[] args) {
+        for (Object arg : args) {
+            if (arg instanceof String studentId) {
+                return List.of(studentId);
+            }
+            if (arg instanceof Collection<?> ids) {
+                return ids.stream().map(String::valueOf).distinct().toList();
+            }
+        }
+        return List.of();
     }
 }
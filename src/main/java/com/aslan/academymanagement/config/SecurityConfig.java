@@ -51,6 +51,9 @@ public class SecurityConfig {
                         // Swagger UI 허용
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
 
+                        // 캘린더 구독 피드 (URL의 서명 토큰으로 확인)
+                        .requestMatchers("/calendar/**").permitAll()
+
                         // API 요청은 인증된 사용자만 허용 (보안 강화!)
                         .requestMatchers("/api/v1/**").authenticated()
 
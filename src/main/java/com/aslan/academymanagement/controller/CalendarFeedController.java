@@ -0,0 +1,86 @@
+package com.aslan.academymanagement.controller;
+
+import com.aslan.academymanagement.service.lecture.IcsFeedService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 캘린더 앱 구독용 .ics 피드
+ * - 캘린더 앱은 로그인 헤더를 보낼 수 없으므로 인증 대신 URL의 서명 토큰으로 확인
+ *   (토큰은 /api/v1/lecture/calendar-feed, /api/v1/students/{studentId}/calendar-feed 에서 발급,
+ *    학생 주소는 POST /api/v1/students/{studentId}/calendar-feed/rotate 로 재발급하면 이전 주소가 무효)
+ * - 토큰이 틀리면 피드 존재 여부를 알 수 없도록 404
+ */
+@RestController
+@RequestMapping("/calendar")
+@RequiredArgsConstructor
+public class CalendarFeedController {
+
+    private static final String TEXT_CALENDAR = "text/calendar";
+
+    private final IcsFeedService icsFeedService;
+
+    @GetMapping("/teachers/{teacherId}.ics")
+    public void getTeacherFeed(
+            @PathVariable Long teacherId,
+            @RequestParam(required = false) String token,
+            ServletWebRequest webRequest
+    ) throws IOException {
+        HttpServletResponse response = webRequest.getResponse();
+        if (!icsFeedService.isValidTeacherToken(teacherId, token)) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        if (notModified(webRequest, icsFeedService.teacherEtag(teacherId))) {
+            return;
+        }
+        try (Writer writer = open(response)) {
+            icsFeedService.writeTeacherFeed(teacherId, writer);
+        }
+    }
+
+    @GetMapping("/students/{studentId}.ics")
+    public void getStudentFeed(
+            @PathVariable String studentId,
+            @RequestParam(required = false) String token,
+            ServletWebRequest webRequest
+    ) throws IOException {
+        HttpServletResponse response = webRequest.getResponse();
+        if (!icsFeedService.isValidStudentToken(studentId, token)) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        if (notModified(webRequest, icsFeedService.studentEtag(studentId))) {
+            return;
+        }
+        try (Writer writer = open(response)) {
+            icsFeedService.writeStudentFeed(studentId, writer);
+        }
+    }
+
+    // 바뀌지 않았으면 DB 접근 없이 304
+    private static boolean notModified(ServletWebRequest webRequest, String etag) {
+        webRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        return webRequest.checkNotModified(etag);
+    }
+
+    // 문서를 메모리에 모으지 않고 응답 스트림에 바로 씀
+    private static Writer open(HttpServletResponse response) throws IOException {
+        response.setContentType(TEXT_CALENDAR);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        return new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8));
+    }
+}
@@ -1,5 +1,7 @@
 package com.aslan.academymanagement.controller;
 
+import com.aslan.academymanagement.service.lecture.LectureCalendarService;
+import com.aslan.academymanagement.service.student.StudentCache;
 import com.aslan.academymanagement.service.student.StudentManagementService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationContext;
@@ -18,6 +20,8 @@ public class DebugController {
 
     private final ApplicationContext context;
     private final StudentManagementService studentManagementService;
+    private final StudentCache studentCache;
+    private final LectureCalendarService lectureCalendarService;
 
     @GetMapping("/beans")
     public ResponseEntity<Map<String, Object>> getBeans() {
@@ -43,4 +47,14 @@ public class DebugController {
 
         return ResponseEntity.ok(result);
     }
+
+    @GetMapping("/cache/students")
+    public ResponseEntity<Map<String, Object>> getStudentCacheStats() {
+        return ResponseEntity.ok(studentCache.getStats());
+    }
+
+    @GetMapping("/cache/calendar")
+    public ResponseEntity<Map<String, Object>> getCalendarCacheStats() {
+        return ResponseEntity.ok(lectureCalendarService.getStats());
+    }
 }
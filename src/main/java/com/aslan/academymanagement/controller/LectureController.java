@@ -1,21 +1,42 @@
 package com.aslan.academymanagement.controller;
 
 import com.aslan.academymanagement.domain.Member;
-import com.aslan.academymanagement.dto.LectureEventDto;
+import com.aslan.academymanagement.dto.CursorPage;
+import com.aslan.academymanagement.dto.FreeSlotResponse;
 import com.aslan.academymanagement.dto.LectureRequest;
 import com.aslan.academymanagement.dto.LectureResponse;
+import com.aslan.academymanagement.dto.LectureSearchCondition;
+import com.aslan.academymanagement.dto.LectureSessionResponse;
+import com.aslan.academymanagement.dto.SessionAttendanceEntry;
 import com.aslan.academymanagement.repository.MemberRepository;
+import com.aslan.academymanagement.service.lecture.FreeSlotService;
+import com.aslan.academymanagement.service.lecture.IcsFeedService;
+import com.aslan.academymanagement.service.lecture.LectureCalendarService;
 import com.aslan.academymanagement.service.lecture.LectureService;
+import com.aslan.academymanagement.service.lecture.LectureSessionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @RestController
@@ -25,6 +46,10 @@ import java.util.List;
 public class LectureController {
 
     private final LectureService lectureService;
+    private final LectureCalendarService lectureCalendarService;
+    private final IcsFeedService icsFeedService;
+    private final FreeSlotService freeSlotService;
+    private final LectureSessionService lectureSessionService;
     private final MemberRepository memberRepository; // 임시로 Repository 직접 사용 (추후 Service로 이동 권장)
 
     @PostMapping
@@ -75,6 +100,89 @@ public class LectureController {
         return ResponseEntity.ok(lectures);
     }
 
+    @GetMapping("/catalog")
+    @Operation(summary = "강의 카탈로그 조회",
+            description = "과목/강의 유형/강사/요일로 필터링한 강의 목록을 커서 방식으로 페이지 조회합니다. (size 최대 100)")
+    public ResponseEntity<CursorPage<LectureResponse>> retrieveCatalog(
+            @ModelAttribute LectureSearchCondition condition,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(lectureService.retrieveCatalog(condition, cursor, size));
+    }
+
+    @GetMapping("/free-slots")
+    @Operation(summary = "공통 빈 시간 조회",
+            description = "로그인한 강사와 지정한 학생(id)이 모두 비어 있는 주간 시간대를 from ~ to 범위에서 minMinutes 이상인 것만 반환합니다. "
+                    + "(담당 강의의 수강생만 지정 가능)")
+    public ResponseEntity<List<FreeSlotResponse>> findFreeSlots(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(required = false) List<Long> studentIds,
+            @RequestParam(defaultValue = "60") int minMinutes,
+            @RequestParam(defaultValue = "09:00") @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime from,
+            @RequestParam(defaultValue = "22:00") @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime to) {
+        return ResponseEntity.ok(freeSlotService.findForTeacher(getTeacher(userDetails),
+                studentIds != null ? studentIds : List.of(), minMinutes, from, to));
+    }
+
+    @GetMapping("/{lectureId}/free-slots")
+    @Operation(summary = "보강 가능 시간 조회",
+            description = "강의 담당 강사와 수강생 전원이 비어 있는 주간 시간대를 반환합니다. (강의 담당 강사만 조회 가능)")
+    public ResponseEntity<List<FreeSlotResponse>> findFreeSlotsForLecture(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long lectureId,
+            @RequestParam(defaultValue = "60") int minMinutes,
+            @RequestParam(defaultValue = "09:00") @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime from,
+            @RequestParam(defaultValue = "22:00") @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime to) {
+
+        if (userDetails == null) {
+            throw new IllegalArgumentException("로그인이 필요합니다.");
+        }
+        Member teacher = memberRepository.findByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new IllegalArgumentException("해당 사용자가 없습니다."));
+        return ResponseEntity.ok(freeSlotService.findForLecture(teacher, lectureId, minMinutes, from, to));
+    }
+
+    @PostMapping("/sessions")
+    @Operation(summary = "학기 회차 일괄 생성",
+            description = "로그인한 강사의 모든 강의 스케줄을 from ~ to 기간(양 끝 포함, 최대 366일)의 회차로 생성합니다. "
+                    + "휴일과 이미 생성된 회차는 건너뜁니다.")
+    public ResponseEntity<Map<String, Integer>> generateSessions(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        int created = lectureSessionService.generateForTeacher(getTeacher(userDetails), from, to);
+        return ResponseEntity.ok(Map.of("created", created));
+    }
+
+    @PostMapping("/{lectureId}/sessions")
+    @Operation(summary = "강의 회차 생성",
+            description = "강의 스케줄을 from ~ to 기간의 회차로 생성합니다. 휴일과 이미 생성된 회차는 건너뜁니다. (강의 담당 강사만 가능)")
+    public ResponseEntity<Map<String, Integer>> generateLectureSessions(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long lectureId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        int created = lectureSessionService.generate(getTeacher(userDetails), lectureId, from, to);
+        return ResponseEntity.ok(Map.of("created", created));
+    }
+
+    @GetMapping("/sessions")
+    @Operation(summary = "날짜별 수업 조회", description = "로그인한 강사의 해당 날짜 수업 회차를 시작 시각 순으로 반환합니다. 날짜를 지정하지 않으면 오늘입니다.")
+    public ResponseEntity<List<LectureSessionResponse>> getSessions(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        Member teacher = getTeacher(userDetails);
+        return ResponseEntity.ok(lectureSessionService.getSessions(teacher.getId(), date != null ? date : LocalDate.now()));
+    }
+
+    @GetMapping("/sessions/{sessionId}/attendance")
+    @Operation(summary = "회차 출석 명단 조회", description = "해당 회차에 출석한 학생 목록을 출석 시각 순으로 반환합니다. (강의 담당 강사만 조회 가능)")
+    public ResponseEntity<List<SessionAttendanceEntry>> getSessionAttendance(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long sessionId) {
+        return ResponseEntity.ok(lectureSessionService.getAttendance(getTeacher(userDetails), sessionId));
+    }
+
     @GetMapping("/{lectureId}")
     @Operation(summary = "강의 조회", description = "특정 id에 해당하는 강의 정보를 조회합니다.")
     public ResponseEntity<LectureResponse> retrieveLecture(@PathVariable Long lectureId) {
@@ -82,11 +190,62 @@ public class LectureController {
         return ResponseEntity.ok(response);
     }
 
-    // FullCalendar용 이벤트 조회 API 추가
+    // FullCalendar용 이벤트 조회 API
     @GetMapping("/events")
-    @Operation(summary = "달력용 강의 이벤트 조회", description = "FullCalendar에 표시할 강의 스케줄 데이터를 반환합니다.")
-    public ResponseEntity<List<LectureEventDto>> getLectureEvents() {
-        List<LectureEventDto> events = lectureService.getLectureEvents();
-        return ResponseEntity.ok(events);
+    @Operation(summary = "달력용 강의 이벤트 조회",
+            description = "로그인한 강사의 강의 스케줄을 from ~ to 기간(양 끝 포함, 최대 366일)의 회차로 전개해 반환합니다. "
+                    + "기간을 지정하지 않으면 이번 주를 반환합니다. If-None-Match가 현재 ETag와 같으면 304를 반환합니다.")
+    public void getLectureEvents(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            ServletWebRequest webRequest) throws IOException {
+
+        if (userDetails == null) {
+            throw new IllegalArgumentException("로그인이 필요합니다.");
+        }
+        Long teacherId = lectureCalendarService.resolveTeacherId(userDetails.getUsername());
+
+        LocalDate monday = LocalDate.now().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        LocalDate start = from != null ? from : monday;
+        LocalDate end = to != null ? to : start.plusDays(6);
+
+        // 바뀌지 않았으면 DB/계산 없이 304
+        HttpServletResponse response = webRequest.getResponse();
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        if (webRequest.checkNotModified(lectureCalendarService.getEtag(teacherId, start, end))) {
+            lectureCalendarService.recordNotModified();
+            return;
+        }
+
+        // 회차 목록을 메모리에 모으지 않고 응답 스트림에 바로 씀
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        lectureCalendarService.writeEvents(teacherId, start, end, response.getOutputStream());
+    }
+
+    @GetMapping("/calendar-feed")
+    @Operation(summary = "내 강의 캘린더 구독 주소", description = "휴대폰 캘린더 앱에 등록할 .ics 구독 주소를 반환합니다.")
+    public ResponseEntity<Map<String, String>> getCalendarFeed(
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        if (userDetails == null) {
+            throw new IllegalArgumentException("로그인이 필요합니다.");
+        }
+        Long teacherId = lectureCalendarService.resolveTeacherId(userDetails.getUsername());
+        String url = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/calendar/teachers/{teacherId}.ics")
+                .queryParam("token", icsFeedService.teacherToken(teacherId))
+                .buildAndExpand(teacherId)
+                .toUriString();
+        return ResponseEntity.ok(Map.of("url", url));
+    }
+
+    private Member getTeacher(UserDetails userDetails) {
+        if (userDetails == null) {
+            throw new IllegalArgumentException("로그인이 필요합니다.");
+        }
+        return memberRepository.findByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new IllegalArgumentException("해당 사용자가 없습니다."));
     }
 }
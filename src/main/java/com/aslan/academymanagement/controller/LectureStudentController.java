@@ -1,11 +1,20 @@
 package com.aslan.academymanagement.controller;
 
 import com.aslan.academymanagement.domain.Member;
+import com.aslan.academymanagement.dto.AttendanceBulkRequest;
+import com.aslan.academymanagement.dto.AttendanceResult;
+import com.aslan.academymanagement.dto.CursorPage;
+import com.aslan.academymanagement.dto.EnrollmentBulkRequest;
+import com.aslan.academymanagement.dto.EnrollmentResult;
+import com.aslan.academymanagement.dto.LectureResponse;
+import com.aslan.academymanagement.dto.RosterSort;
 import com.aslan.academymanagement.dto.StudentResponse;
 import com.aslan.academymanagement.repository.MemberRepository;
 import com.aslan.academymanagement.service.lecture.LectureStudentService;
+import com.aslan.academymanagement.service.student.StudentManagementService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -21,6 +30,7 @@ import java.util.List;
 public class LectureStudentController {
 
     private final LectureStudentService lectureStudentService;
+    private final StudentManagementService studentManagementService;
     private final MemberRepository memberRepository;
 
     @PostMapping("/{lectureId}/students/{studentId}")
@@ -47,15 +57,95 @@ public class LectureStudentController {
         return ResponseEntity.ok().build();
     }
 
-    @GetMapping("/{lectureId}/students")
-    @Operation(summary = "강의 수강생 목록 조회", description = "특정 강의를 수강하는 학생 목록을 조회합니다.")
-    public ResponseEntity<List<StudentResponse>> getStudentsByLecture(
+    @PostMapping("/{lectureId}/students")
+    @Operation(summary = "강의에 학생 일괄 등록",
+            description = "여러 학생(id 목록, 최대 500명)을 한 번에 등록하고 학생별 결과를 반환합니다. 정원이 모자라면 요청 순서상 뒤쪽 학생이 제외됩니다.")
+    public ResponseEntity<List<EnrollmentResult>> registerStudents(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long lectureId,
+            @Valid @RequestBody EnrollmentBulkRequest request) {
+
+        Member teacher = getMember(userDetails);
+        return ResponseEntity.ok(lectureStudentService.registerStudents(teacher, lectureId, request.getStudentIds()));
+    }
+
+    @DeleteMapping("/{lectureId}/students")
+    @Operation(summary = "강의에서 학생 일괄 제외", description = "여러 학생(id 목록, 최대 500명)의 등록을 한 번에 취소하고 학생별 결과를 반환합니다.")
+    public ResponseEntity<List<EnrollmentResult>> removeStudents(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long lectureId,
+            @Valid @RequestBody EnrollmentBulkRequest request) {
+
+        Member teacher = getMember(userDetails);
+        return ResponseEntity.ok(lectureStudentService.removeStudents(teacher, lectureId, request.getStudentIds()));
+    }
+
+    @PostMapping("/{lectureId}/waitlist/{studentId}")
+    @Operation(summary = "수강 대기 등록",
+            description = "정원이 찬 강의의 대기열 맨 뒤에 학생을 등록합니다. 대기자가 없고 자리가 남아 있으면 바로 수강 등록됩니다. "
+                    + "수강 취소로 자리가 나면 대기 순서대로 자동 등록되고 학부모에게 알림이 갑니다.")
+    public ResponseEntity<EnrollmentResult> joinWaitlist(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long lectureId,
+            @PathVariable Long studentId) {
+
+        Member teacher = getMember(userDetails);
+        return ResponseEntity.ok(lectureStudentService.joinWaitlist(teacher, lectureId, studentId));
+    }
+
+    @DeleteMapping("/{lectureId}/waitlist/{studentId}")
+    @Operation(summary = "수강 대기 취소", description = "대기열에서 학생을 제외합니다.")
+    public ResponseEntity<Void> leaveWaitlist(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long lectureId,
+            @PathVariable Long studentId) {
+
+        Member teacher = getMember(userDetails);
+        lectureStudentService.leaveWaitlist(teacher, lectureId, studentId);
+        return ResponseEntity.ok().build();
+    }
+
+    @GetMapping("/{lectureId}/waitlist")
+    @Operation(summary = "수강 대기열 조회", description = "대기 순서대로 학생 id 목록을 반환합니다.")
+    public ResponseEntity<List<Long>> getWaitlist(
             @AuthenticationPrincipal UserDetails userDetails,
             @PathVariable Long lectureId) {
 
         Member teacher = getMember(userDetails);
-        List<StudentResponse> students = lectureStudentService.getStudentsByLecture(teacher, lectureId);
-        return ResponseEntity.ok(students);
+        return ResponseEntity.ok(lectureStudentService.getWaitlist(teacher, lectureId));
+    }
+
+    @GetMapping("/{lectureId}/students")
+    @Operation(summary = "강의 수강생 목록 조회",
+            description = "특정 강의를 수강하는 학생 목록을 이름순(NAME) 또는 학생 번호순(STUDENT_ID)으로 커서 방식 페이지 조회합니다. (size 최대 100)")
+    public ResponseEntity<CursorPage<StudentResponse>> getStudentsByLecture(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long lectureId,
+            @RequestParam(defaultValue = "NAME") RosterSort sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        Member teacher = getMember(userDetails);
+        return ResponseEntity.ok(lectureStudentService.getStudentsByLecture(teacher, lectureId, sort, cursor, size));
+    }
+
+    @GetMapping("/students/{studentId}/lectures")
+    @Operation(summary = "학생의 수강 강의 목록 조회", description = "학생이 수강 중인 강의를 스케줄, 수강생 수와 함께 반환합니다.")
+    public ResponseEntity<List<LectureResponse>> getLecturesByStudent(@PathVariable Long studentId) {
+        return ResponseEntity.ok(lectureStudentService.getLecturesByStudent(studentId));
+    }
+
+    @PostMapping("/{lectureId}/attendance")
+    @Operation(summary = "강의 일괄 출석 체크", description = "강의 수강생들의 출석을 한 번에 처리하고 학생별 결과를 반환합니다.")
+    public ResponseEntity<List<AttendanceResult>> checkAttendances(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable Long lectureId,
+            @Valid @RequestBody AttendanceBulkRequest request) {
+
+        Member teacher = getMember(userDetails);
+        lectureStudentService.verifyLectureOwner(teacher, lectureId);
+        List<AttendanceResult> results = studentManagementService.checkAttendances(lectureId, request.getStudentIds());
+        return ResponseEntity.ok(results);
     }
 
     private Member getMember(UserDetails userDetails) {
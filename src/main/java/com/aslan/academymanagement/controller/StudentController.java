@@ -1,16 +1,44 @@
 package com.aslan.academymanagement.controller;
 
 import com.aslan.academymanagement.domain.Student;
+import com.aslan.academymanagement.dto.AttendanceSummaryResponse;
+import com.aslan.academymanagement.dto.CursorPage;
+import com.aslan.academymanagement.dto.ScoreStatsResponse;
+import com.aslan.academymanagement.dto.StudentImportResponse;
+import com.aslan.academymanagement.dto.StudentRankResponse;
 import com.aslan.academymanagement.dto.StudentRequest;
 import com.aslan.academymanagement.dto.StudentResponse;
+import com.aslan.academymanagement.dto.StudentSearchCondition;
+import com.aslan.academymanagement.dto.StudentSuggestion;
+import com.aslan.academymanagement.dto.TimetableResponse;
+import com.aslan.academymanagement.service.attendance.AttendanceLogService;
+import com.aslan.academymanagement.service.lecture.IcsFeedService;
+import com.aslan.academymanagement.service.lecture.LectureCalendarService;
+import com.aslan.academymanagement.service.lecture.StudentTimetableService;
+import com.aslan.academymanagement.service.ranking.StudentLeaderboard;
+import com.aslan.academymanagement.service.score.ScoreStatsService;
+import com.aslan.academymanagement.service.search.StudentNameIndex;
+import com.aslan.academymanagement.service.student.StudentImportService;
 import com.aslan.academymanagement.service.student.StudentManagementService;
+import com.aslan.academymanagement.service.student.StudentQueryService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 학생 관리 REST API 컨트롤러
@@ -47,9 +75,20 @@ import java.util.List;
 @RequiredArgsConstructor
 public class StudentController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     // 인터페이스 타입으로 선언 - DI의 핵심!
     // 실제 주입되는 객체는 활성화된 Profile에 따라 달라집니다.
     private final StudentManagementService studentManagementService;
+    private final AttendanceLogService attendanceLogService;
+    private final ScoreStatsService scoreStatsService;
+    private final StudentLeaderboard studentLeaderboard;
+    private final StudentQueryService studentQueryService;
+    private final StudentNameIndex studentNameIndex;
+    private final StudentImportService studentImportService;
+    private final IcsFeedService icsFeedService;
+    private final LectureCalendarService lectureCalendarService;
+    private final StudentTimetableService studentTimetableService;
 
     @PostMapping
     public ResponseEntity<StudentResponse> registerStudent(
@@ -59,6 +98,46 @@ public class StudentController {
         return ResponseEntity.ok(StudentResponse.from(student));
     }
 
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson", "application/jsonl"})
+    public ResponseEntity<StudentImportResponse> importStudents(
+            HttpServletRequest request
+    ) throws IOException {
+        // 본문을 통째로 읽지 않고 스트림에서 한 줄씩 처리
+        return ResponseEntity.ok(studentImportService.importStudents(
+                request.getInputStream(), StudentImportService.Format.from(request.getContentType())));
+    }
+
+    @GetMapping
+    public ResponseEntity<CursorPage<StudentResponse>> getStudents(
+            @ModelAttribute StudentSearchCondition condition,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(studentQueryService.getStudents(condition, cursor, size));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<StudentSuggestion>> searchStudents(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit는 1~" + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        return ResponseEntity.ok(studentNameIndex.search(q, limit));
+    }
+
+    @GetMapping("/export")
+    public void exportStudents(
+            @ModelAttribute StudentSearchCondition condition,
+            HttpServletResponse response
+    ) throws IOException {
+        // 전체 목록을 메모리에 만들지 않고 응답 스트림에 바로 씀
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        studentQueryService.exportStudents(condition, response.getOutputStream());
+    }
+
     @GetMapping("/{studentId}")
     public ResponseEntity<StudentResponse> getStudent(
             @PathVariable String studentId
@@ -67,6 +146,32 @@ public class StudentController {
         return ResponseEntity.ok(StudentResponse.from(student));
     }
 
+    @GetMapping("/{studentId}/timetable")
+    public ResponseEntity<TimetableResponse> getTimetable(
+            @PathVariable String studentId
+    ) {
+        Student student = studentManagementService.getStudent(studentId);
+        return ResponseEntity.ok(studentTimetableService.getTimetable(student));
+    }
+
+    @GetMapping("/{studentId}/calendar-feed")
+    public ResponseEntity<Map<String, String>> getCalendarFeed(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable String studentId
+    ) {
+        // 학생이 듣는 강의의 담당 강사만 발급 (없는 학생이면 예외)
+        return calendarFeed(studentId, icsFeedService.issueStudentToken(resolveTeacherId(userDetails), studentId));
+    }
+
+    @PostMapping("/{studentId}/calendar-feed/rotate")
+    public ResponseEntity<Map<String, String>> rotateCalendarFeed(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @PathVariable String studentId
+    ) {
+        // 새 주소를 발급하고 이전 주소는 무효 (주소가 유출됐을 때)
+        return calendarFeed(studentId, icsFeedService.rotateStudentToken(resolveTeacherId(userDetails), studentId));
+    }
+
     @PutMapping("/{studentId}")
     public ResponseEntity<StudentResponse> updateStudent(
             @PathVariable String studentId,
@@ -84,6 +189,19 @@ public class StudentController {
         return ResponseEntity.ok("출석 체크 완료");
     }
 
+    @GetMapping("/{studentId}/attendance")
+    public ResponseEntity<AttendanceSummaryResponse> getAttendanceSummary(
+            @PathVariable String studentId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        // 기간을 지정하지 않으면 이번 달 1일 ~ 오늘
+        LocalDate today = LocalDate.now();
+        LocalDate start = from != null ? from : today.withDayOfMonth(1);
+        LocalDate end = to != null ? to : today;
+        return ResponseEntity.ok(attendanceLogService.getSummary(studentId, start, end));
+    }
+
     @PostMapping("/{studentId}/score")
     public ResponseEntity<String> updateScore(
             @PathVariable String studentId,
@@ -93,9 +211,35 @@ public class StudentController {
         return ResponseEntity.ok("성적 입력 완료");
     }
 
+    @GetMapping("/{studentId}/score/stats")
+    public ResponseEntity<ScoreStatsResponse> getScoreStats(
+            @PathVariable String studentId
+    ) {
+        return ResponseEntity.ok(scoreStatsService.getStats(studentId));
+    }
+
+    @PostMapping("/{studentId}/score/stats/rebuild")
+    public ResponseEntity<ScoreStatsResponse> rebuildScoreStats(
+            @PathVariable String studentId
+    ) {
+        return ResponseEntity.ok(scoreStatsService.rebuild(studentId));
+    }
+
+    @PostMapping("/score/stats/rebuild")
+    public ResponseEntity<String> rebuildAllScoreStats() {
+        int rebuilt = scoreStatsService.rebuildAll();
+        return ResponseEntity.ok("성적 집계 재계산 완료: " + rebuilt + "명");
+    }
+
     @GetMapping("/top")
-    public ResponseEntity<List<StudentResponse>> getTopStudents() {
-        List<Student> students = studentManagementService.getTopStudents();
+    public ResponseEntity<List<StudentResponse>> getTopStudents(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("page는 0 이상, size는 1~" + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        List<Student> students = studentManagementService.getTopStudents(page, size);
         List<StudentResponse> responses = students.stream()
                 .map(StudentResponse::from)
                 .toList();
@@ -103,10 +247,35 @@ public class StudentController {
         return ResponseEntity.ok(responses);
     }
 
+    @GetMapping("/{studentId}/rank")
+    public ResponseEntity<StudentRankResponse> getRank(
+            @PathVariable String studentId
+    ) {
+        StudentRankResponse rank = studentLeaderboard.getRank(studentId)
+                .orElseThrow(() -> new IllegalArgumentException("학생을 찾을 수 없습니다: " + studentId));
+        return ResponseEntity.ok(rank);
+    }
+
     @GetMapping("/division")
     public ResponseEntity<String> getDivisionType() {
         return ResponseEntity.ok(
                 "현재 부서: " + studentManagementService.getDivisionType()
         );
     }
+
+    private static ResponseEntity<Map<String, String>> calendarFeed(String studentId, String token) {
+        String url = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/calendar/students/{studentId}.ics")
+                .queryParam("token", token)
+                .buildAndExpand(studentId)
+                .toUriString();
+        return ResponseEntity.ok(Map.of("url", url));
+    }
+
+    private Long resolveTeacherId(UserDetails userDetails) {
+        if (userDetails == null) {
+            throw new IllegalArgumentException("로그인이 필요합니다.");
+        }
+        return lectureCalendarService.resolveTeacherId(userDetails.getUsername());
+    }
 }
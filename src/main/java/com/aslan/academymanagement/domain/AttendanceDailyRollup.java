@@ -0,0 +1,41 @@
+package com.aslan.academymanagement.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 학생별/일별 출석 집계
+ * - 출석 이벤트가 쌓일 때마다 같은 트랜잭션에서 check_in_count를 증가시킴
+ * - 출석률 계산은 이벤트 수가 아닌 날짜 수(O(days))에 비례
+ */
+@Entity
+@Table(name = "attendance_daily_rollups",
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        name = "uk_attendance_rollup_student_date",
+                        columnNames = {"student_id", "attendance_date"}
+                )
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AttendanceDailyRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "student_id", nullable = false)
+    private Student student;
+
+    @Column(nullable = false)
+    private LocalDate attendanceDate;
+
+    @Column(nullable = false)
+    private int checkInCount;
+}
@@ -0,0 +1,64 @@
+package com.aslan.academymanagement.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 출석 이벤트 로그 (추가 전용, append-only)
+ * - 출석 한 번마다 한 줄씩 쌓이며 수정/삭제하지 않음
+ * - (student_id, attendance_date) 인덱스는 학생 FK(student_id) 조회용
+ * - session_id 인덱스로 회차별 출석 조회 (강의 회차가 생성된 날의 강의 단위 출석만 값이 있음)
+ * - 통계 조회는 이 테이블을 스캔하지 않고 AttendanceDailyRollup을 사용
+ */
+@Entity
+@Immutable
+@Table(name = "attendance_events",
+        indexes = {
+                @Index(name = "idx_attendance_events_student_date", columnList = "student_id, attendance_date"),
+                @Index(name = "idx_attendance_events_session", columnList = "session_id")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AttendanceEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "student_id", nullable = false)
+    private Student student;
+
+    // 강의 단위 일괄 출석일 때만 값이 있음
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "lecture_id")
+    private Lecture lecture;
+
+    // 출석한 강의 회차 (회차가 생성되어 있을 때만 값이 있음)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "session_id")
+    private LectureSession session;
+
+    @Column(nullable = false)
+    private LocalDate attendanceDate;
+
+    @Column(nullable = false)
+    private LocalDateTime attendedAt;
+
+    @Column(nullable = false)
+    private boolean late;
+
+    @Builder
+    public AttendanceEvent(Student student, Lecture lecture, LocalDateTime attendedAt, boolean late) {
+        this.student = student;
+        this.lecture = lecture;
+        this.attendanceDate = attendedAt.toLocalDate();
+        this.attendedAt = attendedAt;
+        this.late = late;
+    }
+}
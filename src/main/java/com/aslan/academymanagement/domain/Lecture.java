@@ -4,6 +4,7 @@ import com.aslan.academymanagement.domain.enums.LectureType;
 import com.aslan.academymanagement.domain.enums.Subject;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -13,7 +14,14 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "lectures")
+@Table(name = "lectures",
+        indexes = {
+                // 카탈로그 필터 + id 키셋 페이지 조회용
+                @Index(name = "idx_lectures_subject_id", columnList = "subject, id"),
+                @Index(name = "idx_lectures_type_id", columnList = "lecture_type, id"),
+                @Index(name = "idx_lectures_teacher_id", columnList = "teacher_id, id")
+        }
+)
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -36,6 +44,17 @@ public class Lecture {
     @Column(nullable = false)
     private Subject subject;
 
+    // 정원 (null이면 제한 없음)
+    private Integer capacity;
+
+    // 수강생 수 (lecture_students를 세지 않고 바로 조회)
+    // 등록/취소 시 LectureRepository.addEnrolledCount의 UPDATE로만 바뀜 → 엔티티 저장으로 덮어쓰지 않도록 updatable = false
+    @Column(nullable = false, updatable = false)
+    @ColumnDefault("0")
+    @Setter(AccessLevel.NONE)
+    @Builder.Default
+    private int enrolledCount = 0;
+
     // 강사 정보 추가 (N:1 관계)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "teacher_id")
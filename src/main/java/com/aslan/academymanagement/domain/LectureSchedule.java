@@ -7,7 +7,12 @@ import java.time.DayOfWeek;
 import java.time.LocalTime;
 
 @Entity
-@Table(name = "lecture_schedules")
+@Table(name = "lecture_schedules",
+        indexes = {
+                // 카탈로그 요일 필터 (강의별 EXISTS 확인)
+                @Index(name = "idx_lecture_schedules_lecture_day", columnList = "lecture_id, day_of_week")
+        }
+)
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,49 @@
+package com.aslan.academymanagement.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 강의 회차 (주간 스케줄을 학기 기간의 실제 날짜로 펼친 것)
+ * - LectureSessionService가 JDBC 배치 INSERT로 생성 (휴일은 건너뜀)
+ * - (session_date, start_time) 인덱스로 "오늘 수업" 조회
+ * - (lecture_id, session_date, start_time) 유니크 → 같은 기간을 다시 생성해도 중복되지 않음
+ */
+@Entity
+@Table(name = "lecture_sessions",
+        indexes = {
+                @Index(name = "idx_lecture_sessions_date", columnList = "session_date, start_time")
+        },
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        name = "uk_lecture_sessions_lecture_date_time",
+                        columnNames = {"lecture_id", "session_date", "start_time"}
+                )
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LectureSession {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "lecture_id", nullable = false)
+    private Lecture lecture;
+
+    @Column(nullable = false)
+    private LocalDate sessionDate;
+
+    @Column(nullable = false)
+    private LocalTime startTime;
+
+    @Column(nullable = false)
+    private LocalTime endTime;
+}
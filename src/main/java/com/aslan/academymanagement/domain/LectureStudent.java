@@ -9,6 +9,10 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "lecture_students",
+        indexes = {
+                // 학생 → 수강 강의 역방향 조회용 (uk_lecture_student는 lecture_id가 앞이라 못 씀)
+                @Index(name = "idx_lecture_students_student_id", columnList = "student_id, lecture_id")
+        },
         uniqueConstraints = {
                 @UniqueConstraint(
                         name = "uk_lecture_student",
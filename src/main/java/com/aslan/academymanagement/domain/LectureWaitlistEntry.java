@@ -0,0 +1,62 @@
+package com.aslan.academymanagement.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 정원이 찬 강의의 수강 대기
+ * - ticket(번호표) 순서가 곧 대기 순서 (선착순)
+ *   번호표는 메모리 대기열에 줄을 서는 순간 발급 → 동시에 대기 등록해도 커밋 순서와 무관하게 메모리 순서와 같음
+ * - 재시작 시 LectureWaitlist가 (lecture_id, ticket) 순으로 읽어 메모리 대기열을 복원
+ * - 승격되거나 대기를 취소하면 삭제
+ */
+@Entity
+@Table(name = "lecture_waitlist",
+        indexes = {
+                @Index(name = "idx_lecture_waitlist_lecture_id", columnList = "lecture_id, ticket")
+        },
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        name = "uk_lecture_waitlist_lecture_student",
+                        columnNames = {"lecture_id", "student_id"}
+                )
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class LectureWaitlistEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "lecture_id", nullable = false)
+    private Lecture lecture;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "student_id", nullable = false)
+    private Student student;
+
+    @Column(nullable = false)
+    private Long ticket;
+
+    @CreatedDate
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public LectureWaitlistEntry(Lecture lecture, Student student, Long ticket) {
+        this.lecture = lecture;
+        this.student = student;
+        this.ticket = ticket;
+    }
+}
@@ -0,0 +1,47 @@
+package com.aslan.academymanagement.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 성적 입력 이력 (추가 전용)
+ * - StudentScoreStats 집계를 다시 계산(replay)할 때의 원본 데이터
+ */
+@Entity
+@Immutable
+@Table(name = "score_records",
+        indexes = {
+                @Index(name = "idx_score_records_student", columnList = "student_id, id")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ScoreRecord {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "student_id", nullable = false)
+    private Student student;
+
+    @Column(nullable = false)
+    private Double score;
+
+    @Column(nullable = false)
+    private LocalDateTime recordedAt;
+
+    @Builder
+    public ScoreRecord(Student student, Double score, LocalDateTime recordedAt) {
+        this.student = student;
+        this.score = score;
+        this.recordedAt = recordedAt;
+    }
+}
@@ -4,6 +4,7 @@ import com.aslan.academymanagement.domain.enums.Division;
 import com.aslan.academymanagement.domain.enums.Grade;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -12,7 +13,17 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "students")
+@Table(name = "students",
+        indexes = {
+                // 필터 + id 키셋 페이지 조회용
+                @Index(name = "idx_students_division_id", columnList = "division, id"),
+                @Index(name = "idx_students_grade_id", columnList = "grade, id")
+        },
+        uniqueConstraints = {
+                // 중복 등록 예외를 이 제약 위반일 때만 "이미 존재하는 학생 번호"로 바꾸기 위해 이름을 고정
+                @UniqueConstraint(name = Student.STUDENT_ID_CONSTRAINT, columnNames = "student_id")
+        }
+)
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -20,11 +31,13 @@ import java.time.LocalDateTime;
 @EntityListeners(AuditingEntityListener.class) // 이거는 왜 필요하고 이거는 역할이 뭐임?
 public class Student {
 
+    public static final String STUDENT_ID_CONSTRAINT = "uk_students_student_id";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String studentId;
 
     @Column(nullable = false)
@@ -47,15 +60,29 @@ public class Student {
     @Column(nullable = false)
     private Division division;
 
-    @Column
+    // 출석/성적 카운터는 DB UPDATE로만 증가 → 엔티티 저장(정보 수정)이 읽어 둔 옛 값으로 덮어쓰지 않도록 제외
+    @Column(updatable = false)
     private Integer attendanceCount;
 
-    @Column
+    @Column(updatable = false)
     private Double averageScore;
 
     @Column(columnDefinition = "TEXT")
     private String specialNotes;
 
+    // 캘린더 구독 토큰 세대 (재발급하면 1 증가 → 이전 구독 주소는 무효)
+    // 구독 재발급 UPDATE로만 바꾸고 엔티티 저장에는 포함하지 않음
+    @Column(nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Integer calendarFeedRotation = 0;
+
+    // 변경 순번 (엔티티 저장과 카운터 UPDATE마다 1씩 증가, 커밋 후 이벤트의 선후 판단용)
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Long version;
+
     @CreatedDate
     @Column(updatable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,76 @@
+package com.aslan.academymanagement.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 학생별 성적 집계 (성적 입력 시 같은 트랜잭션에서 증분 갱신)
+ *
+ * 합계만 저장해 두면 평균/표준편차/추세를 O(1)로 계산할 수 있음
+ * - 평균 = sum / n
+ * - 분산 = sumOfSquares / n - 평균²
+ * - 추세 = 입력 순번(i)에 대한 점수의 회귀 기울기 (indexedScoreSum = Σ i·score)
+ */
+@Entity
+@Table(name = "student_score_stats")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StudentScoreStats {
+
+    @Id
+    @Column(name = "student_id")
+    private Long studentId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "student_id")
+    private Student student;
+
+    @Column(nullable = false)
+    private long scoreCount;
+
+    @Column(nullable = false)
+    private double scoreSum;
+
+    @Column(nullable = false)
+    private double scoreSumOfSquares;
+
+    @Column(nullable = false)
+    private double minScore;
+
+    @Column(nullable = false)
+    private double maxScore;
+
+    @Column(nullable = false)
+    private double indexedScoreSum;
+
+    private LocalDateTime updatedAt;
+
+    public double getAverage() {
+        return scoreCount == 0 ? 0.0 : scoreSum / scoreCount;
+    }
+
+    public double getStandardDeviation() {
+        if (scoreCount == 0) {
+            return 0.0;
+        }
+        double average = getAverage();
+        double variance = scoreSumOfSquares / scoreCount - average * average;
+        return Math.sqrt(Math.max(variance, 0.0)); // 부동소수점 오차로 음수가 되는 경우 방지
+    }
+
+    // 입력 순번 1..n에 대한 최소제곱 회귀 기울기 (양수면 상승 추세)
+    public double getTrend() {
+        if (scoreCount < 2) {
+            return 0.0;
+        }
+        double n = scoreCount;
+        double sumIndex = n * (n + 1) / 2;
+        double sumIndexSquares = n * (n + 1) * (2 * n + 1) / 6;
+        return (n * indexedScoreSum - sumIndex * scoreSum) / (n * sumIndexSquares - sumIndex * sumIndex);
+    }
+}
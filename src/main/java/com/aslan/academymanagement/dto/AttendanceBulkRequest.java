@@ -0,0 +1,19 @@
+package com.aslan.academymanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceBulkRequest {
+
+    @Schema(description = "출석 처리할 학생 번호 목록", example = "[\"ES001\", \"ES002\"]")
+    @NotEmpty(message = "학생 번호 목록은 필수입니다")
+    private List<String> studentIds;
+}
@@ -0,0 +1,47 @@
+package com.aslan.academymanagement.dto;
+
+import com.aslan.academymanagement.repository.StudentCounterView;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AttendanceResult {
+
+    public enum Status {
+        ATTENDED,     // 출석 처리 완료
+        NOT_ENROLLED  // 해당 강의 수강생이 아님 (존재하지 않거나 현재 부서의 학생이 아닌 경우 포함)
+    }
+
+    private String studentId;
+    private Status status;
+    private Integer attendanceCount;
+    private String message;
+
+    public static AttendanceResult attended(StudentCounterView student) {
+        return AttendanceResult.builder()
+                .studentId(student.getStudentId())
+                .status(Status.ATTENDED)
+                .attendanceCount(student.getAttendanceCount())
+                .message("출석 체크 완료")
+                .build();
+    }
+
+    public static AttendanceResult notEnrolled(String studentId) {
+        return AttendanceResult.builder()
+                .studentId(studentId)
+                .status(Status.NOT_ENROLLED)
+                .message("해당 강의의 수강생이 아닙니다.")
+                .build();
+    }
+
+    public static long countAttended(List<AttendanceResult> results) {
+        return results.stream().filter(result -> result.getStatus() == Status.ATTENDED).count();
+    }
+}
@@ -0,0 +1,34 @@
+package com.aslan.academymanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AttendanceSummaryResponse {
+    private String studentId;
+    private LocalDate from;
+    private LocalDate to;
+
+    @Schema(description = "기간 내 수업일 수")
+    private int classDays;
+
+    @Schema(description = "출석한 날짜 수")
+    private int attendedDays;
+
+    @Schema(description = "기간 내 전체 출석 체크 횟수")
+    private int checkInCount;
+
+    @Schema(description = "출석률 (%) = 수업일 중 출석한 날 / 수업일")
+    private double attendanceRate;
+
+    private List<LocalDate> attendedDates;
+}
@@ -0,0 +1,106 @@
+package com.aslan.academymanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋(seek) 방식 페이지 응답
+ * - nextCursor를 다음 요청의 cursor 파라미터로 그대로 넘기면 다음 페이지를 조회
+ * - 커서는 마지막 항목의 id를 인코딩한 불투명(opaque) 문자열
+ *   id가 아닌 컬럼으로 정렬한 목록은 (정렬 키, id)를 함께 인코딩 (Key)
+ */
+@Getter
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    private static final String PREFIX = "id:";
+    private static final String KEY_PREFIX = "key:";
+
+    /**
+     * 정렬 키 + id 커서 (정렬 키가 같으면 id로 순서를 정함)
+     */
+    public record Key(String value, long id) {
+        public static final Key FIRST = new Key("", 0L);
+    }
+
+    private List<T> items;
+
+    @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)")
+    private String nextCursor;
+
+    private boolean hasNext;
+
+    /**
+     * size + 1개를 조회한 결과로 페이지를 만듦 (초과분이 있으면 다음 페이지 존재)
+     */
+    public static <T> CursorPage<T> of(List<T> fetched, int size, Function<T, Long> idExtractor) {
+        boolean hasNext = fetched.size() > size;
+        List<T> items = hasNext ? fetched.subList(0, size) : fetched;
+        String nextCursor = hasNext ? encode(idExtractor.apply(items.get(items.size() - 1))) : null;
+        return new CursorPage<>(items, nextCursor, hasNext);
+    }
+
+    /**
+     * 정렬 키 커서로 페이지를 만듦 (size + 1개를 조회한 결과)
+     */
+    public static <T> CursorPage<T> ofKeys(List<T> fetched, int size, Function<T, Key> keyExtractor) {
+        boolean hasNext = fetched.size() > size;
+        List<T> items = hasNext ? fetched.subList(0, size) : fetched;
+        String nextCursor = hasNext ? encode(keyExtractor.apply(items.get(items.size() - 1))) : null;
+        return new CursorPage<>(items, nextCursor, hasNext);
+    }
+
+    public static String encode(Key key) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((KEY_PREFIX + key.id() + ":" + key.value()).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서를 정렬 키로 변환 (커서가 없으면 Key.FIRST = 처음부터)
+     */
+    public static Key decodeKey(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return Key.FIRST;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(':', KEY_PREFIX.length());
+            if (!decoded.startsWith(KEY_PREFIX) || separator < 0) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return new Key(decoded.substring(separator + 1),
+                    Long.parseLong(decoded.substring(KEY_PREFIX.length(), separator)));
+        } catch (IllegalArgumentException e) { // NumberFormatException 포함
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    public static String encode(Long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서를 id로 변환 (커서가 없으면 0 = 처음부터)
+     */
+    public static long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(PREFIX)) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return Long.parseLong(decoded.substring(PREFIX.length()));
+        } catch (IllegalArgumentException e) { // NumberFormatException 포함
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.aslan.academymanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EnrollmentBulkRequest {
+
+    public static final int MAX_STUDENTS = 500;
+
+    @Schema(description = "등록/취소할 학생 id 목록 (최대 500명)", example = "[1, 2, 3]")
+    @NotEmpty(message = "학생 id 목록은 필수입니다")
+    @Size(max = MAX_STUDENTS, message = "한 번에 최대 500명까지 처리할 수 있습니다")
+    private List<@NotNull Long> studentIds;
+}
@@ -0,0 +1,68 @@
+package com.aslan.academymanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EnrollmentResult {
+
+    public enum Status {
+        ENROLLED,         // 수강 등록 완료
+        WAITLISTED,       // 정원 마감으로 대기 등록
+        REMOVED,          // 수강 취소 완료
+        ALREADY_ENROLLED, // 이미 수강 중
+        NOT_ENROLLED,     // 해당 강의 수강생이 아님 (취소 시, 존재하지 않는 학생 포함)
+        NOT_FOUND,        // 존재하지 않는 학생 (등록 시)
+        CAPACITY_FULL,    // 정원 마감
+        CONFLICT          // 다른 수강 강의와 시간이 겹침 등
+    }
+
+    private Long studentId;
+    private Status status;
+    private String message;
+
+    public static EnrollmentResult of(Long studentId, Status status, String message) {
+        return EnrollmentResult.builder()
+                .studentId(studentId)
+                .status(status)
+                .message(message)
+                .build();
+    }
+
+    public static EnrollmentResult enrolled(Long studentId) {
+        return of(studentId, Status.ENROLLED, "수강 등록 완료");
+    }
+
+    public static EnrollmentResult waitlisted(Long studentId, int position) {
+        return of(studentId, Status.WAITLISTED, "대기 " + position + "번으로 등록되었습니다.");
+    }
+
+    public static EnrollmentResult removed(Long studentId) {
+        return of(studentId, Status.REMOVED, "수강 취소 완료");
+    }
+
+    public static EnrollmentResult alreadyEnrolled(Long studentId) {
+        return of(studentId, Status.ALREADY_ENROLLED, "이미 등록된 학생입니다.");
+    }
+
+    public static EnrollmentResult notEnrolled(Long studentId) {
+        return of(studentId, Status.NOT_ENROLLED, "해당 강의에 등록되지 않은 학생입니다.");
+    }
+
+    public static EnrollmentResult notFound(Long studentId) {
+        return of(studentId, Status.NOT_FOUND, "해당 학생이 없습니다.");
+    }
+
+    public static EnrollmentResult capacityFull(Long studentId, int capacity) {
+        return of(studentId, Status.CAPACITY_FULL, "정원이 마감되었습니다. (정원 " + capacity + "명)");
+    }
+
+    public static EnrollmentResult conflict(Long studentId, String reason) {
+        return of(studentId, Status.CONFLICT, reason);
+    }
+}
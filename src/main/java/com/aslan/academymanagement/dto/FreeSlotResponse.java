@@ -0,0 +1,14 @@
+package com.aslan.academymanagement.dto;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+/**
+ * 모든 참여자가 비어 있는 시간 (주간 반복 기준, [startTime, endTime))
+ */
+public record FreeSlotResponse(
+        DayOfWeek dayOfWeek,
+        LocalTime startTime,
+        LocalTime endTime
+) {
+}
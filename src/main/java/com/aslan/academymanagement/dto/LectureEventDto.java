@@ -1,18 +1,12 @@
 package com.aslan.academymanagement.dto;
 
-import com.aslan.academymanagement.domain.Lecture;
-import com.aslan.academymanagement.domain.LectureSchedule;
+import com.aslan.academymanagement.domain.enums.Subject;
 import lombok.Builder;
 import lombok.Getter;
 
-import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
-import java.time.temporal.TemporalAdjusters;
-import java.util.ArrayList;
-import java.util.List;
 
 @Getter
 @Builder
@@ -22,30 +16,15 @@ public class LectureEventDto {
     private String end;
     private String color; // 과목별 색상
 
-    // 강의와 스케줄을 받아서 이번 주(This Week)의 이벤트 리스트로 변환하는 메서드
-    public static List<LectureEventDto> from(Lecture lecture) {
-        List<LectureEventDto> events = new ArrayList<>();
-        
-        // 이번 주 월요일 날짜 구하기 (기준점)
-        LocalDate today = LocalDate.now();
-        LocalDate monday = today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
-
-        for (LectureSchedule schedule : lecture.getSchedules()) {
-            // 해당 요일의 날짜 계산
-            LocalDate targetDate = monday.with(TemporalAdjusters.nextOrSame(schedule.getDayOfWeek()));
-            
-            // 날짜 + 시간 합치기
-            LocalDateTime startDateTime = LocalDateTime.of(targetDate, schedule.getStartTime());
-            LocalDateTime endDateTime = LocalDateTime.of(targetDate, schedule.getEndTime());
-
-            events.add(LectureEventDto.builder()
-                    .title(lecture.getTitle())
-                    .start(startDateTime.toString())
-                    .end(endDateTime.toString())
-                    .color(getColorBySubject(lecture.getSubject().name()))
-                    .build());
-        }
-        return events;
+    // 특정 날짜의 강의 한 회차
+    public static LectureEventDto of(String title, Subject subject, LocalDate date, LocalTime startTime, LocalTime endTime) {
+        // 날짜 + 시간 합치기
+        return LectureEventDto.builder()
+                .title(title)
+                .start(LocalDateTime.of(date, startTime).toString())
+                .end(LocalDateTime.of(date, endTime).toString())
+                .color(getColorBySubject(subject.name()))
+                .build();
     }
 
     private static String getColorBySubject(String subject) {
@@ -20,12 +20,19 @@ public class LectureRequest {
     private LectureType lectureType;
     private Subject subject;
     private List<LectureScheduleRequest> scheduleRequest;
+    private Integer capacity; // 정원 (없으면 제한 없음)
+
+    public LectureRequest(String title, LectureType lectureType, Subject subject,
+                          List<LectureScheduleRequest> scheduleRequest) {
+        this(title, lectureType, subject, scheduleRequest, null);
+    }
 
     public Lecture toLecture() {
         return Lecture.builder()
                 .title(title)
                 .lectureType(lectureType)
                 .subject(subject)
+                .capacity(capacity)
                 .build();
     }
 
@@ -21,6 +21,8 @@ public class LectureResponse {
     private String title;
     private LectureType lectureType;
     private Subject subject;
+    private Integer capacity;
+    private int enrolledCount;  // 현재 수강생 수
     private List<LectureScheduleResponse> schedules;  // 엔티티 대신 DTO 사용
     private LocalDateTime createdAt;  // createAt → createdAt
     private LocalDateTime updatedAt;  // updateAt → updatedAt
@@ -31,6 +33,8 @@ public class LectureResponse {
                 .title(lecture.getTitle())
                 .lectureType(lecture.getLectureType())
                 .subject(lecture.getSubject())
+                .capacity(lecture.getCapacity())
+                .enrolledCount(lecture.getEnrolledCount())
                 .schedules(lecture.getSchedules().stream()
                         .map(LectureScheduleResponse::from)  // DTO로 변환
                         .collect(Collectors.toList()))
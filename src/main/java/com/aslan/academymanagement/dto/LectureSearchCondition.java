@@ -0,0 +1,22 @@
+package com.aslan.academymanagement.dto;
+
+import com.aslan.academymanagement.domain.enums.LectureType;
+import com.aslan.academymanagement.domain.enums.Subject;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.DayOfWeek;
+
+/**
+ * 강의 카탈로그 조회 필터 (값이 null인 조건은 적용하지 않음)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LectureSearchCondition {
+    private Subject subject;
+    private LectureType lectureType;
+    private Long teacherId;
+    private DayOfWeek dayOfWeek;
+}
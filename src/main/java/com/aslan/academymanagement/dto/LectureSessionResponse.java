@@ -0,0 +1,17 @@
+package com.aslan.academymanagement.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 강의 회차 (특정 날짜의 수업 한 번)
+ */
+public record LectureSessionResponse(
+        Long sessionId,
+        Long lectureId,
+        String title,
+        LocalDate sessionDate,
+        LocalTime startTime,
+        LocalTime endTime
+) {
+}
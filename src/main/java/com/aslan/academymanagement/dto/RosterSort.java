@@ -0,0 +1,9 @@
+package com.aslan.academymanagement.dto;
+
+/**
+ * 수강생 명단 정렬 기준
+ */
+public enum RosterSort {
+    NAME,       // 이름순 (같으면 학생 id순)
+    STUDENT_ID  // 학생 번호순
+}
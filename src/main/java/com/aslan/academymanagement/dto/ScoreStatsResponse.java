@@ -0,0 +1,40 @@
+package com.aslan.academymanagement.dto;
+
+import com.aslan.academymanagement.domain.StudentScoreStats;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScoreStatsResponse {
+    private String studentId;
+    private long count;
+    private double average;
+    private double standardDeviation;
+    private double minScore;
+    private double maxScore;
+
+    @Schema(description = "입력 순서에 따른 점수 추세 (회귀 기울기, 양수면 상승)")
+    private double trend;
+
+    public static ScoreStatsResponse of(String studentId, StudentScoreStats stats) {
+        return ScoreStatsResponse.builder()
+                .studentId(studentId)
+                .count(stats.getScoreCount())
+                .average(round(stats.getAverage()))
+                .standardDeviation(round(stats.getStandardDeviation()))
+                .minScore(stats.getMinScore())
+                .maxScore(stats.getMaxScore())
+                .trend(round(stats.getTrend()))
+                .build();
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
@@ -0,0 +1,14 @@
+package com.aslan.academymanagement.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회차 출석 명단 한 줄
+ */
+public record SessionAttendanceEntry(
+        String studentId,
+        String name,
+        LocalDateTime attendedAt,
+        boolean late
+) {
+}
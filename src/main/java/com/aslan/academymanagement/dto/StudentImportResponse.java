@@ -0,0 +1,41 @@
+package com.aslan.academymanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StudentImportResponse {
+
+    @Schema(description = "읽은 데이터 행 수 (헤더/빈 줄 제외)")
+    private int totalRows;
+
+    @Schema(description = "등록된 학생 수")
+    private int imported;
+
+    @Schema(description = "실패한 행 수")
+    private int failed;
+
+    @Schema(description = "실패 행 목록 (최대 개수를 넘으면 앞부분만 포함)")
+    private List<RowError> errors;
+
+    @Schema(description = "실패 행 목록이 잘렸는지 여부")
+    private boolean errorsTruncated;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        @Schema(description = "파일 내 줄 번호 (1부터)")
+        private long line;
+        private String studentId;
+        private String message;
+    }
+}
@@ -0,0 +1,28 @@
+package com.aslan.academymanagement.dto;
+
+import com.aslan.academymanagement.domain.enums.Division;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StudentRankResponse {
+    private String studentId;
+    private Division division;
+    private int attendanceCount;
+
+    @Schema(description = "부서 내 출석 횟수 순위 (1부터 시작)")
+    private int attendanceRank;
+
+    private double averageScore;
+
+    @Schema(description = "부서 내 평균 점수 순위 (1부터 시작)")
+    private int scoreRank;
+
+    private int totalStudents;
+}
@@ -0,0 +1,19 @@
+package com.aslan.academymanagement.dto;
+
+import com.aslan.academymanagement.domain.enums.Division;
+import com.aslan.academymanagement.domain.enums.Grade;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 학생 목록 조회 필터 (값이 null인 조건은 적용하지 않음)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentSearchCondition {
+    private Division division;
+    private Grade grade;
+    private Double minScore;
+}
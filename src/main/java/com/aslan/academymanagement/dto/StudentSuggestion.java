@@ -0,0 +1,14 @@
+package com.aslan.academymanagement.dto;
+
+import com.aslan.academymanagement.domain.enums.Division;
+
+/**
+ * 이름 자동완성 결과 (DB 조회 없이 메모리 색인에서 바로 반환)
+ */
+public record StudentSuggestion(
+        Long id,
+        String studentId,
+        String name,
+        Division division
+) {
+}
@@ -0,0 +1,22 @@
+package com.aslan.academymanagement.dto;
+
+import com.aslan.academymanagement.domain.enums.LectureType;
+import com.aslan.academymanagement.domain.enums.Subject;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+/**
+ * 시간표 한 칸 (수강 강의의 스케줄 하나)
+ */
+public record TimetableEntry(
+        Long lectureId,
+        String title,
+        Subject subject,
+        LectureType lectureType,
+        String teacherName,
+        DayOfWeek dayOfWeek,
+        LocalTime startTime,
+        LocalTime endTime
+) {
+}
@@ -0,0 +1,19 @@
+package com.aslan.academymanagement.dto;
+
+import java.time.DayOfWeek;
+import java.util.List;
+
+/**
+ * 학생 주간 시간표 (월~일 7칸, 요일 안에서는 시작 시간 순)
+ */
+public record TimetableResponse(
+        String studentId,
+        String name,
+        List<Day> days
+) {
+    public record Day(
+            DayOfWeek dayOfWeek,
+            List<TimetableEntry> lectures
+    ) {
+    }
+}
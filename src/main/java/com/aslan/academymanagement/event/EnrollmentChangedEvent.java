@@ -0,0 +1,11 @@
+package com.aslan.academymanagement.event;
+
+/**
+ * 수강 등록/취소를 알리는 이벤트
+ * - 학생 기준으로 만들어 둔 캐시(학생 달력 피드 등)가 커밋 후 이 이벤트를 받아 갱신됨
+ */
+public record EnrollmentChangedEvent(
+        Long lectureId,
+        Long studentId // 학생 PK (학생 번호 아님)
+) {
+}
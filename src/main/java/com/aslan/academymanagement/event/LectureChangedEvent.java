@@ -0,0 +1,11 @@
+package com.aslan.academymanagement.event;
+
+/**
+ * 강의(스케줄 포함)가 생성/변경/삭제되었음을 알리는 이벤트
+ * - 강의 기준으로 메모리에 만들어 둔 캐시(달력 주간 전개 등)가 커밋 후 이 이벤트를 받아 비워짐
+ */
+public record LectureChangedEvent(
+        Long lectureId,
+        Long teacherId
+) {
+}
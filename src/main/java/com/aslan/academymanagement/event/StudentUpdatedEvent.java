@@ -0,0 +1,57 @@
+package com.aslan.academymanagement.event;
+
+import com.aslan.academymanagement.domain.Student;
+import com.aslan.academymanagement.domain.enums.Division;
+import com.aslan.academymanagement.repository.StudentCounterView;
+
+/**
+ * 학생 정보(출석/성적 포함)가 변경되었음을 알리는 이벤트
+ * - 메모리에 올려둔 랭킹/인덱스 등이 커밋 후에 이 이벤트를 받아 갱신됨
+ * - version은 발행 시점의 Student.version (커밋 후 이벤트는 순서가 뒤바뀔 수 있으므로 선후 판단에 사용)
+ */
+public record StudentUpdatedEvent(
+        Long id,
+        String studentId,
+        String name,
+        Division division,
+        int attendanceCount,
+        double averageScore,
+        long version
+) {
+
+    public static StudentUpdatedEvent of(Student student) {
+        return new StudentUpdatedEvent(
+                student.getId(),
+                student.getStudentId(),
+                student.getName(),
+                student.getDivision(),
+                valueOrZero(student.getAttendanceCount()),
+                valueOrZero(student.getAverageScore()),
+                valueOrZero(student.getVersion())
+        );
+    }
+
+    public static StudentUpdatedEvent of(StudentCounterView student) {
+        return new StudentUpdatedEvent(
+                student.getId(),
+                student.getStudentId(),
+                student.getName(),
+                student.getDivision(),
+                valueOrZero(student.getAttendanceCount()),
+                valueOrZero(student.getAverageScore()),
+                valueOrZero(student.getVersion())
+        );
+    }
+
+    private static int valueOrZero(Integer value) {
+        return value != null ? value : 0;
+    }
+
+    private static long valueOrZero(Long value) {
+        return value != null ? value : 0L;
+    }
+
+    private static double valueOrZero(Double value) {
+        return value != null ? value : 0.0;
+    }
+}
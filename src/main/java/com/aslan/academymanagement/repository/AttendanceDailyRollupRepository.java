@@ -0,0 +1,49 @@
+package com.aslan.academymanagement.repository;
+
+import com.aslan.academymanagement.domain.AttendanceDailyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface AttendanceDailyRollupRepository extends JpaRepository<AttendanceDailyRollup, Long> {
+
+    // 일별 집계 증가: 행이 있으면 +1, 없으면 1로 생성 (MERGE 한 번으로 처리)
+    @Modifying
+    @Query(value = "MERGE INTO attendance_daily_rollups r " +
+            "USING (SELECT id FROM students WHERE student_id IN :studentIds) s " +
+            "ON (r.student_id = s.id AND r.attendance_date = :attendanceDate) " +
+            "WHEN MATCHED THEN UPDATE SET r.check_in_count = r.check_in_count + 1 " +
+            "WHEN NOT MATCHED THEN INSERT (student_id, attendance_date, check_in_count) " +
+            "VALUES (s.id, :attendanceDate, 1)",
+            nativeQuery = true)
+    int incrementAll(
+            @Param("studentIds") Collection<String> studentIds,
+            @Param("attendanceDate") LocalDate attendanceDate
+    );
+
+    @Query("SELECT r FROM AttendanceDailyRollup r " +
+            "WHERE r.student.studentId = :studentId AND r.attendanceDate BETWEEN :from AND :to " +
+            "ORDER BY r.attendanceDate")
+    List<AttendanceDailyRollup> findByStudentAndPeriod(
+            @Param("studentId") String studentId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to
+    );
+
+    // 여러 학생의 기간 내 출석일을 한 번에 조회 (일괄 출석 시 출석률 계산용, uk_attendance_rollup_student_date 사용)
+    @Query("SELECT r.student.studentId AS studentId, r.attendanceDate AS attendanceDate " +
+            "FROM AttendanceDailyRollup r " +
+            "WHERE r.student.studentId IN :studentIds AND r.attendanceDate BETWEEN :from AND :to")
+    List<AttendanceDayView> findByStudentIdsAndPeriod(
+            @Param("studentIds") Collection<String> studentIds,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to
+    );
+}
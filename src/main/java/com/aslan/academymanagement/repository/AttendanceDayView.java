@@ -0,0 +1,13 @@
+package com.aslan.academymanagement.repository;
+
+import java.time.LocalDate;
+
+/**
+ * 학생별 출석일 (학생 번호, 날짜)만 읽어오는 Projection
+ */
+public interface AttendanceDayView {
+
+    String getStudentId();
+
+    LocalDate getAttendanceDate();
+}
@@ -0,0 +1,41 @@
+package com.aslan.academymanagement.repository;
+
+import com.aslan.academymanagement.domain.AttendanceEvent;
+import com.aslan.academymanagement.dto.SessionAttendanceEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface AttendanceEventRepository extends JpaRepository<AttendanceEvent, Long> {
+
+    // 학생 번호 목록으로 출석 이벤트를 INSERT ... SELECT 한 번에 추가 (엔티티 조회 없음)
+    @Modifying
+    @Query(value = "INSERT INTO attendance_events (student_id, lecture_id, session_id, attendance_date, attended_at, late) " +
+            "SELECT s.id, :lectureId, :sessionId, :attendanceDate, :attendedAt, :late FROM students s " +
+            "WHERE s.student_id IN :studentIds",
+            nativeQuery = true)
+    int appendAll(
+            @Param("studentIds") Collection<String> studentIds,
+            @Param("lectureId") Long lectureId,
+            @Param("sessionId") Long sessionId,
+            @Param("attendanceDate") LocalDate attendanceDate,
+            @Param("attendedAt") LocalDateTime attendedAt,
+            @Param("late") boolean late
+    );
+
+    // 회차별 출석 명단 (session_id 인덱스 사용)
+    @Query("SELECT new com.aslan.academymanagement.dto.SessionAttendanceEntry(" +
+            "s.studentId, s.name, e.attendedAt, e.late) " +
+            "FROM AttendanceEvent e JOIN e.student s " +
+            "WHERE e.session.id = :sessionId " +
+            "ORDER BY e.attendedAt, s.studentId")
+    List<SessionAttendanceEntry> findAttendanceBySessionId(@Param("sessionId") Long sessionId);
+}
@@ -0,0 +1,11 @@
+package com.aslan.academymanagement.repository;
+
+/**
+ * 수강 관계 (학생 PK, 강의 id)만 읽어오는 Projection
+ */
+public interface EnrollmentView {
+
+    Long getStudentId();
+
+    Long getLectureId();
+}
@@ -2,16 +2,71 @@ package com.aslan.academymanagement.repository;
 
 import com.aslan.academymanagement.domain.Lecture;
 import com.aslan.academymanagement.domain.Member;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface LectureRepository extends JpaRepository<Lecture, Long> {
+public interface LectureRepository extends JpaRepository<Lecture, Long>, LectureSearchRepository {
     Optional<Lecture> findById(Long id);
 
     // 특정 강사의 강의 목록 조회
     List<Lecture> findAllByTeacher(Member teacher);
+
+    // 조회 전용: 스케줄까지 fetch join으로 한 번에 가져옴 (강의마다 스케줄을 따로 조회하는 N+1 방지)
+    @Query("SELECT DISTINCT l FROM Lecture l LEFT JOIN FETCH l.schedules ORDER BY l.id")
+    List<Lecture> findAllWithSchedules();
+
+    @Query("SELECT DISTINCT l FROM Lecture l LEFT JOIN FETCH l.schedules WHERE l.teacher = :teacher ORDER BY l.id")
+    List<Lecture> findAllWithSchedulesByTeacher(@Param("teacher") Member teacher);
+
+    @Query("SELECT DISTINCT l FROM Lecture l LEFT JOIN FETCH l.schedules WHERE l.teacher.id = :teacherId ORDER BY l.id")
+    List<Lecture> findAllWithSchedulesByTeacherId(@Param("teacherId") Long teacherId);
+
+    // 학생이 수강 중인 강의 + 스케줄
+    @Query("SELECT DISTINCT l FROM Lecture l LEFT JOIN FETCH l.schedules WHERE l.id IN (" +
+            "SELECT ls.lecture.id FROM LectureStudent ls WHERE ls.student.studentId = :studentId) ORDER BY l.id")
+    List<Lecture> findAllWithSchedulesByStudentId(@Param("studentId") String studentId);
+
+    // 권한 확인용: 강사 id만 조회 (LectureOwnership 캐시 채우기)
+    @Query("SELECT l.teacher.id FROM Lecture l WHERE l.id = :id")
+    Optional<Long> findTeacherIdById(@Param("id") Long id);
+
+    @Query("SELECT l FROM Lecture l LEFT JOIN FETCH l.schedules WHERE l.id = :id")
+    Optional<Lecture> findWithSchedulesById(@Param("id") Long id);
+
+    @Query("SELECT DISTINCT l FROM Lecture l LEFT JOIN FETCH l.schedules WHERE l.id IN :ids ORDER BY l.id")
+    List<Lecture> findAllWithSchedulesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 수강생 수 증감: 현재 값을 읽지 않고 UPDATE 한 번으로 (동시에 등록/취소해도 갱신이 사라지지 않음)
+    @Modifying
+    @Query("UPDATE Lecture l SET l.enrolledCount = l.enrolledCount + :delta WHERE l.id = :id")
+    int addEnrolledCount(@Param("id") Long id, @Param("delta") int delta);
+
+    // 정원 카운터 초기값 (수강생 COUNT(*) 대신 저장된 수강생 수)
+    @Query("SELECT l.enrolledCount FROM Lecture l WHERE l.id = :id")
+    Optional<Integer> findEnrolledCountById(@Param("id") Long id);
+
+    // 저장된 수강생 수가 실제 수강생 행 수와 다른 강의 (시작 시 점검용)
+    @Query("SELECT l.id FROM Lecture l " +
+            "WHERE l.enrolledCount <> (SELECT COUNT(ls) FROM LectureStudent ls WHERE ls.lecture = l) " +
+            "ORDER BY l.id")
+    List<Long> findIdsWithEnrolledCountMismatch();
+
+    // 시간표 충돌 색인 초기화용: 전체 스케줄을 엔티티 없이 한 건씩 읽음 (트랜잭션 안에서 사용)
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT l.id AS lectureId, l.teacher.id AS teacherId, l.title AS title, " +
+            "s.dayOfWeek AS dayOfWeek, s.startTime AS startTime, s.endTime AS endTime " +
+            "FROM LectureSchedule s JOIN s.lecture l")
+    Stream<ScheduleSlotView> streamScheduleSlots();
 }
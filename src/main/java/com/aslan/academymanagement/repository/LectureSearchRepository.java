@@ -0,0 +1,15 @@
+package com.aslan.academymanagement.repository;
+
+import com.aslan.academymanagement.dto.LectureSearchCondition;
+
+import java.util.List;
+
+/**
+ * 필터 조합에 따라 조건이 달라지는 강의 카탈로그 조회 (LectureRepository에 합쳐서 사용)
+ */
+public interface LectureSearchRepository {
+
+    // 카탈로그 키셋 페이지: 조건에 맞는 강의 id만 마지막으로 본 id 이후부터 limit개
+    // (컬렉션 fetch join에 limit을 걸면 메모리에서 페이징하므로 id 조회와 스케줄 조회를 분리)
+    List<Long> findCatalogIdsAfter(long afterId, LectureSearchCondition condition, int limit);
+}
@@ -0,0 +1,36 @@
+package com.aslan.academymanagement.repository;
+
+import com.aslan.academymanagement.domain.Lecture;
+import com.aslan.academymanagement.dto.LectureSearchCondition;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+import static com.aslan.academymanagement.repository.LectureSpecifications.idAfter;
+import static com.aslan.academymanagement.repository.LectureSpecifications.matches;
+
+/**
+ * 강의 id만 조회 (엔티티는 id가 정해진 뒤 스케줄과 함께 따로 조회)
+ */
+@RequiredArgsConstructor
+class LectureSearchRepositoryImpl implements LectureSearchRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<Long> findCatalogIdsAfter(long afterId, LectureSearchCondition condition, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Lecture> l = query.from(Lecture.class);
+        query.select(l.get("id"))
+                .where(idAfter(afterId).and(matches(condition)).toPredicate(l, query, cb))
+                .orderBy(cb.asc(l.get("id")));
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
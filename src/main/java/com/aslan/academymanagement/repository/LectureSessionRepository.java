@@ -0,0 +1,52 @@
+package com.aslan.academymanagement.repository;
+
+import com.aslan.academymanagement.domain.LectureSession;
+import com.aslan.academymanagement.dto.LectureSessionResponse;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface LectureSessionRepository extends JpaRepository<LectureSession, Long> {
+
+    // 특정 날짜의 강사 수업 목록 ((session_date, start_time) 인덱스 사용)
+    @Query("SELECT new com.aslan.academymanagement.dto.LectureSessionResponse(" +
+            "s.id, l.id, l.title, s.sessionDate, s.startTime, s.endTime) " +
+            "FROM LectureSession s JOIN s.lecture l " +
+            "WHERE s.sessionDate = :date AND l.teacher.id = :teacherId " +
+            "ORDER BY s.startTime, l.id")
+    List<LectureSessionResponse> findByTeacherAndDate(
+            @Param("teacherId") Long teacherId,
+            @Param("date") LocalDate date
+    );
+
+    // 강의의 특정 날짜 회차 (일괄 출석 시 회차 연결용, 유니크 인덱스 사용)
+    @Query("SELECT s.id AS id, s.lecture.id AS lectureId, s.sessionDate AS sessionDate, s.startTime AS startTime " +
+            "FROM LectureSession s " +
+            "WHERE s.lecture.id = :lectureId AND s.sessionDate = :date " +
+            "ORDER BY s.startTime")
+    List<LectureSessionSlotView> findSlotsByLectureAndDate(
+            @Param("lectureId") Long lectureId,
+            @Param("date") LocalDate date
+    );
+
+    // 이미 생성된 회차 (재생성 시 건너뛰기용)
+    @Query("SELECT s.id AS id, s.lecture.id AS lectureId, s.sessionDate AS sessionDate, s.startTime AS startTime " +
+            "FROM LectureSession s " +
+            "WHERE s.lecture.id IN :lectureIds AND s.sessionDate BETWEEN :from AND :to")
+    List<LectureSessionSlotView> findSlotsInPeriod(
+            @Param("lectureIds") Collection<Long> lectureIds,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to
+    );
+
+    // 회차가 속한 강의의 강사 id (회차 단위 API 권한 확인용)
+    @Query("SELECT s.lecture.teacher.id FROM LectureSession s WHERE s.id = :sessionId")
+    Optional<Long> findTeacherIdById(@Param("sessionId") Long sessionId);
+}
@@ -0,0 +1,18 @@
+package com.aslan.academymanagement.repository;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 강의 회차 키 Projection (회차 생성 시 중복 확인 / 출석 시 회차 연결용)
+ */
+public interface LectureSessionSlotView {
+
+    Long getId();
+
+    Long getLectureId();
+
+    LocalDate getSessionDate();
+
+    LocalTime getStartTime();
+}
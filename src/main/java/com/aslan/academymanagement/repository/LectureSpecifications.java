@@ -0,0 +1,52 @@
+package com.aslan.academymanagement.repository;
+
+import com.aslan.academymanagement.domain.Lecture;
+import com.aslan.academymanagement.domain.LectureSchedule;
+import com.aslan.academymanagement.dto.LectureSearchCondition;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 강의 카탈로그 조회 조건
+ * - 값이 있는 필터만 WHERE에 넣음 → 과목/유형/강사는 (컬럼, id) 인덱스,
+ *   요일은 idx_lecture_schedules_lecture_day 인덱스로 확인
+ */
+public final class LectureSpecifications {
+
+    private LectureSpecifications() {
+    }
+
+    public static Specification<Lecture> matches(LectureSearchCondition condition) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>(4);
+            if (condition.getSubject() != null) {
+                predicates.add(cb.equal(root.get("subject"), condition.getSubject()));
+            }
+            if (condition.getLectureType() != null) {
+                predicates.add(cb.equal(root.get("lectureType"), condition.getLectureType()));
+            }
+            if (condition.getTeacherId() != null) {
+                predicates.add(cb.equal(root.get("teacher").get("id"), condition.getTeacherId()));
+            }
+            if (condition.getDayOfWeek() != null) {
+                Subquery<Integer> schedule = query.subquery(Integer.class);
+                Root<LectureSchedule> s = schedule.from(LectureSchedule.class);
+                schedule.select(cb.literal(1))
+                        .where(cb.equal(s.get("lecture"), root),
+                                cb.equal(s.get("dayOfWeek"), condition.getDayOfWeek()));
+                predicates.add(cb.exists(schedule));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    // 키셋 페이지: 마지막으로 본 id 이후
+    public static Specification<Lecture> idAfter(long afterId) {
+        return (root, query, cb) -> cb.greaterThan(root.get("id"), afterId);
+    }
+}
@@ -3,20 +3,106 @@ package com.aslan.academymanagement.repository;
 import com.aslan.academymanagement.domain.Lecture;
 import com.aslan.academymanagement.domain.LectureStudent;
 import com.aslan.academymanagement.domain.Student;
+import com.aslan.academymanagement.domain.enums.Division;
+import com.aslan.academymanagement.dto.StudentResponse;
+import com.aslan.academymanagement.dto.TimetableEntry;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface LectureStudentRepository extends JpaRepository<LectureStudent, Long> {
-    // 특정 강의의 수강생 목록 조회 (Fetch Join으로 성능 최적화 권장)
-    List<LectureStudent> findAllByLecture(Lecture lecture);
+    // 수강생 명단: 수강 → 학생을 조인해 StudentResponse로 바로 조회 (학생별 지연 로딩 없음)
+    String ROSTER = StudentRepository.STUDENT_RESPONSE_SELECT +
+            "FROM LectureStudent ls JOIN ls.student s WHERE ls.lecture.id = :lectureId ";
+
+    // 이름순 키셋 페이지 (이름이 같으면 id순)
+    @Query(ROSTER + "AND (s.name > :afterName OR (s.name = :afterName AND s.id > :afterId)) ORDER BY s.name, s.id")
+    List<StudentResponse> findRosterByNameAfter(
+            @Param("lectureId") Long lectureId,
+            @Param("afterName") String afterName,
+            @Param("afterId") long afterId,
+            Limit limit
+    );
+
+    // 학생 번호순 키셋 페이지 (학생 번호는 유일)
+    @Query(ROSTER + "AND s.studentId > :afterStudentId ORDER BY s.studentId")
+    List<StudentResponse> findRosterByStudentIdAfter(
+            @Param("lectureId") Long lectureId,
+            @Param("afterStudentId") String afterStudentId,
+            Limit limit
+    );
 
     // 중복 등록 방지용 조회
     boolean existsByLectureAndStudent(Lecture lecture, Student student);
 
     // 등록 취소용 조회
     Optional<LectureStudent> findByLectureAndStudent(Lecture lecture, Student student);
+
+    // 학생이 수강 중인 강의 id (idx_lecture_students_student_id 인덱스만으로 조회)
+    @Query("SELECT ls.lecture.id FROM LectureStudent ls WHERE ls.student.id = :studentId ORDER BY ls.lecture.id")
+    List<Long> findLectureIdsByStudentId(@Param("studentId") Long studentId);
+
+    // 실제 수강생 행 수 (정원 카운터/enrolled_count와 맞는지 테스트에서 검증할 때 사용, 운영 코드에서는 쓰지 않음)
+    long countByLectureId(Long lectureId);
+
+    // 일괄 출석용: 요청된 학생 번호 중 해당 강의의 현재 부서 수강생만 한 번에 조회
+    @Query("SELECT s.studentId FROM LectureStudent ls JOIN ls.student s " +
+            "WHERE ls.lecture.id = :lectureId AND s.studentId IN :studentIds AND s.division = :division")
+    List<String> findEnrolledStudentIds(
+            @Param("lectureId") Long lectureId,
+            @Param("studentIds") Collection<String> studentIds,
+            @Param("division") Division division
+    );
+
+    // 일괄 수강 등록용: 요청된 학생 PK 중 해당 강의 수강생만 한 번에 조회
+    @Query("SELECT ls.student.id FROM LectureStudent ls " +
+            "WHERE ls.lecture.id = :lectureId AND ls.student.id IN :studentIds")
+    List<Long> findEnrolledStudentPks(
+            @Param("lectureId") Long lectureId,
+            @Param("studentIds") Collection<Long> studentIds
+    );
+
+    // 일괄 수강 취소용: 요청된 학생 중 수강생 행을 잠그고 PK 조회 (SELECT ... FOR UPDATE)
+    // 동시에 같은 학생을 취소하는 트랜잭션은 먼저 잠근 쪽이 커밋할 때까지 기다렸다가 남은 행만 받음
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT ls.student.id FROM LectureStudent ls " +
+            "WHERE ls.lecture.id = :lectureId AND ls.student.id IN :studentIds")
+    List<Long> lockEnrolledStudentPks(
+            @Param("lectureId") Long lectureId,
+            @Param("studentIds") Collection<Long> studentIds
+    );
+
+    // 일괄 수강 취소: DELETE 한 번 (엔티티 조회 없음)
+    @Modifying
+    @Query("DELETE FROM LectureStudent ls WHERE ls.lecture.id = :lectureId AND ls.student.id IN :studentIds")
+    int deleteByLectureIdAndStudentIdIn(
+            @Param("lectureId") Long lectureId,
+            @Param("studentIds") Collection<Long> studentIds
+    );
+
+    // 학생 시간표: 수강 → 강의 → 스케줄(+ 강사 이름)을 한 번에 조회
+    @Query("SELECT new com.aslan.academymanagement.dto.TimetableEntry(" +
+            "l.id, l.title, l.subject, l.lectureType, t.name, s.dayOfWeek, s.startTime, s.endTime) " +
+            "FROM LectureStudent ls JOIN ls.lecture l JOIN l.schedules s LEFT JOIN l.teacher t " +
+            "WHERE ls.student.id = :studentId")
+    List<TimetableEntry> findTimetableEntries(@Param("studentId") Long studentId);
+
+    // 시간표 충돌 색인 초기화용 (트랜잭션 안에서 사용)
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT ls.student.id AS studentId, ls.lecture.id AS lectureId FROM LectureStudent ls")
+    Stream<EnrollmentView> streamEnrollments();
 }
@@ -0,0 +1,28 @@
+package com.aslan.academymanagement.repository;
+
+import com.aslan.academymanagement.domain.LectureWaitlistEntry;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.stream.Stream;
+
+@Repository
+public interface LectureWaitlistRepository extends JpaRepository<LectureWaitlistEntry, Long> {
+
+    // 대기열 복원용: 전체 대기를 대기 순서대로 한 건씩 읽음 (트랜잭션 안에서 사용)
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT w.lecture.id AS lectureId, w.student.id AS studentId, w.ticket AS ticket " +
+            "FROM LectureWaitlistEntry w ORDER BY w.lecture.id, w.ticket")
+    Stream<WaitlistEntryView> streamAll();
+
+    // 승격/대기 취소: DELETE 한 번 (uk_lecture_waitlist_lecture_student 인덱스 사용)
+    @Modifying
+    @Query("DELETE FROM LectureWaitlistEntry w WHERE w.lecture.id = :lectureId AND w.student.id = :studentId")
+    int deleteByLectureIdAndStudentId(@Param("lectureId") Long lectureId, @Param("studentId") Long studentId);
+}
@@ -0,0 +1,22 @@
+package com.aslan.academymanagement.repository;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+/**
+ * 시간표 충돌 색인 초기화용 Projection (강의 스케줄 한 건 + 강의/강사 정보)
+ */
+public interface ScheduleSlotView {
+
+    Long getLectureId();
+
+    Long getTeacherId();
+
+    String getTitle();
+
+    DayOfWeek getDayOfWeek();
+
+    LocalTime getStartTime();
+
+    LocalTime getEndTime();
+}
@@ -0,0 +1,32 @@
+package com.aslan.academymanagement.repository;
+
+import com.aslan.academymanagement.domain.ScoreRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ScoreRecordRepository extends JpaRepository<ScoreRecord, Long> {
+
+    // 학생 번호로 성적 이력을 INSERT ... SELECT 한 번에 추가 (학생이 없으면 0 반환)
+    @Modifying
+    @Query(value = "INSERT INTO score_records (student_id, score, recorded_at) " +
+            "SELECT s.id, :score, :recordedAt FROM students s WHERE s.student_id = :studentId",
+            nativeQuery = true)
+    int append(
+            @Param("studentId") String studentId,
+            @Param("score") Double score,
+            @Param("recordedAt") LocalDateTime recordedAt
+    );
+
+    // 집계 재계산 대상 학생 id를 키셋 방식으로 나눠서 조회
+    @Query(value = "SELECT DISTINCT student_id FROM score_records WHERE student_id > :afterId " +
+            "ORDER BY student_id LIMIT :size",
+            nativeQuery = true)
+    List<Long> findStudentIdsAfter(@Param("afterId") Long afterId, @Param("size") int size);
+}
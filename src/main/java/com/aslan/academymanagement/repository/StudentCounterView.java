@@ -0,0 +1,28 @@
+package com.aslan.academymanagement.repository;
+
+import com.aslan.academymanagement.domain.enums.Division;
+
+/**
+ * 출석/성적 카운터 갱신 후 알림에 필요한 값만 읽어오는 Projection
+ * - 엔티티를 영속성 컨텍스트에 올리지 않고 필요한 컬럼만 조회
+ */
+public interface StudentCounterView {
+
+    Long getId();
+
+    String getStudentId();
+
+    String getName();
+
+    String getPhoneNumber();
+
+    String getParentPhoneNumber();
+
+    Division getDivision();
+
+    Integer getAttendanceCount();
+
+    Double getAverageScore();
+
+    Long getVersion();
+}
@@ -4,19 +4,37 @@ package com.aslan.academymanagement.repository;
 import com.aslan.academymanagement.domain.Student;
 import com.aslan.academymanagement.domain.enums.Division;
 import com.aslan.academymanagement.domain.enums.Grade;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface StudentRepository extends JpaRepository<Student, Long> {
+public interface StudentRepository extends JpaRepository<Student, Long>, StudentSearchRepository {
+
+    // 엔티티 대신 StudentResponse로 바로 조회 (영속성 컨텍스트에 쌓이지 않음, 학생 별칭은 s)
+    String STUDENT_RESPONSE_SELECT = "SELECT new com.aslan.academymanagement.dto.StudentResponse(" +
+            "s.id, s.studentId, s.name, s.birthDate, s.phoneNumber, s.parentPhoneNumber, s.grade, s.division, " +
+            "s.attendanceCount, s.averageScore, s.specialNotes, s.createdAt, s.updatedAt) ";
 
     Optional<Student> findByStudentId(String studentId);
 
+    // 정보 수정용: 출석/성적 카운터 UPDATE가 중간에 version을 올리지 못하도록 학생 행을 잠그고 조회
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Student s WHERE s.studentId = :studentId")
+    Optional<Student> findForUpdateByStudentId(@Param("studentId") String studentId);
+
     List<Student> findByDivision(Division division);
 
     List<Student> findByGrade(Grade grade);
@@ -36,4 +54,68 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
     );
 
     boolean existsByStudentId(String studentId);
+
+    // 일괄 등록 시 묶음 단위 중복 확인 (IN 쿼리 한 번)
+    @Query("SELECT s.studentId FROM Student s WHERE s.studentId IN :studentIds")
+    List<String> findExistingStudentIds(@Param("studentIds") Collection<String> studentIds);
+
+    // 일괄 수강 등록용: 요청된 학생 PK 중 존재하는 것만 한 번에 조회
+    @Query("SELECT s.id FROM Student s WHERE s.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    Optional<StudentCounterView> findCountersByStudentId(String studentId);
+
+    List<StudentCounterView> findCountersByStudentIdIn(Collection<String> studentIds);
+
+    List<StudentCounterView> findCountersByIdIn(Collection<Long> ids);
+
+    // 랭킹 초기화용: 전체 학생을 목록으로 만들지 않고 한 건씩 읽음 (트랜잭션 안에서 사용)
+    Stream<StudentCounterView> streamCountersBy();
+
+    // 학생 번호 필터 초기화용 (트랜잭션 안에서 사용)
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT s.studentId FROM Student s")
+    Stream<String> streamStudentIds();
+
+    // 카운터 UPDATE도 version을 올림 → 커밋 후 이벤트가 뒤바뀌어 도착해도 StudentLeaderboard가 오래된 값을 버림
+
+    // 출석 횟수를 DB에서 원자적으로 증가 (엔티티 조회 → 수정 → 저장 과정에서 생기는 갱신 손실 방지)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Student s SET s.attendanceCount = COALESCE(s.attendanceCount, 0) + 1, s.updatedAt = LOCAL DATETIME, s.version = s.version + 1 " +
+            "WHERE s.studentId = :studentId AND s.division = :division")
+    int incrementAttendanceCount(@Param("studentId") String studentId, @Param("division") Division division);
+
+    // 일괄 출석: 여러 학생의 출석 횟수를 UPDATE 한 번으로 증가
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Student s SET s.attendanceCount = COALESCE(s.attendanceCount, 0) + 1, s.updatedAt = LOCAL DATETIME, s.version = s.version + 1 " +
+            "WHERE s.studentId IN :studentIds")
+    int incrementAttendanceCounts(@Param("studentIds") Collection<String> studentIds);
+
+    // 성적 집계(StudentScoreStats)의 평균을 students.average_score에 반영 (소수점 둘째 자리 반올림)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Student s SET s.averageScore = " +
+            "(SELECT ROUND(t.scoreSum / t.scoreCount, 2) FROM StudentScoreStats t WHERE t.studentId = s.id), " +
+            "s.updatedAt = LOCAL DATETIME, s.version = s.version + 1 " +
+            "WHERE s.studentId = :studentId")
+    int refreshAverageScore(@Param("studentId") String studentId);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Student s SET s.averageScore = " +
+            "(SELECT ROUND(t.scoreSum / t.scoreCount, 2) FROM StudentScoreStats t WHERE t.studentId = s.id), " +
+            "s.updatedAt = LOCAL DATETIME, s.version = s.version + 1 " +
+            "WHERE s.id IN :ids")
+    int refreshAverageScores(@Param("ids") Collection<Long> ids);
+
+    // 성적 입력/재계산: 같은 학생의 집계 갱신을 학생 행 잠금으로 직렬화
+    // (첫 성적이면 집계 행이 아직 없어 동시 MERGE가 둘 다 INSERT로 가며 충돌하므로 집계 행이 아닌 학생 행을 잠금)
+    @Query(value = "SELECT id FROM students WHERE student_id = :studentId FOR UPDATE", nativeQuery = true)
+    Optional<Long> lockIdByStudentId(@Param("studentId") String studentId);
+
+    @Query(value = "SELECT id FROM students WHERE id IN :ids FOR UPDATE", nativeQuery = true)
+    List<Long> lockAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 캘린더 구독 토큰 재발급: 세대만 1 증가 (엔티티 조회/버전 변경 없음)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Student s SET s.calendarFeedRotation = s.calendarFeedRotation + 1 WHERE s.studentId = :studentId")
+    int rotateCalendarFeed(@Param("studentId") String studentId);
 }
@@ -0,0 +1,57 @@
+package com.aslan.academymanagement.repository;
+
+import com.aslan.academymanagement.domain.StudentScoreStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Optional;
+
+@Repository
+public interface StudentScoreStatsRepository extends JpaRepository<StudentScoreStats, Long> {
+
+    @Query("SELECT t FROM StudentScoreStats t WHERE t.student.studentId = :studentId")
+    Optional<StudentScoreStats> findByStudentId(@Param("studentId") String studentId);
+
+    // 점수 1건 반영: 행이 있으면 합계들을 증가, 없으면 새로 생성
+    // (UPDATE SET의 우변은 갱신 전 값 기준으로 계산됨)
+    @Modifying(clearAutomatically = true)
+    @Query(value = "MERGE INTO student_score_stats t " +
+            "USING (SELECT id FROM students WHERE student_id = :studentId) s " +
+            "ON (t.student_id = s.id) " +
+            "WHEN MATCHED THEN UPDATE SET " +
+            "t.score_count = t.score_count + 1, " +
+            "t.score_sum = t.score_sum + :score, " +
+            "t.score_sum_of_squares = t.score_sum_of_squares + :score * :score, " +
+            "t.min_score = LEAST(t.min_score, :score), " +
+            "t.max_score = GREATEST(t.max_score, :score), " +
+            "t.indexed_score_sum = t.indexed_score_sum + (t.score_count + 1) * :score, " +
+            "t.updated_at = LOCALTIMESTAMP " +
+            "WHEN NOT MATCHED THEN INSERT " +
+            "(student_id, score_count, score_sum, score_sum_of_squares, min_score, max_score, indexed_score_sum, updated_at) " +
+            "VALUES (s.id, 1, :score, :score * :score, :score, :score, :score, LOCALTIMESTAMP)",
+            nativeQuery = true)
+    int accumulate(@Param("studentId") String studentId, @Param("score") Double score);
+
+    // 성적 이력으로부터 집계를 다시 계산 (버그 수정 후 replay 용)
+    @Modifying(clearAutomatically = true)
+    @Query(value = "MERGE INTO student_score_stats t " +
+            "USING (SELECT h.student_id, COUNT(*) AS cnt, SUM(h.score) AS total, SUM(h.score * h.score) AS squares, " +
+            "MIN(h.score) AS lowest, MAX(h.score) AS highest, SUM(h.seq * h.score) AS indexed " +
+            "FROM (SELECT student_id, score, ROW_NUMBER() OVER (PARTITION BY student_id ORDER BY id) AS seq " +
+            "FROM score_records WHERE student_id IN :studentIds) h " +
+            "GROUP BY h.student_id) a " +
+            "ON (t.student_id = a.student_id) " +
+            "WHEN MATCHED THEN UPDATE SET " +
+            "t.score_count = a.cnt, t.score_sum = a.total, t.score_sum_of_squares = a.squares, " +
+            "t.min_score = a.lowest, t.max_score = a.highest, t.indexed_score_sum = a.indexed, " +
+            "t.updated_at = LOCALTIMESTAMP " +
+            "WHEN NOT MATCHED THEN INSERT " +
+            "(student_id, score_count, score_sum, score_sum_of_squares, min_score, max_score, indexed_score_sum, updated_at) " +
+            "VALUES (a.student_id, a.cnt, a.total, a.squares, a.lowest, a.highest, a.indexed, LOCALTIMESTAMP)",
+            nativeQuery = true)
+    int rebuild(@Param("studentIds") Collection<Long> studentIds);
+}
@@ -0,0 +1,19 @@
+package com.aslan.academymanagement.repository;
+
+import com.aslan.academymanagement.dto.StudentResponse;
+import com.aslan.academymanagement.dto.StudentSearchCondition;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 필터 조합에 따라 조건이 달라지는 학생 목록 조회 (StudentRepository에 합쳐서 사용)
+ */
+public interface StudentSearchRepository {
+
+    // 키셋 페이지 조회: 마지막으로 본 id 이후부터 limit개 (OFFSET 없이 인덱스를 타고 바로 이동)
+    List<StudentResponse> findPageAfter(long afterId, StudentSearchCondition condition, int limit);
+
+    // 대량 내보내기: 결과를 리스트로 모으지 않고 커서로 한 건씩 읽음 (트랜잭션 안에서 사용)
+    Stream<StudentResponse> streamAll(StudentSearchCondition condition);
+}
@@ -0,0 +1,55 @@
+package com.aslan.academymanagement.repository;
+
+import com.aslan.academymanagement.domain.Student;
+import com.aslan.academymanagement.dto.StudentResponse;
+import com.aslan.academymanagement.dto.StudentSearchCondition;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.aslan.academymanagement.repository.StudentSpecifications.idAfter;
+import static com.aslan.academymanagement.repository.StudentSpecifications.matches;
+
+/**
+ * 엔티티 대신 StudentResponse로 바로 조회 (영속성 컨텍스트에 쌓이지 않음)
+ */
+@RequiredArgsConstructor
+class StudentSearchRepositoryImpl implements StudentSearchRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<StudentResponse> findPageAfter(long afterId, StudentSearchCondition condition, int limit) {
+        return query(idAfter(afterId).and(matches(condition)))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Stream<StudentResponse> streamAll(StudentSearchCondition condition) {
+        return query(matches(condition))
+                .setHint(AvailableHints.HINT_FETCH_SIZE, 500)
+                .getResultStream();
+    }
+
+    private TypedQuery<StudentResponse> query(Specification<Student> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<StudentResponse> query = cb.createQuery(StudentResponse.class);
+        Root<Student> s = query.from(Student.class);
+        query.select(cb.construct(StudentResponse.class,
+                        s.get("id"), s.get("studentId"), s.get("name"), s.get("birthDate"), s.get("phoneNumber"),
+                        s.get("parentPhoneNumber"), s.get("grade"), s.get("division"), s.get("attendanceCount"),
+                        s.get("averageScore"), s.get("specialNotes"), s.get("createdAt"), s.get("updatedAt")))
+                .where(specification.toPredicate(s, query, cb))
+                .orderBy(cb.asc(s.get("id")));
+        return entityManager.createQuery(query);
+    }
+}
@@ -0,0 +1,40 @@
+package com.aslan.academymanagement.repository;
+
+import com.aslan.academymanagement.domain.Student;
+import com.aslan.academymanagement.dto.StudentSearchCondition;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 학생 목록 조회 조건
+ * - 값이 있는 필터만 WHERE에 넣음 ("(:x IS NULL OR ...)" 형태는 인덱스를 고르기 어렵게 만듦)
+ */
+public final class StudentSpecifications {
+
+    private StudentSpecifications() {
+    }
+
+    public static Specification<Student> matches(StudentSearchCondition condition) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>(3);
+            if (condition.getDivision() != null) {
+                predicates.add(cb.equal(root.get("division"), condition.getDivision()));
+            }
+            if (condition.getGrade() != null) {
+                predicates.add(cb.equal(root.get("grade"), condition.getGrade()));
+            }
+            if (condition.getMinScore() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("averageScore"), condition.getMinScore()));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    // 키셋 페이지: 마지막으로 본 id 이후
+    public static Specification<Student> idAfter(long afterId) {
+        return (root, query, cb) -> cb.greaterThan(root.get("id"), afterId);
+    }
+}
@@ -0,0 +1,13 @@
+package com.aslan.academymanagement.repository;
+
+/**
+ * 수강 대기 (강의 id, 학생 PK, 대기 번호표)만 읽어오는 Projection
+ */
+public interface WaitlistEntryView {
+
+    Long getLectureId();
+
+    Long getStudentId();
+
+    Long getTicket();
+}
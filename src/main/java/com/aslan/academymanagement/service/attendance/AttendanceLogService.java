@@ -0,0 +1,165 @@
+package com.aslan.academymanagement.service.attendance;
+
+import com.aslan.academymanagement.domain.AttendanceDailyRollup;
+import com.aslan.academymanagement.dto.AttendanceSummaryResponse;
+import com.aslan.academymanagement.repository.AttendanceDailyRollupRepository;
+import com.aslan.academymanagement.repository.AttendanceDayView;
+import com.aslan.academymanagement.repository.AttendanceEventRepository;
+import com.aslan.academymanagement.repository.LectureSessionRepository;
+import com.aslan.academymanagement.repository.LectureSessionSlotView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 출석 이벤트 로그 + 일별 집계 관리 서비스
+ *
+ * - 쓰기: 출석 한 번마다 이벤트 INSERT 1회 + 일별 집계 MERGE 1회 (일괄 출석도 동일)
+ * - 읽기: 출석률/출석일은 일별 집계만 조회하므로 기간 내 날짜 수에 비례
+ * - 강의 단위 출석은 그날 생성된 강의 회차(LectureSession)가 있으면 회차에 연결
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AttendanceLogService {
+
+    // 이 시각 이후의 출석은 지각으로 기록
+    public static final LocalTime LATE_AFTER = LocalTime.of(9, 0);
+
+    private final AttendanceEventRepository attendanceEventRepository;
+    private final AttendanceDailyRollupRepository attendanceDailyRollupRepository;
+    private final LectureSessionRepository lectureSessionRepository;
+
+    // 출석률 계산 시 수업일로 간주할 요일
+    @Value("${academy.attendance.class-days:MONDAY,TUESDAY,WEDNESDAY,THURSDAY,FRIDAY}")
+    private Set<DayOfWeek> classDays;
+
+    public static boolean isLate(LocalTime time) {
+        return time.isAfter(LATE_AFTER);
+    }
+
+    /**
+     * 출석 이벤트 기록 (호출한 서비스의 트랜잭션에 참여)
+     *
+     * @param studentIds 출석 처리된 학생 번호 목록
+     * @param lectureId  강의 단위 출석이면 강의 id, 단건 출석이면 null
+     */
+    @Transactional
+    public void record(Collection<String> studentIds, Long lectureId) {
+        if (studentIds.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        boolean late = isLate(now.toLocalTime());
+
+        Long sessionId = lectureId != null ? resolveSessionId(lectureId, now) : null;
+
+        attendanceEventRepository.appendAll(studentIds, lectureId, sessionId, now.toLocalDate(), now, late);
+        attendanceDailyRollupRepository.incrementAll(studentIds, now.toLocalDate());
+    }
+
+    /**
+     * 기간별 출석 요약 (일별 집계만 사용)
+     */
+    @Transactional(readOnly = true)
+    public AttendanceSummaryResponse getSummary(String studentId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("조회 시작일이 종료일보다 늦습니다.");
+        }
+
+        List<AttendanceDailyRollup> rollups =
+                attendanceDailyRollupRepository.findByStudentAndPeriod(studentId, from, to);
+
+        List<LocalDate> attendedDates = rollups.stream()
+                .map(AttendanceDailyRollup::getAttendanceDate)
+                .toList();
+        int checkInCount = rollups.stream()
+                .mapToInt(AttendanceDailyRollup::getCheckInCount)
+                .sum();
+        int classDayCount = countClassDays(from, to);
+        long attendedClassDays = attendedDates.stream()
+                .filter(date -> classDays.contains(date.getDayOfWeek()))
+                .count();
+
+        double attendanceRate = attendanceRate(attendedClassDays, classDayCount);
+
+        return AttendanceSummaryResponse.builder()
+                .studentId(studentId)
+                .from(from)
+                .to(to)
+                .classDays(classDayCount)
+                .attendedDays(attendedDates.size())
+                .checkInCount(checkInCount)
+                .attendanceRate(attendanceRate)
+                .attendedDates(attendedDates)
+                .build();
+    }
+
+    /**
+     * 여러 학생의 이번 달 출석률 (%) - 일별 집계 조회 1회 (학생 수와 무관)
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Double> getMonthToDateRates(Collection<String> studentIds) {
+        if (studentIds.isEmpty()) {
+            return Map.of();
+        }
+        LocalDate today = LocalDate.now();
+        LocalDate from = today.withDayOfMonth(1);
+
+        Map<String, Integer> attendedClassDays = new HashMap<>();
+        studentIds.forEach(studentId -> attendedClassDays.put(studentId, 0));
+        for (AttendanceDayView day : attendanceDailyRollupRepository.findByStudentIdsAndPeriod(studentIds, from, today)) {
+            if (classDays.contains(day.getAttendanceDate().getDayOfWeek())) {
+                attendedClassDays.merge(day.getStudentId(), 1, Integer::sum);
+            }
+        }
+
+        int classDayCount = countClassDays(from, today);
+        Map<String, Double> rates = new HashMap<>();
+        attendedClassDays.forEach((studentId, days) -> rates.put(studentId, attendanceRate(days, classDayCount)));
+        return rates;
+    }
+
+    /**
+     * 출석 시각에 해당하는 강의 회차 (회차가 없으면 null)
+     * - 그날 회차가 여러 개면 이미 시작한 회차 중 가장 늦은 것, 모두 시작 전이면 첫 회차
+     */
+    private Long resolveSessionId(Long lectureId, LocalDateTime at) {
+        List<LectureSessionSlotView> sessions =
+                lectureSessionRepository.findSlotsByLectureAndDate(lectureId, at.toLocalDate());
+        if (sessions.isEmpty()) {
+            return null;
+        }
+        LectureSessionSlotView current = sessions.get(0);
+        for (LectureSessionSlotView session : sessions) {
+            if (session.getStartTime().isAfter(at.toLocalTime())) {
+                break;
+            }
+            current = session;
+        }
+        return current.getId();
+    }
+
+    // 소수점 첫째 자리까지
+    private static double attendanceRate(long attendedClassDays, int classDayCount) {
+        return classDayCount == 0 ? 0.0 : Math.round(attendedClassDays * 1000.0 / classDayCount) / 10.0;
+    }
+
+    private int countClassDays(LocalDate from, LocalDate to) {
+        return (int) from.datesUntil(to.plusDays(1))
+                .filter(date -> classDays.contains(date.getDayOfWeek()))
+                .count();
+    }
+}
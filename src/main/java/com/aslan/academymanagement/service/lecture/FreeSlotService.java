@@ -0,0 +1,101 @@
+package com.aslan.academymanagement.service.lecture;
+
+import com.aslan.academymanagement.domain.Member;
+import com.aslan.academymanagement.dto.FreeSlotResponse;
+import com.aslan.academymanagement.service.lecture.ScheduleConflictIndex.Owner;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 보강 시간 찾기: 강사와 학생들이 모두 비어 있는 주간 시간대
+ *
+ * - 사람마다 요일별 5분 단위 비트맵(ScheduleConflictIndex가 메모리에 보관)을 OR → 바쁜 칸
+ * - 비어 있는 칸이 minMinutes 이상 이어지는 구간만 반환
+ * - DB 조회 없음 (강의 기준 조회는 권한 확인 1회만), 40명이면 long 수천 개 OR 정도
+ * - 다른 사람의 주간 일정이 드러나므로 강사 본인과 담당 강의 수강생만 조회 가능
+ */
+@Service
+@RequiredArgsConstructor
+public class FreeSlotService {
+
+    public static final int MAX_PARTICIPANTS = 500;
+
+    private final ScheduleConflictIndex scheduleConflictIndex;
+    private final LectureStudentService lectureStudentService;
+
+    /**
+     * 강의 담당 강사 + 수강생 전원이 비어 있는 시간
+     */
+    public List<FreeSlotResponse> findForLecture(Member teacher, Long lectureId, int minMinutes,
+                                                 LocalTime dayStart, LocalTime dayEnd) {
+        lectureStudentService.verifyLectureOwner(teacher, lectureId);
+        return find(List.of(teacher.getId()), scheduleConflictIndex.studentsOf(lectureId), minMinutes, dayStart, dayEnd);
+    }
+
+    /**
+     * 로그인한 강사와 지정한 학생(PK)이 모두 비어 있는 시간
+     * - 학생은 이 강사가 담당하는 강의의 수강생만 (다른 강사/학생의 일정이나 없는 학생은 거부)
+     */
+    public List<FreeSlotResponse> findForTeacher(Member teacher, Collection<Long> studentIds, int minMinutes,
+                                                 LocalTime dayStart, LocalTime dayEnd) {
+        Set<Long> taught = scheduleConflictIndex.studentsTaughtBy(teacher.getId());
+        List<Long> others = studentIds.stream().filter(id -> !taught.contains(id)).distinct().toList();
+        if (!others.isEmpty()) {
+            throw new IllegalArgumentException("담당 강의의 수강생만 조회할 수 있습니다. id=" + others);
+        }
+        return find(List.of(teacher.getId()), studentIds, minMinutes, dayStart, dayEnd);
+    }
+
+    /**
+     * 지정한 강사(회원 id)와 학생(PK)이 모두 비어 있는 시간 (권한 확인은 호출한 쪽에서)
+     */
+    public List<FreeSlotResponse> find(Collection<Long> teacherIds, Collection<Long> studentIds, int minMinutes,
+                                       LocalTime dayStart, LocalTime dayEnd) {
+        if (teacherIds.isEmpty() && studentIds.isEmpty()) {
+            throw new IllegalArgumentException("강사 또는 학생을 한 명 이상 지정해야 합니다.");
+        }
+        if (teacherIds.size() + studentIds.size() > MAX_PARTICIPANTS) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_PARTICIPANTS + "명까지 조회할 수 있습니다.");
+        }
+        if (minMinutes < TimeBitmap.SLOT_MINUTES || minMinutes > 24 * 60) {
+            throw new IllegalArgumentException("minMinutes는 " + TimeBitmap.SLOT_MINUTES + "~1440 사이여야 합니다.");
+        }
+        if (!dayStart.isBefore(dayEnd)) {
+            throw new IllegalArgumentException("시작 시간이 종료 시간보다 빨라야 합니다.");
+        }
+
+        long[][] busy = new long[DayOfWeek.values().length][TimeBitmap.WORDS];
+        teacherIds.forEach(id -> scheduleConflictIndex.orBusy(Owner.TEACHER, id, busy));
+        studentIds.forEach(id -> scheduleConflictIndex.orBusy(Owner.STUDENT, id, busy));
+
+        // 시작은 다음 칸 경계로 올림, 끝은 이전 칸 경계로 내림 (찾은 시간이 범위를 벗어나지 않도록)
+        int firstSlot = TimeBitmap.slotOf(dayStart) + (dayStart.toSecondOfDay() % (TimeBitmap.SLOT_MINUTES * 60) == 0 ? 0 : 1);
+        int lastSlot = dayEnd.equals(LocalTime.MAX) ? TimeBitmap.SLOTS_PER_DAY : TimeBitmap.slotOf(dayEnd);
+        int needed = (minMinutes + TimeBitmap.SLOT_MINUTES - 1) / TimeBitmap.SLOT_MINUTES;
+
+        List<FreeSlotResponse> slots = new ArrayList<>();
+        for (DayOfWeek day : DayOfWeek.values()) {
+            long[] bits = busy[day.ordinal()];
+            int runStart = -1;
+            for (int slot = firstSlot; slot <= lastSlot; slot++) {
+                boolean free = slot < lastSlot && !TimeBitmap.isSet(bits, slot);
+                if (free && runStart < 0) {
+                    runStart = slot;
+                } else if (!free && runStart >= 0) {
+                    if (slot - runStart >= needed) {
+                        slots.add(new FreeSlotResponse(day, TimeBitmap.timeOf(runStart), TimeBitmap.timeOf(slot)));
+                    }
+                    runStart = -1;
+                }
+            }
+        }
+        return slots;
+    }
+}
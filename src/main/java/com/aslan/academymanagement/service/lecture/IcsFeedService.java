@@ -0,0 +1,297 @@
+package com.aslan.academymanagement.service.lecture;
+
+import com.aslan.academymanagement.domain.Lecture;
+import com.aslan.academymanagement.domain.LectureSchedule;
+import com.aslan.academymanagement.event.EnrollmentChangedEvent;
+import com.aslan.academymanagement.event.LectureChangedEvent;
+import com.aslan.academymanagement.domain.Student;
+import com.aslan.academymanagement.repository.LectureRepository;
+import com.aslan.academymanagement.repository.StudentRepository;
+import com.aslan.academymanagement.service.student.StudentCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * iCalendar(.ics) 구독 피드
+ *
+ * - 스케줄 하나 = VEVENT 하나 + 매주 반복(RRULE). 회차를 펼치지 않으므로 기간과 무관하게 크기가 일정
+ * - 문서를 메모리에 만들지 않고 한 줄씩 응답 스트림에 씀
+ * - 휴대폰 캘린더 앱은 인증 헤더를 보낼 수 없으므로, 피드 URL에 서명 토큰을 넣어 구독 (HMAC, 만료 없음)
+ *   서명 키는 jwt.secret에서 용도 라벨로 파생한 별도 키 (피드 토큰으로 JWT 서명을 만들 수 없음)
+ * - 학생 구독 주소는 그 학생이 듣는 강의의 담당 강사에게만 발급하고, 토큰에 학생별 세대를 넣어
+ *   재발급하면 이전 주소는 바로 무효 (주소가 새어 나가면 재발급으로 폐기)
+ * - ETag: 강사 피드는 강사별 버전, 학생 피드는 학생별 버전
+ *   (수강 변경은 그 학생만, 강의 변경은 그 강의의 수강생만 증가)
+ *   → 바뀌지 않았으면 DB 접근 없이 304 (학생 번호 → PK는 StudentCache)
+ */
+@Service
+public class IcsFeedService {
+
+    private static final String PRODUCT_ID = "-//ACAIT//Academy Management//KO";
+    private static final int MAX_LINE_OCTETS = 75;
+    private static final DateTimeFormatter LOCAL_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final String[] BY_DAY = {"MO", "TU", "WE", "TH", "FR", "SA", "SU"};
+    private static final String TOKEN_KEY_LABEL = "calendar-feed-token-key";
+
+    private final LectureRepository lectureRepository;
+    private final StudentRepository studentRepository;
+    private final LectureCalendarService lectureCalendarService;
+    private final ScheduleConflictIndex scheduleConflictIndex;
+    private final StudentCache studentCache;
+    private final ZoneId zone;
+    private final SecretKeySpec tokenKey;
+
+    // 재시작 후 버전이 0부터 다시 시작해도 이전 ETag와 겹치지 않도록 기동 시각을 섞음
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    // 학생 PK -> 학생 피드 버전 (그 학생의 수강/강의 정보가 바뀔 때만 증가)
+    private final Map<Long, AtomicLong> studentFeedVersions = new ConcurrentHashMap<>();
+
+    public IcsFeedService(
+            LectureRepository lectureRepository,
+            StudentRepository studentRepository,
+            LectureCalendarService lectureCalendarService,
+            ScheduleConflictIndex scheduleConflictIndex,
+            StudentCache studentCache,
+            @Value("${academy.timezone:Asia/Seoul}") String timezone,
+            @Value("${jwt.secret}") String secret
+    ) {
+        this.lectureRepository = lectureRepository;
+        this.studentRepository = studentRepository;
+        this.lectureCalendarService = lectureCalendarService;
+        this.scheduleConflictIndex = scheduleConflictIndex;
+        this.studentCache = studentCache;
+        this.zone = ZoneId.of(timezone);
+        this.tokenKey = deriveKey(Base64.getDecoder().decode(secret));
+    }
+
+    // ===== 구독 토큰 =====
+
+    public String teacherToken(Long teacherId) {
+        return sign("teacher:" + teacherId);
+    }
+
+    /**
+     * 학생 구독 토큰 발급 (그 학생이 듣는 강의의 담당 강사만)
+     */
+    public String issueStudentToken(Long teacherId, String studentId) {
+        return studentToken(verifyTeaches(teacherId, studentId));
+    }
+
+    /**
+     * 학생 구독 토큰 재발급: 세대를 올려 이전 주소를 무효로 만들고 새 토큰 반환
+     */
+    @Transactional
+    public String rotateStudentToken(Long teacherId, String studentId) {
+        verifyTeaches(teacherId, studentId);
+        studentRepository.rotateCalendarFeed(studentId);
+        // 커밋 전에 캐시에 다시 올라간 이전 세대도 지우도록 커밋 후 제거
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                studentCache.evict(studentId);
+            }
+        });
+        return studentToken(studentRepository.findByStudentId(studentId).orElseThrow());
+    }
+
+    public boolean isValidTeacherToken(Long teacherId, String token) {
+        return matches(teacherToken(teacherId), token);
+    }
+
+    public boolean isValidStudentToken(String studentId, String token) {
+        return studentCache.get(studentId)
+                .map(student -> matches(studentToken(student), token))
+                .orElse(false);
+    }
+
+    String studentToken(Student student) {
+        return sign("student:" + student.getStudentId() + ":" + student.getCalendarFeedRotation());
+    }
+
+    private Student verifyTeaches(Long teacherId, String studentId) {
+        Student student = studentCache.get(studentId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 학생이 없습니다. studentId=" + studentId));
+        if (!scheduleConflictIndex.studentsTaughtBy(teacherId).contains(student.getId())) {
+            throw new IllegalArgumentException("담당 강의의 수강생만 구독 주소를 발급할 수 있습니다.");
+        }
+        return student;
+    }
+
+    // ===== ETag =====
+
+    public String teacherEtag(Long teacherId) {
+        return "\"ics-" + lectureCalendarService.getVersionTag(teacherId) + "\"";
+    }
+
+    public String studentEtag(String studentId) {
+        long version = studentCache.get(studentId)
+                .map(student -> studentFeedVersion(student.getId()))
+                .orElse(0L);
+        return "\"ics-" + epoch + "-" + studentId + "-" + version + "\"";
+    }
+
+    long studentFeedVersion(Long studentId) {
+        AtomicLong version = studentFeedVersions.get(studentId);
+        return version != null ? version.get() : 0L;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLectureChanged(LectureChangedEvent event) {
+        scheduleConflictIndex.studentsOf(event.lectureId()).forEach(this::bumpStudentFeed);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEnrollmentChanged(EnrollmentChangedEvent event) {
+        bumpStudentFeed(event.studentId());
+    }
+
+    private void bumpStudentFeed(Long studentId) {
+        studentFeedVersions.computeIfAbsent(studentId, id -> new AtomicLong()).incrementAndGet();
+    }
+
+    // ===== 피드 =====
+
+    public void writeTeacherFeed(Long teacherId, Writer out) throws IOException {
+        write("내 강의", lectureRepository.findAllWithSchedulesByTeacherId(teacherId), out);
+    }
+
+    public void writeStudentFeed(String studentId, Writer out) throws IOException {
+        write(studentId + " 시간표", lectureRepository.findAllWithSchedulesByStudentId(studentId), out);
+    }
+
+    private void write(String calendarName, List<Lecture> lectures, Writer out) throws IOException {
+        String dtStamp = LocalDateTime.now(ZoneOffset.UTC).format(LOCAL_DATE_TIME) + "Z";
+
+        line(out, "BEGIN:VCALENDAR");
+        line(out, "VERSION:2.0");
+        line(out, "PRODID:" + PRODUCT_ID);
+        line(out, "CALSCALE:GREGORIAN");
+        line(out, "X-WR-CALNAME:" + escape(calendarName));
+        line(out, "X-WR-TIMEZONE:" + zone.getId());
+        writeTimezone(out);
+
+        for (Lecture lecture : lectures) {
+            // 반복 시작일: 강의가 만들어진 주
+            LocalDate firstWeek = lecture.getCreatedAt() != null
+                    ? lecture.getCreatedAt().toLocalDate()
+                    : LocalDate.now(zone);
+            for (LectureSchedule schedule : lecture.getSchedules()) {
+                LocalDate first = firstWeek.with(TemporalAdjusters.nextOrSame(schedule.getDayOfWeek()));
+                line(out, "BEGIN:VEVENT");
+                line(out, "UID:lecture-" + lecture.getId() + "-schedule-" + schedule.getId() + "@acait");
+                line(out, "DTSTAMP:" + dtStamp);
+                line(out, "DTSTART;TZID=" + zone.getId() + ":" + LocalDateTime.of(first, schedule.getStartTime()).format(LOCAL_DATE_TIME));
+                line(out, "DTEND;TZID=" + zone.getId() + ":" + LocalDateTime.of(first, schedule.getEndTime()).format(LOCAL_DATE_TIME));
+                line(out, "RRULE:FREQ=WEEKLY;BYDAY=" + BY_DAY[schedule.getDayOfWeek().ordinal()]);
+                line(out, "SUMMARY:" + escape(lecture.getTitle()));
+                line(out, "CATEGORIES:" + escape(lecture.getSubject().name()));
+                line(out, "END:VEVENT");
+            }
+        }
+        line(out, "END:VCALENDAR");
+        out.flush();
+    }
+
+    // 앞으로 시차 변경이 없는 지역(Asia/Seoul 등)만 VTIMEZONE을 직접 씀. 그 외에는 클라이언트의 TZID 해석에 맡김
+    private void writeTimezone(Writer out) throws IOException {
+        Instant now = Instant.now();
+        if (zone.getRules().nextTransition(now) != null) {
+            return;
+        }
+        String offset = zone.getRules().getOffset(now).getId().replace(":", "");
+        if (offset.equals("Z")) {
+            offset = "+0000";
+        }
+        line(out, "BEGIN:VTIMEZONE");
+        line(out, "TZID:" + zone.getId());
+        line(out, "BEGIN:STANDARD");
+        line(out, "DTSTART:19700101T000000");
+        line(out, "TZOFFSETFROM:" + offset);
+        line(out, "TZOFFSETTO:" + offset);
+        line(out, "END:STANDARD");
+        line(out, "END:VTIMEZONE");
+    }
+
+    /**
+     * 한 줄 쓰기 (RFC 5545: 75옥텟을 넘으면 CRLF + 공백으로 접음, UTF-8 문자 중간에서는 자르지 않음)
+     */
+    static void line(Writer out, String content) throws IOException {
+        int octets = 0;
+        for (int i = 0; i < content.length(); i++) {
+            char c = content.charAt(i);
+            int size = c < 0x80 ? 1 : c < 0x800 ? 2 : Character.isHighSurrogate(c) ? 4 : 3;
+            if (octets + size > MAX_LINE_OCTETS) {
+                out.write("\r\n ");
+                octets = 1;
+            }
+            out.write(c);
+            if (Character.isHighSurrogate(c) && i + 1 < content.length()) {
+                out.write(content.charAt(++i));
+            }
+            octets += size;
+        }
+        out.write("\r\n");
+    }
+
+    static String escape(String text) {
+        return text.replace("\\", "\\\\")
+                .replace(";", "\\;")
+                .replace(",", "\\,")
+                .replace("\r\n", "\\n")
+                .replace("\n", "\\n");
+    }
+
+    // jwt.secret을 그대로 쓰지 않고 용도 라벨을 HMAC해서 피드 토큰 전용 키를 만듦
+    private static SecretKeySpec deriveKey(byte[] secret) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret, "HmacSHA256"));
+            return new SecretKeySpec(mac.doFinal(TOKEN_KEY_LABEL.getBytes(StandardCharsets.UTF_8)), "HmacSHA256");
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("피드 토큰 키를 만들 수 없습니다.", e);
+        }
+    }
+
+    private String sign(String subject) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(tokenKey);
+            byte[] signature = mac.doFinal(("calendar-feed:" + subject).getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("피드 토큰을 만들 수 없습니다.", e);
+        }
+    }
+
+    // 상수 시간 비교 (응답 시간으로 토큰을 추측할 수 없도록)
+    private static boolean matches(String expected, String token) {
+        return token != null && MessageDigest.isEqual(
+                expected.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,192 @@
+package com.aslan.academymanagement.service.lecture;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+/**
+ * 시간 구간 집합 (구간 트리, 트립 + 서브트리 최대 종료 시각)
+ *
+ * - 시작 시각 순으로 정렬된 트립. 각 노드가 서브트리의 가장 늦은 종료 시각을 들고 있어서
+ *   "겹치는 구간이 있는가"를 O(log n)에 확인
+ * - 구간은 [start, end) 반열린 구간 → 끝나는 시각에 바로 시작하는 수업은 겹치지 않음
+ * - 같은 (start, end, id)는 한 번만 저장
+ * - 스레드 안전하지 않음 (호출하는 쪽에서 잠금)
+ */
+class IntervalTree {
+
+    record Interval(int start, int end, long id) {
+    }
+
+    private static final class Node {
+        private final Interval interval;
+        private final int priority = ThreadLocalRandom.current().nextInt();
+        private int maxEnd;
+        private Node left;
+        private Node right;
+
+        private Node(Interval interval) {
+            this.interval = interval;
+            this.maxEnd = interval.end();
+        }
+    }
+
+    private Node root;
+    private int size;
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * [start, end)와 겹치는 구간 하나 (없으면 null)
+     */
+    public Interval findOverlap(int start, int end) {
+        Node node = root;
+        while (node != null) {
+            if (node.interval.start() < end && start < node.interval.end()) {
+                return node.interval;
+            }
+            // 왼쪽에 start 이후에 끝나는 구간이 있으면 왼쪽만 보면 됨
+            // (왼쪽에서 못 찾았다면 그 구간은 end 이후에 시작하므로 오른쪽 구간도 모두 end 이후에 시작)
+            node = node.left != null && node.left.maxEnd > start ? node.left : node.right;
+        }
+        return null;
+    }
+
+    /**
+     * 모든 구간을 시작 시각 순으로 방문
+     */
+    public void forEach(Consumer<Interval> action) {
+        forEach(root, action);
+    }
+
+    public boolean insert(int start, int end, long id) {
+        Interval interval = new Interval(start, end, id);
+        if (contains(interval)) {
+            return false;
+        }
+        root = insert(root, new Node(interval));
+        size++;
+        return true;
+    }
+
+    public boolean remove(int start, int end, long id) {
+        Interval interval = new Interval(start, end, id);
+        if (!contains(interval)) {
+            return false;
+        }
+        root = delete(root, interval);
+        size--;
+        return true;
+    }
+
+    private boolean contains(Interval interval) {
+        Node node = root;
+        while (node != null) {
+            int cmp = compare(interval, node.interval);
+            if (cmp == 0) {
+                return true;
+            }
+            node = cmp < 0 ? node.left : node.right;
+        }
+        return false;
+    }
+
+    private static void forEach(Node node, Consumer<Interval> action) {
+        if (node == null) {
+            return;
+        }
+        forEach(node.left, action);
+        action.accept(node.interval);
+        forEach(node.right, action);
+    }
+
+    private static Node insert(Node node, Node inserted) {
+        if (node == null) {
+            return inserted;
+        }
+        if (compare(inserted.interval, node.interval) < 0) {
+            node.left = insert(node.left, inserted);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, inserted);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        update(node);
+        return node;
+    }
+
+    private static Node delete(Node node, Interval interval) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(interval, node.interval);
+        if (cmp < 0) {
+            node.left = delete(node.left, interval);
+        } else if (cmp > 0) {
+            node.right = delete(node.right, interval);
+        } else {
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            if (node.left.priority > node.right.priority) {
+                node = rotateRight(node);
+                node.right = delete(node.right, interval);
+            } else {
+                node = rotateLeft(node);
+                node.left = delete(node.left, interval);
+            }
+        }
+        update(node);
+        return node;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node left = node.left;
+        node.left = left.right;
+        left.right = node;
+        update(node);
+        update(left);
+        return left;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node right = node.right;
+        node.right = right.left;
+        right.left = node;
+        update(node);
+        update(right);
+        return right;
+    }
+
+    private static void update(Node node) {
+        int maxEnd = node.interval.end();
+        if (node.left != null) {
+            maxEnd = Math.max(maxEnd, node.left.maxEnd);
+        }
+        if (node.right != null) {
+            maxEnd = Math.max(maxEnd, node.right.maxEnd);
+        }
+        node.maxEnd = maxEnd;
+    }
+
+    // 시작 시각 → 종료 시각 → id 순
+    private static int compare(Interval a, Interval b) {
+        int cmp = Integer.compare(a.start(), b.start());
+        if (cmp == 0) {
+            cmp = Integer.compare(a.end(), b.end());
+        }
+        return cmp != 0 ? cmp : Long.compare(a.id(), b.id());
+    }
+}
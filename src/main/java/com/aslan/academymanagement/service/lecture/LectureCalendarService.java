@@ -0,0 +1,235 @@
+package com.aslan.academymanagement.service.lecture;
+
+import com.aslan.academymanagement.domain.Lecture;
+import com.aslan.academymanagement.domain.LectureSchedule;
+import com.aslan.academymanagement.domain.enums.Subject;
+import com.aslan.academymanagement.dto.LectureEventDto;
+import com.aslan.academymanagement.event.LectureChangedEvent;
+import com.aslan.academymanagement.repository.LectureRepository;
+import com.aslan.academymanagement.repository.MemberRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 강사별 달력 이벤트 (반복 스케줄을 기간에 맞춰 전개)
+ *
+ * - 강사의 주간 스케줄(템플릿)은 DB에서 한 번 읽어 캐시
+ * - 주 단위로 전개한 결과도 주 시작일 키로 강사별 캐시 → 월/학기 보기를 반복 조회해도 다시 계산하지 않음
+ * - 요청 기간은 주 단위로 하나씩 전개하면서 바로 JSON으로 씀 (전체 목록을 만들지 않음)
+ * - LectureChangedEvent를 받으면 해당 강사의 캐시를 통째로 버림
+ *   (버리기 직전에 계산 중이던 주는 버려진 쪽에 들어가므로 오래된 값이 남지 않음)
+ * - 강사별 버전은 변경 때마다 증가하며, ETag = (기동 시각, 강사, 버전, 기간)
+ *   → 바뀌지 않은 달력을 다시 요청하면 DB 접근 없이 304로 응답 가능
+ */
+@Service
+public class LectureCalendarService {
+
+    public static final int MAX_RANGE_DAYS = 366;
+
+    private static final int MAX_CACHED_TEACHERS = 1_000;
+    private static final int MAX_CACHED_WEEKS_PER_TEACHER = 120;
+
+    private final LectureRepository lectureRepository;
+    private final MemberRepository memberRepository;
+    private final ObjectMapper objectMapper;
+
+    // 재시작 후 버전이 0부터 다시 시작해도 이전 ETag와 겹치지 않도록 기동 시각을 섞음
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    // 강사 id -> 달력 버전 (강의가 바뀔 때마다 증가)
+    private final Map<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    // 이메일 -> 강사 id (회원 이메일은 바뀌지 않으므로 한 번만 조회)
+    private final Map<String, Long> teacherIds = new ConcurrentHashMap<>();
+
+    private final AtomicLong notModifiedCount = new AtomicLong();
+    private final AtomicLong renderedCount = new AtomicLong();
+
+    // 강사 id -> 주간 스케줄 + 전개된 주 (버전별 스냅숏)
+    private final Cache<Long, TeacherCalendar> calendars;
+
+    public LectureCalendarService(LectureRepository lectureRepository, MemberRepository memberRepository,
+                                  ObjectMapper objectMapper) {
+        this.lectureRepository = lectureRepository;
+        this.memberRepository = memberRepository;
+        this.objectMapper = objectMapper;
+        this.calendars = Caffeine.newBuilder()
+                .maximumSize(MAX_CACHED_TEACHERS)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 로그인 이메일로 강사 id 조회 (처음 한 번만 DB 조회)
+     */
+    public Long resolveTeacherId(String email) {
+        Long cached = teacherIds.get(email);
+        if (cached != null) {
+            return cached;
+        }
+        Long id = memberRepository.findByEmail(email)
+                .orElseThrow(() -> new IllegalArgumentException("해당 사용자가 없습니다."))
+                .getId();
+        teacherIds.put(email, id);
+        return id;
+    }
+
+    /**
+     * 달력 응답의 강한 ETag (DB 접근 없음)
+     * - 먼저 버전을 읽고 나서 내용을 만들므로, 내용이 ETag보다 오래된 경우는 생기지 않음
+     */
+    public String getEtag(Long teacherId, LocalDate from, LocalDate to) {
+        return "\"" + getVersionTag(teacherId) + "-" + from + "-" + to + "\"";
+    }
+
+    /**
+     * 강사 강의 목록의 현재 버전 (기동 시각 포함, 다른 피드의 ETag에도 사용)
+     */
+    public String getVersionTag(Long teacherId) {
+        return epoch + "-" + teacherId + "-" + versions.computeIfAbsent(teacherId, id -> new AtomicLong()).get();
+    }
+
+    public void recordNotModified() {
+        notModifiedCount.incrementAndGet();
+    }
+
+    /**
+     * from ~ to (양 끝 포함) 기간의 강의 회차를 JSON 배열로 스트리밍
+     */
+    public void writeEvents(Long teacherId, LocalDate from, LocalDate to, OutputStream out) throws IOException {
+        renderedCount.incrementAndGet();
+        try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+            generator.writeStartArray();
+            expand(teacherId, from, to).forEach(event -> {
+                try {
+                    generator.writeObject(event);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            generator.writeEndArray();
+        }
+    }
+
+    /**
+     * 기간 내 회차를 날짜/시작 시간 순으로 지연 생성
+     */
+    public Stream<LectureEventDto> expand(Long teacherId, LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        LocalDate firstMonday = from.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        long weekCount = ChronoUnit.WEEKS.between(firstMonday, to) + 1;
+
+        TeacherCalendar calendar = getCalendar(teacherId);
+        return Stream.iterate(firstMonday, monday -> monday.plusWeeks(1))
+                .limit(weekCount)
+                .flatMap(monday -> calendar.week(monday).stream())
+                .filter(occurrence -> !occurrence.date().isBefore(from) && !occurrence.date().isAfter(to))
+                .map(Occurrence::event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLectureChanged(LectureChangedEvent event) {
+        // 캐시를 먼저 버리고 버전을 올림 (새 버전을 읽은 요청은 반드시 새 내용을 만듦)
+        calendars.invalidate(event.teacherId());
+        versions.computeIfAbsent(event.teacherId(), id -> new AtomicLong()).incrementAndGet();
+    }
+
+    /**
+     * 스냅숏 적중률 (크기 조정 / 모니터링용)
+     * - notModified: ETag 일치로 본문 없이 응답한 횟수
+     * - rendered: 본문을 만든 횟수, snapshotHit/Miss: 그때 스냅숏 재사용/재구성 횟수
+     */
+    public Map<String, Object> getStats() {
+        CacheStats stats = calendars.stats();
+        long notModified = notModifiedCount.get();
+        long rendered = renderedCount.get();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("teachers", calendars.estimatedSize());
+        result.put("notModified", notModified);
+        result.put("rendered", rendered);
+        result.put("notModifiedRate", notModified + rendered == 0 ? 0.0 : (double) notModified / (notModified + rendered));
+        result.put("snapshotHit", stats.hitCount());
+        result.put("snapshotMiss", stats.missCount());
+        result.put("snapshotHitRate", stats.hitRate());
+        result.put("snapshotEviction", stats.evictionCount());
+        return result;
+    }
+
+    private TeacherCalendar getCalendar(Long teacherId) {
+        return calendars.get(teacherId, id -> new TeacherCalendar(
+                lectureRepository.findAllWithSchedulesByTeacherId(id).stream()
+                        .flatMap(lecture -> lecture.getSchedules().stream()
+                                .map(schedule -> WeeklySlot.of(lecture, schedule)))
+                        .toList()));
+    }
+
+    private static void validateRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("시작일이 종료일보다 늦을 수 없습니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("조회 기간은 최대 " + MAX_RANGE_DAYS + "일입니다.");
+        }
+    }
+
+    private record WeeklySlot(String title, Subject subject, DayOfWeek dayOfWeek, LocalTime startTime, LocalTime endTime) {
+        static WeeklySlot of(Lecture lecture, LectureSchedule schedule) {
+            return new WeeklySlot(lecture.getTitle(), lecture.getSubject(),
+                    schedule.getDayOfWeek(), schedule.getStartTime(), schedule.getEndTime());
+        }
+    }
+
+    private static class TeacherCalendar {
+        private final List<WeeklySlot> slots;
+        private final Map<LocalDate, List<Occurrence>> weeks = new ConcurrentHashMap<>();
+
+        TeacherCalendar(List<WeeklySlot> slots) {
+            this.slots = slots;
+        }
+
+        List<Occurrence> week(LocalDate monday) {
+            List<Occurrence> cached = weeks.get(monday);
+            if (cached != null) {
+                return cached;
+            }
+            List<Occurrence> expanded = slots.stream()
+                    .map(slot -> {
+                        LocalDate date = monday.with(TemporalAdjusters.nextOrSame(slot.dayOfWeek()));
+                        return new Occurrence(date, slot.startTime(), LectureEventDto.of(
+                                slot.title(), slot.subject(), date, slot.startTime(), slot.endTime()));
+                    })
+                    .sorted(Comparator.comparing(Occurrence::date).thenComparing(Occurrence::startTime))
+                    .toList();
+            // 한 강사가 너무 많은 주를 쌓지 않도록 상한을 넘으면 캐시하지 않고 계산만
+            if (weeks.size() < MAX_CACHED_WEEKS_PER_TEACHER) {
+                weeks.putIfAbsent(monday, expanded);
+            }
+            return expanded;
+        }
+    }
+
+    private record Occurrence(LocalDate date, LocalTime startTime, LectureEventDto event) {
+    }
+}
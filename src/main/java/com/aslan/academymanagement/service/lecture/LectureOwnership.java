@@ -0,0 +1,95 @@
+package com.aslan.academymanagement.service.lecture;
+
+import com.aslan.academymanagement.domain.Member;
+import com.aslan.academymanagement.repository.LectureRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 강의 담당 강사 캐시 (강의 id → 강사 회원 id)
+ *
+ * - 강의 단위 API의 권한 확인이 요청마다 강의를 조회하지 않고 해시 조회 한 번으로 끝남
+ * - 처음 확인할 때 강사 id만 조회해서 채우고, 강의를 만들 때 바로 넣음 (롤백되면 제거)
+ * - 강의를 지우거나 담당 강사를 바꾸는 쪽은 같은 트랜잭션 안에서 evict 호출
+ * - 애플리케이션 인스턴스가 하나라는 전제 (LectureSeatCounter와 동일)
+ */
+@Component
+public class LectureOwnership {
+
+    private final LectureRepository lectureRepository;
+    private final Map<Long, Long> teachers = new ConcurrentHashMap<>();
+
+    public LectureOwnership(LectureRepository lectureRepository) {
+        this.lectureRepository = lectureRepository;
+    }
+
+    /**
+     * 강사 본인의 강의가 아니면 예외 (없는 강의도 예외)
+     */
+    public void verify(Member teacher, Long lectureId) {
+        Long teacherId = teacherOf(lectureId);
+        if (teacherId == null) {
+            throw new IllegalArgumentException("해당 강의가 없습니다. id=" + lectureId);
+        }
+        // 강사 본인의 강의인지 확인 (관리자는 패스하는 로직 추가 가능)
+        if (!teacherId.equals(teacher.getId())) {
+            throw new IllegalArgumentException("해당 강의에 대한 권한이 없습니다.");
+        }
+    }
+
+    /**
+     * 담당 강사 회원 id (강의가 없거나 담당 강사가 없으면 null)
+     */
+    public Long teacherOf(Long lectureId) {
+        Long teacherId = teachers.get(lectureId);
+        if (teacherId != null) {
+            return teacherId;
+        }
+        // computeIfAbsent 안에서 조회하면 같은 칸의 다른 강의까지 조회가 끝날 때까지 막힘
+        teacherId = lectureRepository.findTeacherIdById(lectureId).orElse(null);
+        if (teacherId == null) {
+            return null;
+        }
+        Long previous = teachers.putIfAbsent(lectureId, teacherId);
+        return previous != null ? previous : teacherId;
+    }
+
+    /**
+     * 새 강의 등록 (강의 저장 트랜잭션 안에서 호출, 롤백되면 제거)
+     */
+    public void put(Long lectureId, Long teacherId) {
+        teachers.put(lectureId, teacherId);
+        afterCompletion(committed -> {
+            if (!committed) {
+                teachers.remove(lectureId);
+            }
+        });
+    }
+
+    /**
+     * 강의 삭제/담당 강사 변경 시 호출
+     * - 바로 지우고 트랜잭션이 끝난 뒤 한 번 더 지움
+     *   (커밋 전에 다른 요청이 옛 강사로 다시 채웠을 수 있음)
+     */
+    public void evict(Long lectureId) {
+        teachers.remove(lectureId);
+        afterCompletion(committed -> teachers.remove(lectureId));
+    }
+
+    private static void afterCompletion(Consumer<Boolean> action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                action.accept(status == STATUS_COMMITTED);
+            }
+        });
+    }
+}
@@ -0,0 +1,143 @@
+package com.aslan.academymanagement.service.lecture;
+
+import com.aslan.academymanagement.repository.LectureRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 강의별 정원 카운터 (수강 신청 몰림 대비)
+ *
+ * - 강의마다 AtomicInteger 하나, CAS로 자리를 잡음 → DB 잠금 없이 즉시 허용/거절
+ * - 처음 쓰일 때 저장된 수강생 수(Lecture.enrolledCount)로 초기화하고, 이후 모든 등록/취소는 이 카운터를 거침
+ *   (시작 시 enrolledCount와 실제 수강생 행 수가 다른 강의가 있으면 경고 로그)
+ * - 잡은 자리는 트랜잭션이 커밋되지 않으면(중복 등록 uk_lecture_student 위반 포함) 반납,
+ *   수강 취소는 커밋 후 반납 → 카운터 = 커밋된 수강생 + 진행 중인 등록
+ * - 애플리케이션 인스턴스가 하나라는 전제 (여러 대라면 DB 조건부 UPDATE가 필요)
+ */
+@Slf4j
+@Component
+public class LectureSeatCounter {
+
+    private final LectureRepository lectureRepository;
+    private final Map<Long, AtomicInteger> taken = new ConcurrentHashMap<>();
+
+    public LectureSeatCounter(LectureRepository lectureRepository) {
+        this.lectureRepository = lectureRepository;
+    }
+
+    /**
+     * 저장된 수강생 수 점검 (카운터가 COUNT(*) 대신 이 값으로 시작하므로 어긋난 강의를 알림)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void verifyEnrolledCounts() {
+        List<Long> mismatched = lectureRepository.findIdsWithEnrolledCountMismatch();
+        if (!mismatched.isEmpty()) {
+            log.warn("🪑 수강생 수(enrolledCount)가 실제 수강생 수와 다른 강의: {}", mismatched);
+        }
+    }
+
+    /**
+     * 자리 하나를 잡음 (정원이 찼으면 false). 트랜잭션 안이면 롤백 시 자동 반납
+     */
+    public boolean tryAcquire(Long lectureId, int capacity) {
+        if (acquire(lectureId, capacity, 1) == 0) {
+            return false;
+        }
+        settle(lectureId, 1, 1);
+        return true;
+    }
+
+    /**
+     * 남은 자리 안에서 최대 count개를 한 번에 잡음 (일괄 등록용)
+     * - 잡은 자리는 반드시 settle로 정리해야 함
+     *
+     * @return 실제로 잡은 자리 수
+     */
+    public int acquire(Long lectureId, int capacity, int count) {
+        AtomicInteger seats = seats(lectureId);
+        while (true) {
+            int current = seats.get();
+            int granted = Math.min(count, capacity - current);
+            if (granted <= 0) {
+                return 0;
+            }
+            if (seats.compareAndSet(current, current + granted)) {
+                return granted;
+            }
+        }
+    }
+
+    /**
+     * acquire로 잡은 자리 정리: 쓰지 않은 자리는 바로 반납하고,
+     * 쓴 자리는 트랜잭션이 커밋되지 않으면 반납
+     */
+    public void settle(Long lectureId, int acquired, int used) {
+        release(lectureId, acquired - used);
+        if (used > 0 && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        release(lectureId, used);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * 수강 취소 반영 (트랜잭션 안이면 커밋 후 반납)
+     */
+    public void releaseAfterCommit(Long lectureId) {
+        releaseAfterCommit(lectureId, 1);
+    }
+
+    public void releaseAfterCommit(Long lectureId, int count) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    release(lectureId, count);
+                }
+            });
+        } else {
+            release(lectureId, count);
+        }
+    }
+
+    /**
+     * 현재 잡힌 자리 수 (아직 카운터가 없으면 저장된 수강생 수 기준)
+     */
+    public int taken(Long lectureId) {
+        return seats(lectureId).get();
+    }
+
+    private void release(Long lectureId, int count) {
+        AtomicInteger seats = taken.get(lectureId);
+        if (seats != null && count > 0) {
+            seats.updateAndGet(current -> Math.max(0, current - count));
+        }
+    }
+
+    // DB 조회는 잠금 밖에서 하고, 동시에 만들어졌으면 먼저 등록된 카운터를 사용
+    private AtomicInteger seats(Long lectureId) {
+        AtomicInteger seats = taken.get(lectureId);
+        if (seats != null) {
+            return seats;
+        }
+        AtomicInteger loaded = new AtomicInteger(lectureRepository.findEnrolledCountById(lectureId).orElse(0));
+        seats = taken.putIfAbsent(lectureId, loaded);
+        return seats != null ? seats : loaded;
+    }
+}
@@ -1,9 +1,10 @@
 package com.aslan.academymanagement.service.lecture;
 
 import com.aslan.academymanagement.domain.Member;
-import com.aslan.academymanagement.dto.LectureEventDto;
+import com.aslan.academymanagement.dto.CursorPage;
 import com.aslan.academymanagement.dto.LectureRequest;
 import com.aslan.academymanagement.dto.LectureResponse;
+import com.aslan.academymanagement.dto.LectureSearchCondition;
 
 import java.util.List;
 
@@ -19,5 +20,6 @@ public interface LectureService {
 
     LectureResponse retrieveLecture(Long lectureId);
 
-    List<LectureEventDto> getLectureEvents(); // 달력용 데이터 조회
+    // 강의 카탈로그 (필터 + 커서 페이지)
+    CursorPage<LectureResponse> retrieveCatalog(LectureSearchCondition condition, String cursor, int size);
 }
@@ -4,27 +4,38 @@ import com.aslan.academymanagement.annotation.Loggable;
 import com.aslan.academymanagement.domain.Lecture;
 import com.aslan.academymanagement.domain.LectureSchedule;
 import com.aslan.academymanagement.domain.Member;
-import com.aslan.academymanagement.dto.LectureEventDto;
+import com.aslan.academymanagement.dto.CursorPage;
 import com.aslan.academymanagement.dto.LectureRequest;
 import com.aslan.academymanagement.dto.LectureResponse;
+import com.aslan.academymanagement.dto.LectureSearchCondition;
+import com.aslan.academymanagement.event.LectureChangedEvent;
 import com.aslan.academymanagement.repository.LectureRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class LectureServiceImpl implements LectureService {
 
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final LectureRepository lectureRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ScheduleConflictIndex scheduleConflictIndex;
+    private final LectureOwnership lectureOwnership;
 
     @Transactional
     @Loggable
     @Override
     public LectureResponse createLecture(Member teacher, LectureRequest req) {
+        if (req.getCapacity() != null && req.getCapacity() < 1) {
+            throw new IllegalArgumentException("정원은 1명 이상이어야 합니다.");
+        }
+
         // 강의 추가
         Lecture lecture = req.toLecture();
 
@@ -39,6 +50,10 @@ public class LectureServiceImpl implements LectureService {
         }
         // 강의 및 스케줄 저장
         Lecture saved = lectureRepository.save(lecture);
+        // 강사의 다른 강의와 시간이 겹치면 예외 (저장도 롤백됨)
+        scheduleConflictIndex.reserveLecture(teacher.getId(), saved);
+        lectureOwnership.put(saved.getId(), teacher.getId());
+        eventPublisher.publishEvent(new LectureChangedEvent(saved.getId(), teacher.getId()));
 
         // LAZY 로딩된 schedules 컬렉션을 강제로 초기화
         saved.getSchedules().size();
@@ -50,7 +65,7 @@ public class LectureServiceImpl implements LectureService {
     @Loggable
     @Override
     public List<LectureResponse> retrieveAllLectures() {
-        return lectureRepository.findAll()
+        return lectureRepository.findAllWithSchedules()
                 .stream()
                 .map(LectureResponse::from)
                 .toList();
@@ -60,7 +75,7 @@ public class LectureServiceImpl implements LectureService {
     @Loggable
     @Override
     public List<LectureResponse> retrieveMyLectures(Member teacher) {
-        return lectureRepository.findAllByTeacher(teacher)
+        return lectureRepository.findAllWithSchedulesByTeacher(teacher)
                 .stream()
                 .map(LectureResponse::from)
                 .toList();
@@ -69,17 +84,28 @@ public class LectureServiceImpl implements LectureService {
     @Transactional
     @Override
     public LectureResponse retrieveLecture(Long lectureId) {
-        return lectureRepository.findById(lectureId)
+        return lectureRepository.findWithSchedulesById(lectureId)
                 .map(LectureResponse::from)
                 .orElse(null);
     }
 
     @Transactional
     @Override
-    public List<LectureEventDto> getLectureEvents() {
-        // 모든 강의를 가져와서 -> 각각의 스케줄을 -> 달력 이벤트(이번 주 기준)로 변환해서 -> 하나의 리스트로 합침
-        return lectureRepository.findAll().stream()
-                .flatMap(lecture -> LectureEventDto.from(lecture).stream())
-                .collect(Collectors.toList());
+    public CursorPage<LectureResponse> retrieveCatalog(LectureSearchCondition condition, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size는 1~" + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+
+        // 1. 조건에 맞는 강의 id를 인덱스 순서대로 size + 1개 조회
+        List<Long> ids = lectureRepository.findCatalogIdsAfter(CursorPage.decode(cursor), condition, size + 1);
+        if (ids.isEmpty()) {
+            return CursorPage.of(List.of(), size, LectureResponse::getId);
+        }
+
+        // 2. 해당 강의들의 스케줄을 한 번에 조회
+        List<LectureResponse> lectures = lectureRepository.findAllWithSchedulesByIdIn(ids).stream()
+                .map(LectureResponse::from)
+                .toList();
+        return CursorPage.of(lectures, size, LectureResponse::getId);
     }
 }
@@ -0,0 +1,189 @@
+package com.aslan.academymanagement.service.lecture;
+
+import com.aslan.academymanagement.domain.Lecture;
+import com.aslan.academymanagement.domain.LectureSchedule;
+import com.aslan.academymanagement.domain.Member;
+import com.aslan.academymanagement.dto.LectureSessionResponse;
+import com.aslan.academymanagement.dto.SessionAttendanceEntry;
+import com.aslan.academymanagement.repository.AttendanceEventRepository;
+import com.aslan.academymanagement.repository.LectureRepository;
+import com.aslan.academymanagement.repository.LectureSessionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 강의 회차 생성/조회
+ *
+ * - 생성: 학기 기간(from ~ to)의 날짜마다 그 요일 스케줄을 회차로 펼쳐 JDBC 배치 INSERT
+ *   휴일(academy.holidays, yyyy-MM-dd 쉼표 구분)은 건너뛰고, 이미 있는 회차는 다시 만들지 않음
+ * - 조회: "오늘 수업"은 (session_date, start_time) 인덱스, 회차별 출석은 session_id 인덱스로 바로 찾음
+ */
+@Slf4j
+@Service
+public class LectureSessionService {
+
+    public static final int MAX_TERM_DAYS = 366;
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SESSION =
+            "INSERT INTO lecture_sessions (lecture_id, session_date, start_time, end_time) VALUES (?, ?, ?, ?)";
+
+    private record SessionKey(Long lectureId, LocalDate date, LocalTime startTime) {
+    }
+
+    private record SessionRow(SessionKey key, LocalTime endTime) {
+    }
+
+    private final LectureRepository lectureRepository;
+    private final LectureSessionRepository lectureSessionRepository;
+    private final AttendanceEventRepository attendanceEventRepository;
+    private final LectureStudentService lectureStudentService;
+    private final JdbcTemplate jdbcTemplate;
+    private final Set<LocalDate> holidays;
+
+    public LectureSessionService(
+            LectureRepository lectureRepository,
+            LectureSessionRepository lectureSessionRepository,
+            AttendanceEventRepository attendanceEventRepository,
+            LectureStudentService lectureStudentService,
+            JdbcTemplate jdbcTemplate,
+            @Value("${academy.holidays:}") List<String> holidays
+    ) {
+        this.lectureRepository = lectureRepository;
+        this.lectureSessionRepository = lectureSessionRepository;
+        this.attendanceEventRepository = attendanceEventRepository;
+        this.lectureStudentService = lectureStudentService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.holidays = holidays.stream()
+                .map(String::trim)
+                .filter(date -> !date.isEmpty())
+                .map(LocalDate::parse)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    public boolean isHoliday(LocalDate date) {
+        return holidays.contains(date);
+    }
+
+    /**
+     * 강의 하나의 회차 생성 (강의 담당 강사만 가능)
+     *
+     * @return 새로 만든 회차 수
+     */
+    @Transactional
+    public int generate(Member teacher, Long lectureId, LocalDate from, LocalDate to) {
+        validateTerm(from, to);
+        lectureStudentService.verifyLectureOwner(teacher, lectureId);
+        Lecture lecture = lectureRepository.findWithSchedulesById(lectureId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 강의가 없습니다. id=" + lectureId));
+        return generate(List.of(lecture), from, to);
+    }
+
+    /**
+     * 강사의 모든 강의 회차 생성
+     *
+     * @return 새로 만든 회차 수
+     */
+    @Transactional
+    public int generateForTeacher(Member teacher, LocalDate from, LocalDate to) {
+        validateTerm(from, to);
+        return generate(lectureRepository.findAllWithSchedulesByTeacher(teacher), from, to);
+    }
+
+    /**
+     * 강사의 특정 날짜 수업 목록 (시작 시각 순)
+     */
+    @Transactional(readOnly = true)
+    public List<LectureSessionResponse> getSessions(Long teacherId, LocalDate date) {
+        return lectureSessionRepository.findByTeacherAndDate(teacherId, date);
+    }
+
+    /**
+     * 회차 출석 명단 (강의 담당 강사만 조회 가능)
+     */
+    @Transactional(readOnly = true)
+    public List<SessionAttendanceEntry> getAttendance(Member teacher, Long sessionId) {
+        Long teacherId = lectureSessionRepository.findTeacherIdById(sessionId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 회차가 없습니다. id=" + sessionId));
+        if (!teacherId.equals(teacher.getId())) {
+            throw new IllegalArgumentException("해당 강의에 대한 권한이 없습니다.");
+        }
+        return attendanceEventRepository.findAttendanceBySessionId(sessionId);
+    }
+
+    private int generate(List<Lecture> lectures, LocalDate from, LocalDate to) {
+        if (lectures.isEmpty()) {
+            return 0;
+        }
+
+        // 1. 요일별 스케줄
+        Map<DayOfWeek, List<LectureSchedule>> schedulesByDay = new EnumMap<>(DayOfWeek.class);
+        for (Lecture lecture : lectures) {
+            for (LectureSchedule schedule : lecture.getSchedules()) {
+                schedulesByDay.computeIfAbsent(schedule.getDayOfWeek(), day -> new ArrayList<>()).add(schedule);
+            }
+        }
+        if (schedulesByDay.isEmpty()) {
+            return 0;
+        }
+
+        // 2. 기간 내 기존 회차를 한 번에 조회
+        Set<SessionKey> existing = new HashSet<>();
+        lectureSessionRepository.findSlotsInPeriod(lectures.stream().map(Lecture::getId).toList(), from, to)
+                .forEach(slot -> existing.add(new SessionKey(slot.getLectureId(), slot.getSessionDate(), slot.getStartTime())));
+
+        // 3. 날짜별로 펼침 (휴일, 기존 회차 제외)
+        List<SessionRow> rows = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            if (isHoliday(date)) {
+                continue;
+            }
+            for (LectureSchedule schedule : schedulesByDay.getOrDefault(date.getDayOfWeek(), List.of())) {
+                SessionKey key = new SessionKey(schedule.getLecture().getId(), date, schedule.getStartTime());
+                if (existing.add(key)) {
+                    rows.add(new SessionRow(key, schedule.getEndTime()));
+                }
+            }
+        }
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        // 4. 엔티티를 거치지 않고 배치 INSERT
+        jdbcTemplate.batchUpdate(INSERT_SESSION, rows, BATCH_SIZE, (ps, row) -> {
+            ps.setLong(1, row.key().lectureId());
+            ps.setDate(2, Date.valueOf(row.key().date()));
+            ps.setTime(3, Time.valueOf(row.key().startTime()));
+            ps.setTime(4, Time.valueOf(row.endTime()));
+        });
+        log.info("📅 강의 회차 생성: 강의 {}개, {} ~ {} - {}회차", lectures.size(), from, to, rows.size());
+        return rows.size();
+    }
+
+    private static void validateTerm(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("시작일이 종료일보다 늦습니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_TERM_DAYS) {
+            throw new IllegalArgumentException("기간은 최대 " + MAX_TERM_DAYS + "일까지 지정할 수 있습니다.");
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package com.aslan.academymanagement.service.lecture;
 
 import com.aslan.academymanagement.domain.Member;
+import com.aslan.academymanagement.dto.CursorPage;
+import com.aslan.academymanagement.dto.EnrollmentResult;
+import com.aslan.academymanagement.dto.LectureResponse;
+import com.aslan.academymanagement.dto.RosterSort;
 import com.aslan.academymanagement.dto.StudentResponse;
 
 import java.util.List;
@@ -12,6 +16,27 @@ public interface LectureStudentService {
     // 학생 제외
     void removeStudent(Member teacher, Long lectureId, Long studentId);
 
-    // 수강생 목록 조회
-    List<StudentResponse> getStudentsByLecture(Member teacher, Long lectureId);
+    // 여러 학생 일괄 등록 (학생별 결과 반환)
+    List<EnrollmentResult> registerStudents(Member teacher, Long lectureId, List<Long> studentIds);
+
+    // 여러 학생 일괄 제외 (학생별 결과 반환)
+    List<EnrollmentResult> removeStudents(Member teacher, Long lectureId, List<Long> studentIds);
+
+    // 수강 대기 등록 (자리가 있고 대기자가 없으면 바로 등록)
+    EnrollmentResult joinWaitlist(Member teacher, Long lectureId, Long studentId);
+
+    // 수강 대기 취소
+    void leaveWaitlist(Member teacher, Long lectureId, Long studentId);
+
+    // 대기 순서대로 학생 id 목록
+    List<Long> getWaitlist(Member teacher, Long lectureId);
+
+    // 수강생 명단 조회 (정렬 + 커서 페이지)
+    CursorPage<StudentResponse> getStudentsByLecture(Member teacher, Long lectureId, RosterSort sort, String cursor, int size);
+
+    // 학생이 수강 중인 강의 목록
+    List<LectureResponse> getLecturesByStudent(Long studentId);
+
+    // 강사 본인의 강의인지 확인 (다른 강의 단위 API에서 재사용)
+    void verifyLectureOwner(Member teacher, Long lectureId);
 }
@@ -4,25 +4,52 @@ import com.aslan.academymanagement.domain.Lecture;
 import com.aslan.academymanagement.domain.LectureStudent;
 import com.aslan.academymanagement.domain.Member;
 import com.aslan.academymanagement.domain.Student;
+import com.aslan.academymanagement.dto.CursorPage;
+import com.aslan.academymanagement.dto.EnrollmentResult;
+import com.aslan.academymanagement.dto.LectureResponse;
+import com.aslan.academymanagement.dto.RosterSort;
 import com.aslan.academymanagement.dto.StudentResponse;
+import com.aslan.academymanagement.event.EnrollmentChangedEvent;
 import com.aslan.academymanagement.repository.LectureRepository;
 import com.aslan.academymanagement.repository.LectureStudentRepository;
 import com.aslan.academymanagement.repository.StudentRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class LectureStudentServiceImpl implements LectureStudentService {
 
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final String INSERT_LECTURE_STUDENT =
+            "INSERT INTO lecture_students (lecture_id, student_id, registered_at) VALUES (?, ?, ?)";
+
     private final LectureRepository lectureRepository;
     private final StudentRepository studentRepository;
     private final LectureStudentRepository lectureStudentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ScheduleConflictIndex scheduleConflictIndex;
+    private final LectureSeatCounter lectureSeatCounter;
+    private final LectureWaitlist lectureWaitlist;
+    private final LectureOwnership lectureOwnership;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public void registerStudent(Member teacher, Long lectureId, Long studentId) {
@@ -38,13 +65,73 @@ public class LectureStudentServiceImpl implements LectureStudentService {
             throw new IllegalStateException("이미 등록된 학생입니다.");
         }
 
-        // 4. 등록 (중간 엔티티 생성)
+        // 4. 정원 확인 (메모리 카운터로 자리를 먼저 잡음, 실패하면 롤백 시 반납)
+        //    대기 중인 학생이 있으면 자리가 있어도 대기열이 먼저
+        if (lecture.getCapacity() != null && (lectureWaitlist.hasWaiting(lectureId)
+                || !lectureSeatCounter.tryAcquire(lectureId, lecture.getCapacity()))) {
+            throw new IllegalStateException("정원이 마감되었습니다. (정원 " + lecture.getCapacity() + "명)");
+        }
+
+        // 5. 등록
+        enroll(lecture, student);
+    }
+
+    @Override
+    public EnrollmentResult joinWaitlist(Member teacher, Long lectureId, Long studentId) {
+        // 1. 강의 조회 및 권한 확인
+        Lecture lecture = getLectureWithAuth(teacher, lectureId);
+        if (lecture.getCapacity() == null) {
+            throw new IllegalStateException("정원 제한이 없는 강의입니다. 바로 등록해 주세요.");
+        }
+
+        // 2. 학생 조회 및 중복 등록 확인
+        Student student = studentRepository.findById(studentId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 학생이 없습니다. id=" + studentId));
+        if (lectureStudentRepository.existsByLectureAndStudent(lecture, student)) {
+            throw new IllegalStateException("이미 등록된 학생입니다.");
+        }
+
+        // 3. 대기자가 없고 자리가 있으면 바로 등록, 아니면 대기열 맨 뒤로
+        int position = lectureWaitlist.offer(lecture, studentId);
+        if (position > 0) {
+            return EnrollmentResult.waitlisted(studentId, position);
+        }
+        enroll(lecture, student);
+        return EnrollmentResult.enrolled(studentId);
+    }
+
+    @Override
+    public void leaveWaitlist(Member teacher, Long lectureId, Long studentId) {
+        lectureOwnership.verify(teacher, lectureId);
+        lectureWaitlist.cancel(lectureId, studentId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> getWaitlist(Member teacher, Long lectureId) {
+        lectureOwnership.verify(teacher, lectureId);
+        return lectureWaitlist.waiting(lectureId);
+    }
+
+    // 시간 충돌 확인 후 수강 등록 (정원 확인은 호출한 쪽에서)
+    private void enroll(Lecture lecture, Student student) {
+        // 학생의 다른 수강 강의와 시간이 겹치면 예외
+        scheduleConflictIndex.reserveEnrollment(student.getId(), lecture);
+
+        // 중간 엔티티 생성
         LectureStudent lectureStudent = LectureStudent.builder()
                 .lecture(lecture)
                 .student(student)
                 .build();
 
-        lectureStudentRepository.save(lectureStudent);
+        try {
+            lectureStudentRepository.save(lectureStudent);
+        } catch (DataIntegrityViolationException e) {
+            // 중복 확인 직후 같은 학생이 동시에 등록된 경우 (uk_lecture_student)
+            throw new IllegalStateException("이미 등록된 학생입니다.");
+        }
+        lectureRepository.addEnrolledCount(lecture.getId(), 1);
+        eventPublisher.publishEvent(new EnrollmentChangedEvent(lecture.getId(), student.getId()));
     }
 
     @Override
@@ -62,30 +149,180 @@ public class LectureStudentServiceImpl implements LectureStudentService {
 
         // 4. 삭제
         lectureStudentRepository.delete(lectureStudent);
+        lectureRepository.addEnrolledCount(lectureId, -1);
+        scheduleConflictIndex.releaseEnrollment(student.getId(), lectureId);
+        if (lecture.getCapacity() != null) {
+            // 난 자리는 대기 1번에게 (대기자가 없으면 커밋 후 반납)
+            lectureWaitlist.onSeatsFreed(lecture, 1);
+        }
+        eventPublisher.publishEvent(new EnrollmentChangedEvent(lectureId, studentId));
     }
 
+    /**
+     * 일괄 등록: 존재 확인 IN 쿼리 1회 + 중복 확인 IN 쿼리 1회 + JDBC 배치 INSERT 1회 + 수강생 수 UPDATE 1회
+     * - 정원은 남은 자리만큼 한 번에 잡고, 시간이 겹치는 학생에게 쓰지 않은 자리는 바로 반납
+     * - 요청 순서대로 처리하므로 정원이 모자라면 뒤쪽 학생이 CAPACITY_FULL
+     */
     @Override
-    @Transactional(readOnly = true)
-    public List<StudentResponse> getStudentsByLecture(Member teacher, Long lectureId) {
-        // 1. 강의 조회 및 권한 확인
+    public List<EnrollmentResult> registerStudents(Member teacher, Long lectureId, List<Long> studentIds) {
         Lecture lecture = getLectureWithAuth(teacher, lectureId);
+        Set<Long> requested = new LinkedHashSet<>(studentIds);
 
-        // 2. 수강생 목록 조회 (중간 엔티티 -> 학생 엔티티 -> DTO 변환)
-        return lectureStudentRepository.findAllByLecture(lecture).stream()
-                .map(ls -> StudentResponse.from(ls.getStudent()))
-                .collect(Collectors.toList());
+        Set<Long> existing = new HashSet<>(studentRepository.findExistingIds(requested));
+        Set<Long> enrolled = existing.isEmpty()
+                ? Set.of()
+                : new HashSet<>(lectureStudentRepository.findEnrolledStudentPks(lectureId, existing));
+
+        Map<Long, EnrollmentResult> results = new LinkedHashMap<>();
+        List<Long> candidates = new ArrayList<>();
+        for (Long studentId : requested) {
+            if (!existing.contains(studentId)) {
+                results.put(studentId, EnrollmentResult.notFound(studentId));
+            } else if (enrolled.contains(studentId)) {
+                results.put(studentId, EnrollmentResult.alreadyEnrolled(studentId));
+            } else {
+                results.put(studentId, null);
+                candidates.add(studentId);
+            }
+        }
+
+        Integer capacity = lecture.getCapacity();
+        int seats;
+        if (capacity == null) {
+            seats = candidates.size();
+        } else {
+            // 대기 중인 학생이 있으면 대기열이 먼저
+            seats = lectureWaitlist.hasWaiting(lectureId)
+                    ? 0
+                    : lectureSeatCounter.acquire(lectureId, capacity, candidates.size());
+        }
+        List<Long> accepted = new ArrayList<>(seats);
+        try {
+            for (Long studentId : candidates) {
+                if (accepted.size() == seats) {
+                    results.put(studentId, EnrollmentResult.capacityFull(studentId, capacity));
+                    continue;
+                }
+                try {
+                    scheduleConflictIndex.reserveEnrollment(studentId, lecture);
+                } catch (IllegalStateException e) {
+                    results.put(studentId, EnrollmentResult.conflict(studentId, e.getMessage()));
+                    continue;
+                }
+                accepted.add(studentId);
+                results.put(studentId, EnrollmentResult.enrolled(studentId));
+            }
+        } finally {
+            if (capacity != null) {
+                lectureSeatCounter.settle(lectureId, seats, accepted.size());
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            try {
+                jdbcTemplate.batchUpdate(INSERT_LECTURE_STUDENT, accepted, accepted.size(), (ps, studentId) -> {
+                    ps.setLong(1, lectureId);
+                    ps.setLong(2, studentId);
+                    ps.setTimestamp(3, now);
+                });
+            } catch (DataIntegrityViolationException e) {
+                // 중복 확인 직후 같은 학생이 동시에 등록된 경우 (uk_lecture_student) → 전체 롤백
+                throw new IllegalStateException("이미 등록된 학생이 포함되어 있습니다. 다시 시도해 주세요.");
+            }
+            lectureRepository.addEnrolledCount(lectureId, accepted.size());
+            accepted.forEach(studentId -> eventPublisher.publishEvent(new EnrollmentChangedEvent(lectureId, studentId)));
+        }
+        return List.copyOf(results.values());
     }
 
-    // 공통 로직: 강의 조회 및 강사 권한 확인
-    private Lecture getLectureWithAuth(Member teacher, Long lectureId) {
-        Lecture lecture = lectureRepository.findById(lectureId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 강의가 없습니다. id=" + lectureId));
+    /**
+     * 일괄 제외: 수강생 행 잠금 조회 1회 + DELETE 1회 + 수강생 수 UPDATE 1회
+     * - 잠근 행만 지우므로 같은 학생을 동시에 제외해도 실제로 지운 학생만 자리/시간표/대기 승격에 반영
+     */
+    @Override
+    public List<EnrollmentResult> removeStudents(Member teacher, Long lectureId, List<Long> studentIds) {
+        Lecture lecture = getLectureWithAuth(teacher, lectureId);
+        Set<Long> requested = new LinkedHashSet<>(studentIds);
+
+        List<Long> enrolled = lectureStudentRepository.lockEnrolledStudentPks(lectureId, requested);
+        if (!enrolled.isEmpty()) {
+            int deleted = lectureStudentRepository.deleteByLectureIdAndStudentIdIn(lectureId, enrolled);
+            if (deleted != enrolled.size()) {
+                // 잠근 행이 지워지지 않았다면 잠금이 동작하지 않은 것 → 자리 계산이 어긋나지 않도록 전체 롤백
+                throw new IllegalStateException("수강생 목록이 변경되었습니다. 다시 시도해 주세요.");
+            }
+            lectureRepository.addEnrolledCount(lectureId, -deleted);
+            enrolled.forEach(studentId -> scheduleConflictIndex.releaseEnrollment(studentId, lectureId));
+            if (lecture.getCapacity() != null) {
+                lectureWaitlist.onSeatsFreed(lecture, deleted);
+            }
+            enrolled.forEach(studentId -> eventPublisher.publishEvent(new EnrollmentChangedEvent(lectureId, studentId)));
+        }
+
+        Set<Long> removed = new HashSet<>(enrolled);
+        return requested.stream()
+                .map(studentId -> removed.contains(studentId)
+                        ? EnrollmentResult.removed(studentId)
+                        : EnrollmentResult.notEnrolled(studentId))
+                .toList();
+    }
+
+    /**
+     * 수강생 명단: 명단 조회 1회 (권한 확인은 캐시, 수강생 수와 무관)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<StudentResponse> getStudentsByLecture(Member teacher, Long lectureId, RosterSort sort,
+                                                            String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size는 1~" + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        // 1. 권한 확인
+        lectureOwnership.verify(teacher, lectureId);
+
+        // 2. 정렬 키 이후부터 size + 1개 조회
+        CursorPage.Key after = CursorPage.decodeKey(cursor);
+        if (sort == RosterSort.STUDENT_ID) {
+            return CursorPage.ofKeys(
+                    lectureStudentRepository.findRosterByStudentIdAfter(lectureId, after.value(), Limit.of(size + 1)),
+                    size,
+                    student -> new CursorPage.Key(student.getStudentId(), student.getId()));
+        }
+        return CursorPage.ofKeys(
+                lectureStudentRepository.findRosterByNameAfter(lectureId, after.value(), after.id(), Limit.of(size + 1)),
+                size,
+                student -> new CursorPage.Key(student.getName(), student.getId()));
+    }
 
-        // 강사 본인의 강의인지 확인 (관리자는 패스하는 로직 추가 가능)
-        if (!lecture.getTeacher().getId().equals(teacher.getId())) {
-            throw new IllegalArgumentException("해당 강의에 대한 권한이 없습니다.");
+    /**
+     * 학생의 수강 강의: 강의 id 조회 1회 (student_id 인덱스) + 강의/스케줄 조회 1회
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<LectureResponse> getLecturesByStudent(Long studentId) {
+        if (!studentRepository.existsById(studentId)) {
+            throw new IllegalArgumentException("해당 학생이 없습니다. id=" + studentId);
         }
+        List<Long> lectureIds = lectureStudentRepository.findLectureIdsByStudentId(studentId);
+        if (lectureIds.isEmpty()) {
+            return List.of();
+        }
+        return lectureRepository.findAllWithSchedulesByIdIn(lectureIds).stream()
+                .map(LectureResponse::from)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void verifyLectureOwner(Member teacher, Long lectureId) {
+        lectureOwnership.verify(teacher, lectureId);
+    }
 
-        return lecture;
+    // 공통 로직: 강사 권한 확인(캐시) 후 강의 조회
+    private Lecture getLectureWithAuth(Member teacher, Long lectureId) {
+        lectureOwnership.verify(teacher, lectureId);
+        return lectureRepository.findById(lectureId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 강의가 없습니다. id=" + lectureId));
     }
 }
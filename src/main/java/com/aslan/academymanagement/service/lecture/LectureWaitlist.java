@@ -0,0 +1,413 @@
+package com.aslan.academymanagement.service.lecture;
+
+import com.aslan.academymanagement.domain.Lecture;
+import com.aslan.academymanagement.domain.LectureStudent;
+import com.aslan.academymanagement.domain.LectureWaitlistEntry;
+import com.aslan.academymanagement.domain.Student;
+import com.aslan.academymanagement.event.EnrollmentChangedEvent;
+import com.aslan.academymanagement.repository.LectureRepository;
+import com.aslan.academymanagement.repository.LectureStudentRepository;
+import com.aslan.academymanagement.repository.LectureWaitlistRepository;
+import com.aslan.academymanagement.repository.StudentRepository;
+import com.aslan.academymanagement.repository.WaitlistEntryView;
+import com.aslan.academymanagement.service.notification.NotificationDispatcher;
+import com.aslan.academymanagement.service.notification.NotificationService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 강의별 수강 대기열 (선착순)
+ *
+ * - 강의마다 메모리 큐 하나 (ArrayDeque + 대기 여부 Set) → 대기 등록/승격이 O(1)
+ *   줄을 설 때 받은 번호표와 함께 DB(lecture_waitlist)에도 저장하고, 시작 시 번호표 순으로 읽어 복원
+ * - 대기 등록은 커밋된 뒤에야 승격 대상이 됨 (그 전에도 대기자로 쳐서 새 수강 등록이 끼어들지 못함)
+ * - 자리가 나면 대기 1번을 같은 트랜잭션에서 바로 수강생으로 등록 (자리는 나간 학생에게서 그대로 넘겨받음)
+ *   → 폴링 작업이나 테이블 스캔 없음, 수강 취소가 롤백되면 승격도 함께 롤백되고 대기 순서도 복원
+ * - 큐 하나당 잠금 하나: 큐를 읽고 바꾸는 동안만 잡고, DB 작업 중에는 잡지 않음
+ *   취소 직후 대기 등록이 겹치는 경우(취소 쪽은 빈 큐를, 대기 쪽은 아직 반납 전인 자리를 봄)는
+ *   커밋 후 drain이 남은 자리를 다시 확인해 새 트랜잭션으로 승격
+ * - 승격 시 학생의 다른 수강 강의와 시간이 겹치면 그 학생은 대기에서 빠지고 다음 학생으로 넘어감
+ * - 승격/대기 탈락은 커밋 후 알림 대기열을 통해 학부모에게 알림
+ * - 애플리케이션 인스턴스가 하나라는 전제 (LectureSeatCounter와 동일)
+ */
+@Slf4j
+@Component
+public class LectureWaitlist {
+
+    private record Waiter(Long studentId, long ticket) {
+    }
+
+    private static final class Queue {
+        // 대기 등록이 커밋된 학생 (번호표 순)
+        private final ArrayDeque<Waiter> order = new ArrayDeque<>();
+        // 대기 중인 학생 PK (커밋 전 포함, 중복 대기 확인용)
+        private final Set<Long> members = new HashSet<>();
+        // 대기 등록 트랜잭션이 아직 끝나지 않은 수
+        private int pending;
+
+        private boolean isEmpty() {
+            return order.isEmpty() && pending == 0;
+        }
+
+        // 번호표 순서 자리에 넣음 (보통 맨 뒤 또는 맨 앞이라 O(1), 커밋 순서가 뒤바뀐 만큼만 뒤로 밀어냄)
+        private void add(Waiter waiter) {
+            members.add(waiter.studentId());
+            if (!order.isEmpty() && order.peekFirst().ticket() > waiter.ticket()) {
+                order.addFirst(waiter);
+                return;
+            }
+            ArrayDeque<Waiter> later = new ArrayDeque<>();
+            while (!order.isEmpty() && order.peekLast().ticket() > waiter.ticket()) {
+                later.addFirst(order.pollLast());
+            }
+            order.addLast(waiter);
+            order.addAll(later);
+        }
+
+        private Waiter poll() {
+            Waiter waiter = order.pollFirst();
+            if (waiter != null) {
+                members.remove(waiter.studentId());
+            }
+            return waiter;
+        }
+
+        private Waiter remove(Long studentId) {
+            for (Iterator<Waiter> it = order.iterator(); it.hasNext(); ) {
+                Waiter waiter = it.next();
+                if (waiter.studentId().equals(studentId)) {
+                    it.remove();
+                    members.remove(studentId);
+                    return waiter;
+                }
+            }
+            return null;
+        }
+    }
+
+    private final LectureWaitlistRepository lectureWaitlistRepository;
+    private final LectureRepository lectureRepository;
+    private final LectureStudentRepository lectureStudentRepository;
+    private final StudentRepository studentRepository;
+    private final LectureSeatCounter lectureSeatCounter;
+    private final ScheduleConflictIndex scheduleConflictIndex;
+    private final NotificationService notificationService;
+    private final NotificationDispatcher notificationDispatcher;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<Long, Queue> queues = new ConcurrentHashMap<>();
+    // 대기 번호표 (강의 구분 없이 증가, 시작 시 DB의 가장 큰 번호부터 이어감)
+    private final AtomicLong tickets = new AtomicLong();
+
+    public LectureWaitlist(LectureWaitlistRepository lectureWaitlistRepository,
+                           LectureRepository lectureRepository,
+                           LectureStudentRepository lectureStudentRepository,
+                           StudentRepository studentRepository,
+                           LectureSeatCounter lectureSeatCounter,
+                           ScheduleConflictIndex scheduleConflictIndex,
+                           NotificationService notificationService,
+                           NotificationDispatcher notificationDispatcher,
+                           ApplicationEventPublisher eventPublisher,
+                           PlatformTransactionManager transactionManager) {
+        this.lectureWaitlistRepository = lectureWaitlistRepository;
+        this.lectureRepository = lectureRepository;
+        this.lectureStudentRepository = lectureStudentRepository;
+        this.studentRepository = studentRepository;
+        this.lectureSeatCounter = lectureSeatCounter;
+        this.scheduleConflictIndex = scheduleConflictIndex;
+        this.notificationService = notificationService;
+        this.notificationDispatcher = notificationDispatcher;
+        this.eventPublisher = eventPublisher;
+        // drain은 앞선 트랜잭션의 커밋 직후에 실행되므로 별도 트랜잭션이 필요
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        long entries = 0;
+        try (Stream<WaitlistEntryView> views = lectureWaitlistRepository.streamAll()) {
+            for (Iterator<WaitlistEntryView> it = views.iterator(); it.hasNext(); entries++) {
+                WaitlistEntryView view = it.next();
+                Queue queue = queue(view.getLectureId());
+                synchronized (queue) {
+                    queue.add(new Waiter(view.getStudentId(), view.getTicket()));
+                }
+                tickets.accumulateAndGet(view.getTicket(), Math::max);
+            }
+        }
+        log.info("⏳ 수강 대기열 복원 완료: 대기 {}건, 강의 {}개", entries, queues.size());
+    }
+
+    /**
+     * 대기 중인 학생이 있는지 (있으면 새 등록은 대기열 뒤로 가야 함)
+     */
+    public boolean hasWaiting(Long lectureId) {
+        Queue queue = queues.get(lectureId);
+        if (queue == null) {
+            return false;
+        }
+        synchronized (queue) {
+            return !queue.isEmpty();
+        }
+    }
+
+    /**
+     * 대기 순서대로 학생 PK 목록 (대기 등록이 커밋된 학생만)
+     */
+    public List<Long> waiting(Long lectureId) {
+        Queue queue = queues.get(lectureId);
+        if (queue == null) {
+            return List.of();
+        }
+        synchronized (queue) {
+            return queue.order.stream().map(Waiter::studentId).toList();
+        }
+    }
+
+    /**
+     * 대기 등록 (정원이 있는 강의, 수강 등록 트랜잭션 안에서 호출)
+     * - 대기자가 없고 자리가 남아 있으면 자리를 잡고 0 반환 → 호출한 쪽에서 바로 수강 등록
+     * - 아니면 번호표를 받아 맨 뒤에 줄을 세우고 대기 순번(1부터) 반환
+     *   커밋 전까지는 승격 대상이 아님 (커밋되지 않은 대기를 승격하면 대기 등록이 롤백돼도 수강 등록이 남음)
+     */
+    public int offer(Lecture lecture, Long studentId) {
+        Long lectureId = lecture.getId();
+        int capacity = lecture.getCapacity();
+        Queue queue = queue(lectureId);
+        Waiter waiter;
+        int position;
+        synchronized (queue) {
+            if (queue.members.contains(studentId)) {
+                throw new IllegalStateException("이미 대기 중인 학생입니다.");
+            }
+            if (queue.isEmpty() && lectureSeatCounter.tryAcquire(lectureId, capacity)) {
+                return 0;
+            }
+            waiter = new Waiter(studentId, tickets.incrementAndGet());
+            queue.members.add(studentId);
+            queue.pending++;
+            position = queue.order.size() + queue.pending;
+        }
+        afterCompletion(committed -> {
+            synchronized (queue) {
+                queue.pending--;
+                if (committed) {
+                    queue.add(waiter);
+                } else {
+                    queue.members.remove(studentId);
+                }
+            }
+            // 줄을 서는 사이에 자리가 났을 수 있음
+            if (committed) {
+                drain(lectureId, capacity);
+            }
+        });
+        lectureWaitlistRepository.save(LectureWaitlistEntry.builder()
+                .lecture(lecture)
+                .student(studentRepository.getReferenceById(studentId))
+                .ticket(waiter.ticket())
+                .build());
+        return position;
+    }
+
+    /**
+     * 대기 취소 (트랜잭션 안에서 호출, 롤백되면 원래 순서로 되돌림)
+     */
+    public void cancel(Long lectureId, Long studentId) {
+        Queue queue = queues.get(lectureId);
+        Waiter removed = null;
+        if (queue != null) {
+            synchronized (queue) {
+                removed = queue.remove(studentId);
+            }
+        }
+        if (removed == null) {
+            throw new IllegalArgumentException("대기 중인 학생이 아닙니다.");
+        }
+        Waiter waiter = removed;
+        afterRollback(() -> {
+            synchronized (queue) {
+                queue.add(waiter);
+            }
+        });
+        lectureWaitlistRepository.deleteByLectureIdAndStudentId(lectureId, studentId);
+    }
+
+    /**
+     * 수강 취소로 자리가 freed개 났을 때 (수강 취소 트랜잭션 안에서 호출)
+     * - 대기 순서대로 최대 freed명을 같은 트랜잭션에서 승격, 남은 자리는 커밋 후 반납
+     */
+    public void onSeatsFreed(Lecture lecture, int freed) {
+        Long lectureId = lecture.getId();
+        Queue queue = queues.get(lectureId);
+        int promoted = queue != null ? promote(lecture, queue, freed) : 0;
+        lectureSeatCounter.releaseAfterCommit(lectureId, freed - promoted);
+        // 반납 뒤에 실행되도록 반납 다음에 등록 (그 사이 대기열에 들어온 학생이 있을 수 있음)
+        int capacity = lecture.getCapacity();
+        afterCommit(() -> drain(lectureId, capacity));
+    }
+
+    /**
+     * 남은 자리가 있고 대기자가 있으면 한 명씩 새 트랜잭션으로 승격 (커밋 후 호출)
+     */
+    private void drain(Long lectureId, int capacity) {
+        Queue queue = queues.get(lectureId);
+        if (queue == null) {
+            return;
+        }
+        try {
+            while (hasWaiting(lectureId) && lectureSeatCounter.acquire(lectureId, capacity, 1) == 1) {
+                Integer promoted = transactionTemplate.execute(status -> {
+                    int used = 0;
+                    try {
+                        Lecture lecture = lectureRepository.findById(lectureId).orElse(null);
+                        if (lecture != null) {
+                            used = promote(lecture, queue, 1);
+                        }
+                    } finally {
+                        lectureSeatCounter.settle(lectureId, 1, used);
+                    }
+                    return used;
+                });
+                if (promoted == null || promoted == 0) {
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            // 이미 커밋된 요청에는 영향을 주지 않음 (다음 취소/대기 등록 때 다시 시도)
+            log.warn("수강 대기 승격 실패: 강의 {}", lectureId, e);
+        }
+    }
+
+    // 대기 1번부터 최대 seats명을 수강생으로 등록 (트랜잭션 안에서 호출, 롤백되면 꺼낸 학생을 맨 앞으로 되돌림)
+    private int promote(Lecture lecture, Queue queue, int seats) {
+        Long lectureId = lecture.getId();
+        List<Waiter> polled = new ArrayList<>();
+        afterRollback(() -> {
+            synchronized (queue) {
+                polled.forEach(queue::add);
+            }
+        });
+
+        int promoted = 0;
+        while (promoted < seats) {
+            Waiter waiter;
+            synchronized (queue) {
+                waiter = queue.poll();
+            }
+            if (waiter == null) {
+                break;
+            }
+            polled.add(waiter);
+            Long studentId = waiter.studentId();
+            lectureWaitlistRepository.deleteByLectureIdAndStudentId(lectureId, studentId);
+
+            Student student = studentRepository.findById(studentId).orElse(null);
+            if (student == null) {
+                continue;
+            }
+            try {
+                scheduleConflictIndex.reserveEnrollment(studentId, lecture);
+            } catch (IllegalStateException e) {
+                notifyAfterCommit(student, String.format("⚠️ %s 학생의 '%s' 강의 대기가 취소되었습니다. (%s)",
+                        student.getName(), lecture.getTitle(), e.getMessage()));
+                continue;
+            }
+            lectureStudentRepository.save(LectureStudent.builder()
+                    .lecture(lecture)
+                    .student(student)
+                    .build());
+            eventPublisher.publishEvent(new EnrollmentChangedEvent(lectureId, studentId));
+            notifyAfterCommit(student, String.format("🎉 %s 학생이 대기 중이던 '%s' 강의에 등록되었습니다!",
+                    student.getName(), lecture.getTitle()));
+            promoted++;
+        }
+        if (promoted > 0) {
+            lectureRepository.addEnrolledCount(lectureId, promoted);
+        }
+        if (!polled.isEmpty()) {
+            log.info("⏳ 수강 대기 승격: 강의 {} - {}명", lectureId, promoted);
+        }
+        return promoted;
+    }
+
+    // 학부모 연락처가 없으면(중등부는 선택 항목) 학생 본인에게, 둘 다 없으면 보내지 않음
+    private void notifyAfterCommit(Student student, String message) {
+        String parentPhoneNumber = student.getParentPhoneNumber();
+        String phoneNumber = student.getPhoneNumber();
+        if (parentPhoneNumber != null && !parentPhoneNumber.isEmpty()) {
+            notificationDispatcher.dispatchAfterCommit(() -> notificationService.notifyParent(parentPhoneNumber, message));
+        } else if (phoneNumber != null && !phoneNumber.isEmpty()) {
+            notificationDispatcher.dispatchAfterCommit(() -> notificationService.notifyStudent(phoneNumber, message));
+        }
+    }
+
+    private Queue queue(Long lectureId) {
+        return queues.computeIfAbsent(lectureId, id -> new Queue());
+    }
+
+    // 트랜잭션 밖이면 바로 실행
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // 트랜잭션 밖이면 커밋된 것으로 보고 바로 실행
+    private static void afterCompletion(Consumer<Boolean> action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.accept(true);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                action.accept(status == STATUS_COMMITTED);
+            }
+        });
+    }
+
+    private static void afterRollback(Runnable undo) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    undo.run();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,311 @@
+package com.aslan.academymanagement.service.lecture;
+
+import com.aslan.academymanagement.domain.Lecture;
+import com.aslan.academymanagement.domain.LectureSchedule;
+import com.aslan.academymanagement.repository.EnrollmentView;
+import com.aslan.academymanagement.repository.LectureRepository;
+import com.aslan.academymanagement.repository.LectureStudentRepository;
+import com.aslan.academymanagement.repository.ScheduleSlotView;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.time.format.TextStyle;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * 강사/학생 시간표 충돌 검사
+ *
+ * - (강사, 요일), (학생, 요일)마다 구간 트리 하나 → 겹침 확인이 O(log n), 전체 스케줄을 훑지 않음
+ * - 시작 시 DB의 스케줄/수강 정보로 채우고, 이후 강의 생성/수강 등록 시 검사와 동시에 예약
+ * - 예약은 트랜잭션이 롤백되면 되돌리고, 수강 취소는 커밋 후 반영
+ *   → 검사와 예약을 한 잠금 안에서 하므로 동시에 들어온 두 요청이 모두 통과하는 일이 없음
+ * - 초기화 전에는 검사 없이 예약만 함 (초기화 시 DB 기준으로 다시 채워짐)
+ * - 같은 정보로 강의별 강사/수강생과 사람별 요일 비트맵(TimeBitmap)도 제공 → 빈 시간 찾기에 사용
+ */
+@Slf4j
+@Component
+public class ScheduleConflictIndex {
+
+    public enum Owner { TEACHER, STUDENT }
+
+    private record Key(Owner owner, long ownerId, DayOfWeek dayOfWeek) {
+    }
+
+    private record Slot(DayOfWeek dayOfWeek, int start, int end) {
+        static Slot of(DayOfWeek dayOfWeek, LocalTime start, LocalTime end) {
+            return new Slot(dayOfWeek, start.toSecondOfDay(), end.toSecondOfDay());
+        }
+    }
+
+    private final LectureRepository lectureRepository;
+    private final LectureStudentRepository lectureStudentRepository;
+
+    // 아래 자료구조는 모두 this 잠금 안에서만 사용
+    private final Map<Key, IntervalTree> trees = new HashMap<>();
+    private final Map<Long, List<Slot>> lectureSlots = new HashMap<>();
+    private final Map<Long, String> lectureTitles = new HashMap<>();
+    private final Map<Long, Long> lectureTeachers = new HashMap<>();
+    private final Map<Long, Set<Long>> lectureStudents = new HashMap<>();
+    // 트리가 바뀔 때 버리고 필요할 때 다시 만드는 요일별 비트맵
+    private final Map<Key, long[]> bitmaps = new HashMap<>();
+    private boolean ready;
+
+    public ScheduleConflictIndex(LectureRepository lectureRepository,
+                                 LectureStudentRepository lectureStudentRepository) {
+        this.lectureRepository = lectureRepository;
+        this.lectureStudentRepository = lectureStudentRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void warmUp() {
+        long slots = 0;
+        try (Stream<ScheduleSlotView> views = lectureRepository.streamScheduleSlots()) {
+            for (Iterator<ScheduleSlotView> it = views.iterator(); it.hasNext(); slots++) {
+                ScheduleSlotView view = it.next();
+                Slot slot = Slot.of(view.getDayOfWeek(), view.getStartTime(), view.getEndTime());
+                List<Slot> lecture = lectureSlots.computeIfAbsent(view.getLectureId(), id -> new ArrayList<>());
+                if (!lecture.contains(slot)) {
+                    lecture.add(slot);
+                }
+                lectureTitles.put(view.getLectureId(), view.getTitle());
+                if (view.getTeacherId() != null) {
+                    lectureTeachers.put(view.getLectureId(), view.getTeacherId());
+                    insert(Owner.TEACHER, view.getTeacherId(), view.getLectureId(), slot);
+                }
+            }
+        }
+        long enrollments = 0;
+        try (Stream<EnrollmentView> views = lectureStudentRepository.streamEnrollments()) {
+            for (Iterator<EnrollmentView> it = views.iterator(); it.hasNext(); enrollments++) {
+                EnrollmentView view = it.next();
+                lectureStudents.computeIfAbsent(view.getLectureId(), id -> new HashSet<>()).add(view.getStudentId());
+                for (Slot slot : lectureSlots.getOrDefault(view.getLectureId(), List.of())) {
+                    insert(Owner.STUDENT, view.getStudentId(), view.getLectureId(), slot);
+                }
+            }
+        }
+        ready = true;
+        log.info("🗓️ 시간표 충돌 색인 초기화 완료: 스케줄 {}건, 수강 {}건, 구간 트리 {}개", slots, enrollments, trees.size());
+    }
+
+    /**
+     * 새 강의의 스케줄이 강사의 다른 강의(또는 서로)와 겹치는지 확인하고 예약
+     * - 저장 직후(id가 생긴 뒤) 같은 트랜잭션 안에서 호출. 겹치면 예외 → 트랜잭션 롤백
+     */
+    public synchronized void reserveLecture(Long teacherId, Lecture lecture) {
+        List<Slot> slots = new ArrayList<>();
+        for (LectureSchedule schedule : lecture.getSchedules()) {
+            if (!schedule.isValidTime()) {
+                throw new IllegalArgumentException("종료 시간은 시작 시간보다 늦어야 합니다: " + describe(
+                        Slot.of(schedule.getDayOfWeek(), schedule.getStartTime(), schedule.getEndTime())));
+            }
+            Slot slot = Slot.of(schedule.getDayOfWeek(), schedule.getStartTime(), schedule.getEndTime());
+            for (Slot other : slots) {
+                if (other.dayOfWeek() == slot.dayOfWeek() && other.start() < slot.end() && slot.start() < other.end()) {
+                    throw new IllegalArgumentException("강의 스케줄끼리 시간이 겹칩니다: " + describe(slot));
+                }
+            }
+            slots.add(slot);
+        }
+        if (ready && teacherId != null) {
+            for (Slot slot : slots) {
+                IntervalTree.Interval conflict = findOverlap(Owner.TEACHER, teacherId, slot);
+                if (conflict != null) {
+                    throw new IllegalStateException("같은 시간에 진행하는 다른 강의가 있습니다: "
+                            + lectureTitles.get(conflict.id()) + " (" + describe(slot) + ")");
+                }
+            }
+        }
+
+        Long lectureId = lecture.getId();
+        lectureSlots.put(lectureId, slots);
+        lectureTitles.put(lectureId, lecture.getTitle());
+        if (teacherId != null) {
+            lectureTeachers.put(lectureId, teacherId);
+            slots.forEach(slot -> insert(Owner.TEACHER, teacherId, lectureId, slot));
+        }
+        afterRollback(() -> {
+            lectureSlots.remove(lectureId);
+            lectureTitles.remove(lectureId);
+            lectureTeachers.remove(lectureId);
+            if (teacherId != null) {
+                slots.forEach(slot -> remove(Owner.TEACHER, teacherId, lectureId, slot));
+            }
+        });
+    }
+
+    /**
+     * 학생의 다른 수강 강의와 겹치는지 확인하고 예약 (수강 등록 트랜잭션 안에서 호출)
+     */
+    public synchronized void reserveEnrollment(Long studentId, Lecture lecture) {
+        Long lectureId = lecture.getId();
+        // 같은 학생의 같은 강의 등록이 동시에 들어온 경우 (나중 요청의 롤백이 앞선 예약을 지우지 않도록)
+        if (lectureStudents.getOrDefault(lectureId, Set.of()).contains(studentId)) {
+            throw new IllegalStateException("이미 등록된 학생입니다.");
+        }
+        List<Slot> slots = lectureSlots.get(lectureId);
+        if (slots == null) {
+            // 색인에 없는 강의 (초기화 전 등): 엔티티의 스케줄 사용
+            slots = lecture.getSchedules().stream()
+                    .map(schedule -> Slot.of(schedule.getDayOfWeek(), schedule.getStartTime(), schedule.getEndTime()))
+                    .toList();
+        }
+        if (ready) {
+            for (Slot slot : slots) {
+                IntervalTree.Interval conflict = findOverlap(Owner.STUDENT, studentId, slot);
+                if (conflict != null && conflict.id() != lectureId) {
+                    throw new IllegalStateException("학생이 수강 중인 다른 강의와 시간이 겹칩니다: "
+                            + lectureTitles.get(conflict.id()) + " (" + describe(slot) + ")");
+                }
+            }
+        }
+
+        List<Slot> reserved = slots;
+        lectureStudents.computeIfAbsent(lectureId, id -> new HashSet<>()).add(studentId);
+        reserved.forEach(slot -> insert(Owner.STUDENT, studentId, lectureId, slot));
+        afterRollback(() -> {
+            removeStudent(lectureId, studentId);
+            reserved.forEach(slot -> remove(Owner.STUDENT, studentId, lectureId, slot));
+        });
+    }
+
+    /**
+     * 수강 취소 반영 (커밋된 뒤에 시간을 비움 → 롤백되면 그대로 유지)
+     */
+    public void releaseEnrollment(Long studentId, Long lectureId) {
+        Runnable release = () -> {
+            synchronized (this) {
+                removeStudent(lectureId, studentId);
+                lectureSlots.getOrDefault(lectureId, List.of())
+                        .forEach(slot -> remove(Owner.STUDENT, studentId, lectureId, slot));
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    release.run();
+                }
+            });
+        } else {
+            release.run();
+        }
+    }
+
+    /**
+     * 강의 담당 강사 id (모르면 null)
+     */
+    public synchronized Long teacherOf(Long lectureId) {
+        return lectureTeachers.get(lectureId);
+    }
+
+    /**
+     * 강의 수강생 PK 목록 (복사본)
+     */
+    public synchronized List<Long> studentsOf(Long lectureId) {
+        return List.copyOf(lectureStudents.getOrDefault(lectureId, Set.of()));
+    }
+
+    /**
+     * 강사가 담당하는 강의들의 수강생 PK (복사본)
+     */
+    public synchronized Set<Long> studentsTaughtBy(Long teacherId) {
+        Set<Long> students = new HashSet<>();
+        lectureTeachers.forEach((lectureId, owner) -> {
+            if (owner.equals(teacherId)) {
+                students.addAll(lectureStudents.getOrDefault(lectureId, Set.of()));
+            }
+        });
+        return students;
+    }
+
+    /**
+     * 한 사람의 요일별 일정 비트맵을 week[요일 - 1]에 OR
+     */
+    public synchronized void orBusy(Owner owner, long ownerId, long[][] week) {
+        for (DayOfWeek day : DayOfWeek.values()) {
+            Key key = new Key(owner, ownerId, day);
+            IntervalTree tree = trees.get(key);
+            if (tree == null) {
+                continue;
+            }
+            long[] bits = bitmaps.computeIfAbsent(key, k -> {
+                long[] built = new long[TimeBitmap.WORDS];
+                tree.forEach(interval -> TimeBitmap.mark(built, interval.start(), interval.end()));
+                return built;
+            });
+            long[] target = week[day.ordinal()];
+            for (int i = 0; i < bits.length; i++) {
+                target[i] |= bits[i];
+            }
+        }
+    }
+
+    private void removeStudent(Long lectureId, Long studentId) {
+        Set<Long> students = lectureStudents.get(lectureId);
+        if (students != null && students.remove(studentId) && students.isEmpty()) {
+            lectureStudents.remove(lectureId);
+        }
+    }
+
+    private IntervalTree.Interval findOverlap(Owner owner, long ownerId, Slot slot) {
+        IntervalTree tree = trees.get(new Key(owner, ownerId, slot.dayOfWeek()));
+        return tree == null ? null : tree.findOverlap(slot.start(), slot.end());
+    }
+
+    private void insert(Owner owner, long ownerId, long lectureId, Slot slot) {
+        Key key = new Key(owner, ownerId, slot.dayOfWeek());
+        if (trees.computeIfAbsent(key, k -> new IntervalTree()).insert(slot.start(), slot.end(), lectureId)) {
+            bitmaps.remove(key);
+        }
+    }
+
+    private void remove(Owner owner, long ownerId, long lectureId, Slot slot) {
+        Key key = new Key(owner, ownerId, slot.dayOfWeek());
+        IntervalTree tree = trees.get(key);
+        if (tree != null && tree.remove(slot.start(), slot.end(), lectureId)) {
+            bitmaps.remove(key);
+            if (tree.isEmpty()) {
+                trees.remove(key);
+            }
+        }
+    }
+
+    // 트랜잭션이 커밋되지 않으면 예약을 되돌림 (트랜잭션 밖이면 예약 유지)
+    private void afterRollback(Runnable undo) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    synchronized (ScheduleConflictIndex.this) {
+                        undo.run();
+                    }
+                }
+            }
+        });
+    }
+
+    private static String describe(Slot slot) {
+        return slot.dayOfWeek().getDisplayName(TextStyle.SHORT, Locale.KOREAN) + " "
+                + LocalTime.ofSecondOfDay(slot.start()) + "~" + LocalTime.ofSecondOfDay(slot.end());
+    }
+}
@@ -0,0 +1,79 @@
+package com.aslan.academymanagement.service.lecture;
+
+import com.aslan.academymanagement.domain.Student;
+import com.aslan.academymanagement.dto.TimetableEntry;
+import com.aslan.academymanagement.dto.TimetableResponse;
+import com.aslan.academymanagement.event.EnrollmentChangedEvent;
+import com.aslan.academymanagement.event.LectureChangedEvent;
+import com.aslan.academymanagement.repository.LectureStudentRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 학생 주간 시간표
+ *
+ * - 수강 → 강의 → 스케줄을 조인 쿼리 한 번으로 읽어 요일별로 묶음
+ * - 학생(PK)별로 캐시, 수강 등록/취소(EnrollmentChangedEvent) 커밋 후 해당 학생만 제거
+ *   강의 정보가 바뀌면(LectureChangedEvent) 전체 제거
+ * - 학생 조회도 StudentCache를 거치므로 캐시가 차 있으면 DB 접근 없이 응답
+ */
+@Service
+public class StudentTimetableService {
+
+    private static final Comparator<TimetableEntry> BY_START_TIME =
+            Comparator.comparing(TimetableEntry::startTime).thenComparing(TimetableEntry::lectureId);
+
+    private final LectureStudentRepository lectureStudentRepository;
+    private final Cache<Long, List<TimetableResponse.Day>> cache;
+
+    public StudentTimetableService(
+            LectureStudentRepository lectureStudentRepository,
+            @Value("${academy.timetable-cache.maximum-size:10000}") long maximumSize,
+            @Value("${academy.timetable-cache.ttl:30m}") Duration ttl
+    ) {
+        this.lectureStudentRepository = lectureStudentRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public TimetableResponse getTimetable(Student student) {
+        return new TimetableResponse(student.getStudentId(), student.getName(),
+                cache.get(student.getId(), this::load));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEnrollmentChanged(EnrollmentChangedEvent event) {
+        cache.invalidate(event.studentId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLectureChanged(LectureChangedEvent event) {
+        cache.invalidateAll();
+    }
+
+    private List<TimetableResponse.Day> load(Long studentId) {
+        Map<DayOfWeek, List<TimetableEntry>> byDay = lectureStudentRepository.findTimetableEntries(studentId).stream()
+                .collect(Collectors.groupingBy(TimetableEntry::dayOfWeek));
+        List<TimetableResponse.Day> days = new ArrayList<>(7);
+        for (DayOfWeek day : DayOfWeek.values()) {
+            days.add(new TimetableResponse.Day(day, byDay.getOrDefault(day, List.of()).stream()
+                    .sorted(BY_START_TIME)
+                    .toList()));
+        }
+        return List.copyOf(days);
+    }
+}
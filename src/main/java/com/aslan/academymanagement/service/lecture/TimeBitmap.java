@@ -0,0 +1,45 @@
+package com.aslan.academymanagement.service.lecture;
+
+import java.time.LocalTime;
+
+/**
+ * 하루를 5분 단위 칸으로 나눈 비트맵 (288칸 = long 5개)
+ *
+ * - 비트가 1이면 그 칸에 일정이 있음 (일부만 걸쳐도 1)
+ * - 여러 사람의 비트맵을 OR 하면 "누군가 바쁜 칸", 그 반대가 공통 빈 칸
+ */
+final class TimeBitmap {
+
+    static final int SLOT_MINUTES = 5;
+    static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+    static final int WORDS = (SLOTS_PER_DAY + 63) / 64;
+
+    private static final int SLOT_SECONDS = SLOT_MINUTES * 60;
+
+    private TimeBitmap() {
+    }
+
+    /**
+     * [startSecond, endSecond) 구간이 걸친 칸을 모두 1로
+     */
+    static void mark(long[] bits, int startSecond, int endSecond) {
+        int from = startSecond / SLOT_SECONDS;
+        int to = Math.min(SLOTS_PER_DAY, (endSecond + SLOT_SECONDS - 1) / SLOT_SECONDS);
+        for (int slot = from; slot < to; slot++) {
+            bits[slot >>> 6] |= 1L << slot;
+        }
+    }
+
+    static boolean isSet(long[] bits, int slot) {
+        return (bits[slot >>> 6] & (1L << slot)) != 0;
+    }
+
+    static int slotOf(LocalTime time) {
+        return time.toSecondOfDay() / SLOT_SECONDS;
+    }
+
+    // 칸 경계 시각 (SLOTS_PER_DAY는 하루의 끝 → 23:59:59로 표시)
+    static LocalTime timeOf(int slot) {
+        return slot >= SLOTS_PER_DAY ? LocalTime.MAX.withNano(0) : LocalTime.ofSecondOfDay((long) slot * SLOT_SECONDS);
+    }
+}
@@ -0,0 +1,70 @@
+package com.aslan.academymanagement.service.notification;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알림 전송 대기열
+ *
+ * - 요청 처리 스레드 대신 별도 스레드에서 알림을 보냄
+ * - 대기열 크기가 정해져 있어 알림이 아무리 많아도 메모리가 늘어나지 않음
+ *   (가득 차면 호출한 스레드가 직접 전송 → 자연스럽게 속도 조절)
+ */
+@Slf4j
+@Component
+public class NotificationDispatcher {
+
+    private static final int QUEUE_CAPACITY = 1_000;
+
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+            runnable -> {
+                Thread thread = new Thread(runnable, "notification-dispatcher");
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.CallerRunsPolicy());
+
+    public void dispatch(Runnable notification) {
+        executor.execute(() -> {
+            try {
+                notification.run();
+            } catch (RuntimeException e) {
+                log.warn("알림 전송 실패", e);
+            }
+        });
+    }
+
+    /**
+     * 트랜잭션이 커밋된 뒤에 대기열에 넣음 (롤백되면 보내지 않음, 트랜잭션 밖이면 바로 넣음)
+     */
+    public void dispatchAfterCommit(Runnable notification) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatch(notification);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dispatch(notification);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // 대기 중인 알림은 최대한 보내고 종료
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("전송하지 못한 알림 {}건", executor.shutdownNow().size());
+        }
+    }
+}
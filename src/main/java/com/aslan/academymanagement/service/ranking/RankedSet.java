@@ -0,0 +1,256 @@
+package com.aslan.academymanagement.service.ranking;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 점수 내림차순으로 정렬된 집합 (순위 조회가 가능한 트립, order-statistic treap)
+ *
+ * - 각 노드가 서브트리 크기를 들고 있어서 순위/구간 조회가 O(log n)
+ * - 정렬 기준: 값 내림차순, 같은 값이면 id 오름차순
+ * - 읽기/쓰기 락으로 여러 스레드에서 안전하게 사용
+ */
+public class RankedSet {
+
+    private static final class Node {
+        private final long id;
+        private final double value;
+        private final int priority = ThreadLocalRandom.current().nextInt();
+        private int size = 1;
+        private Node left;
+        private Node right;
+
+        private Node(long id, double value) {
+            this.id = id;
+            this.value = value;
+        }
+    }
+
+    private final Map<Long, Double> values = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Node root;
+
+    /**
+     * 값 등록 또는 갱신
+     */
+    public void put(long id, double value) {
+        lock.writeLock().lock();
+        try {
+            Double previous = values.put(id, value);
+            if (previous != null) {
+                if (previous == value) {
+                    return;
+                }
+                root = delete(root, previous, id);
+            }
+            root = insert(root, new Node(id, value));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Double previous = values.remove(id);
+            if (previous != null) {
+                root = delete(root, previous, id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 1부터 시작하는 순위 (없으면 -1)
+     */
+    public int rank(long id) {
+        lock.readLock().lock();
+        try {
+            Double value = values.get(id);
+            if (value == null) {
+                return -1;
+            }
+            int before = 0;
+            Node node = root;
+            while (node != null) {
+                int cmp = compare(value, id, node.value, node.id);
+                if (cmp == 0) {
+                    return before + size(node.left) + 1;
+                }
+                if (cmp < 0) {
+                    node = node.left;
+                } else {
+                    before += size(node.left) + 1;
+                    node = node.right;
+                }
+            }
+            return -1;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 값이 threshold 이상인 원소 수
+     */
+    public int countAtLeast(double threshold) {
+        lock.readLock().lock();
+        try {
+            int count = 0;
+            Node node = root;
+            while (node != null) {
+                if (node.value >= threshold) {
+                    count += size(node.left) + 1;
+                    node = node.right;
+                } else {
+                    node = node.left;
+                }
+            }
+            return count;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 상위 offset번째부터 limit개의 id를 순위 순서대로 반환 (O(limit · log n))
+     */
+    public List<Long> range(int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            int end = Math.min(size(root), offset + limit);
+            List<Long> ids = new ArrayList<>(Math.max(end - offset, 0));
+            for (int k = offset; k < end; k++) {
+                ids.add(select(k).id);
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size(root);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            values.clear();
+            root = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 0부터 시작하는 k번째 노드
+    private Node select(int k) {
+        Node node = root;
+        while (node != null) {
+            int leftSize = size(node.left);
+            if (k < leftSize) {
+                node = node.left;
+            } else if (k == leftSize) {
+                return node;
+            } else {
+                k -= leftSize + 1;
+                node = node.right;
+            }
+        }
+        throw new IndexOutOfBoundsException();
+    }
+
+    private Node insert(Node node, Node target) {
+        if (node == null) {
+            return target;
+        }
+        if (target.priority > node.priority) {
+            Node[] parts = split(node, target.value, target.id);
+            target.left = parts[0];
+            target.right = parts[1];
+            update(target);
+            return target;
+        }
+        if (compare(target.value, target.id, node.value, node.id) < 0) {
+            node.left = insert(node.left, target);
+        } else {
+            node.right = insert(node.right, target);
+        }
+        update(node);
+        return node;
+    }
+
+    private Node delete(Node node, double value, long id) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(value, id, node.value, node.id);
+        if (cmp == 0) {
+            return merge(node.left, node.right);
+        }
+        if (cmp < 0) {
+            node.left = delete(node.left, value, id);
+        } else {
+            node.right = delete(node.right, value, id);
+        }
+        update(node);
+        return node;
+    }
+
+    // (value, id)보다 앞선 노드들과 나머지 노드들로 분리
+    private Node[] split(Node node, double value, long id) {
+        if (node == null) {
+            return new Node[]{null, null};
+        }
+        if (compare(node.value, node.id, value, id) < 0) {
+            Node[] parts = split(node.right, value, id);
+            node.right = parts[0];
+            update(node);
+            return new Node[]{node, parts[1]};
+        }
+        Node[] parts = split(node.left, value, id);
+        node.left = parts[1];
+        update(node);
+        return new Node[]{parts[0], node};
+    }
+
+    private Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        update(right);
+        return right;
+    }
+
+    private static int compare(double value1, long id1, double value2, long id2) {
+        int cmp = Double.compare(value2, value1); // 내림차순
+        return cmp != 0 ? cmp : Long.compare(id1, id2);
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static void update(Node node) {
+        node.size = size(node.left) + size(node.right) + 1;
+    }
+}
@@ -0,0 +1,161 @@
+package com.aslan.academymanagement.service.ranking;
+
+import com.aslan.academymanagement.domain.Student;
+import com.aslan.academymanagement.domain.enums.Division;
+import com.aslan.academymanagement.dto.StudentRankResponse;
+import com.aslan.academymanagement.event.StudentUpdatedEvent;
+import com.aslan.academymanagement.repository.StudentCounterView;
+import com.aslan.academymanagement.repository.StudentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 부서별 우수 학생 랭킹 (메모리 상주)
+ *
+ * - 부서마다 출석 횟수 / 평균 점수 기준의 RankedSet을 유지
+ * - 애플리케이션 시작 시 한 번 채우고, 이후에는 StudentUpdatedEvent로 커밋 후 갱신
+ * - 상위 N명 페이지 조회와 개별 학생 순위 조회가 O(log n)
+ * - 커밋 후 이벤트는 순서가 뒤바뀌어 도착할 수 있으므로 version이 더 낮은 이벤트는 버림
+ * - 세 자료구조(entries, 출석/성적 보드)는 락 하나로 함께 갱신해서 읽는 쪽이 중간 상태를 보지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudentLeaderboard {
+
+    private final StudentRepository studentRepository;
+
+    private final Map<Division, RankedSet> attendanceBoards = newBoards();
+    private final Map<Division, RankedSet> scoreBoards = newBoards();
+
+    // 학생 번호 -> 마지막으로 반영된 값
+    private final Map<String, StudentUpdatedEvent> entries = new ConcurrentHashMap<>();
+
+    // 갱신은 쓰기 락, 순위/구간 조회는 읽기 락 (보드마다 있는 락과 별개로 세 자료구조를 묶어줌)
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        try (Stream<StudentCounterView> students = studentRepository.streamCountersBy()) {
+            students.map(StudentUpdatedEvent::of).forEach(this::apply);
+        }
+        log.info("🏆 학생 랭킹 초기화 완료: {}명", entries.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStudentUpdated(StudentUpdatedEvent event) {
+        apply(event);
+    }
+
+    /**
+     * 출석 횟수 기준 상위 학생 (minAttendance 이상만)
+     */
+    @Transactional(readOnly = true)
+    public List<Student> topByAttendance(Division division, int minAttendance, int page, int size) {
+        return top(attendanceBoards.get(division), minAttendance, page, size);
+    }
+
+    /**
+     * 평균 점수 기준 상위 학생 (minScore 이상만)
+     */
+    @Transactional(readOnly = true)
+    public List<Student> topByScore(Division division, double minScore, int page, int size) {
+        return top(scoreBoards.get(division), minScore, page, size);
+    }
+
+    public Optional<StudentRankResponse> getRank(String studentId) {
+        lock.readLock().lock();
+        try {
+            StudentUpdatedEvent entry = entries.get(studentId);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            RankedSet attendanceBoard = attendanceBoards.get(entry.division());
+            RankedSet scoreBoard = scoreBoards.get(entry.division());
+
+            return Optional.of(StudentRankResponse.builder()
+                    .studentId(studentId)
+                    .division(entry.division())
+                    .attendanceCount(entry.attendanceCount())
+                    .attendanceRank(attendanceBoard.rank(entry.id()))
+                    .averageScore(entry.averageScore())
+                    .scoreRank(scoreBoard.rank(entry.id()))
+                    .totalStudents(attendanceBoard.size())
+                    .build());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Student> top(RankedSet board, double threshold, int page, int size) {
+        List<Long> ids;
+        lock.readLock().lock();
+        try {
+            int eligible = board.countAtLeast(threshold);
+            int offset = page * size;
+            if (offset >= eligible) {
+                return List.of();
+            }
+            ids = board.range(offset, Math.min(size, eligible - offset));
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // 한 페이지 분량만 IN 쿼리로 조회한 뒤 랭킹 순서대로 정렬
+        Map<Long, Integer> order = ids.stream()
+                .collect(Collectors.toMap(Function.identity(), ids::indexOf));
+        return studentRepository.findAllById(ids).stream()
+                .sorted(Comparator.comparing(student -> order.get(student.getId())))
+                .toList();
+    }
+
+    private void apply(StudentUpdatedEvent event) {
+        lock.writeLock().lock();
+        try {
+            StudentUpdatedEvent current = entries.get(event.studentId());
+            if (current != null) {
+                // 같은 version은 엔티티 저장 전후의 같은 상태이므로 덮어써도 무방
+                if (event.version() < current.version()) {
+                    log.debug("오래된 학생 이벤트 무시: {} (v{} < v{})",
+                            event.studentId(), event.version(), current.version());
+                    return;
+                }
+                if (current.division() != event.division()) {
+                    attendanceBoards.get(current.division()).remove(current.id());
+                    scoreBoards.get(current.division()).remove(current.id());
+                }
+            }
+            entries.put(event.studentId(), event);
+            attendanceBoards.get(event.division()).put(event.id(), event.attendanceCount());
+            scoreBoards.get(event.division()).put(event.id(), event.averageScore());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static Map<Division, RankedSet> newBoards() {
+        Map<Division, RankedSet> boards = new EnumMap<>(Division.class);
+        for (Division division : Division.values()) {
+            boards.put(division, new RankedSet());
+        }
+        return boards;
+    }
+}
@@ -0,0 +1,108 @@
+package com.aslan.academymanagement.service.score;
+
+import com.aslan.academymanagement.domain.StudentScoreStats;
+import com.aslan.academymanagement.dto.ScoreStatsResponse;
+import com.aslan.academymanagement.event.StudentUpdatedEvent;
+import com.aslan.academymanagement.repository.ScoreRecordRepository;
+import com.aslan.academymanagement.repository.StudentRepository;
+import com.aslan.academymanagement.repository.StudentScoreStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 성적 이력 + 학생별 성적 집계 관리 서비스
+ *
+ * - 쓰기: 학생 행 잠금 + 이력 INSERT 1회 + 집계 MERGE 1회 + 평균 반영 UPDATE 1회 (모두 같은 트랜잭션)
+ * - 읽기: 평균/표준편차/최저/최고/추세를 집계 행 하나로 계산 (O(1))
+ * - 재계산: 이력을 기준으로 집계를 덮어씀. 학생 묶음 단위로 짧은 트랜잭션을 사용하므로
+ *   서비스를 멈추지 않고 실행 가능
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ScoreStatsService {
+
+    private static final int REBUILD_CHUNK_SIZE = 500;
+
+    private final ScoreRecordRepository scoreRecordRepository;
+    private final StudentScoreStatsRepository studentScoreStatsRepository;
+    private final StudentRepository studentRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 성적 1건 기록 (호출한 서비스의 트랜잭션에 참여)
+     */
+    @Transactional
+    public void record(String studentId, Double score) {
+        // 같은 학생의 성적 입력/재계산은 학생 행 잠금 순서대로 처리 (첫 집계 행 생성 충돌 방지)
+        if (studentRepository.lockIdByStudentId(studentId).isEmpty()) {
+            throw new IllegalArgumentException("학생을 찾을 수 없습니다: " + studentId);
+        }
+        scoreRecordRepository.append(studentId, score, LocalDateTime.now());
+        studentScoreStatsRepository.accumulate(studentId, score);
+        studentRepository.refreshAverageScore(studentId);
+    }
+
+    @Transactional(readOnly = true)
+    public ScoreStatsResponse getStats(String studentId) {
+        StudentScoreStats stats = studentScoreStatsRepository.findByStudentId(studentId)
+                .orElseThrow(() -> new IllegalArgumentException("성적 기록이 없습니다: " + studentId));
+        return ScoreStatsResponse.of(studentId, stats);
+    }
+
+    /**
+     * 한 학생의 집계를 성적 이력으로부터 다시 계산
+     */
+    @Transactional
+    public ScoreStatsResponse rebuild(String studentId) {
+        Long id = studentRepository.findByStudentId(studentId)
+                .orElseThrow(() -> new IllegalArgumentException("학생을 찾을 수 없습니다: " + studentId))
+                .getId();
+        rebuildChunk(List.of(id));
+        return getStats(studentId);
+    }
+
+    /**
+     * 성적 이력이 있는 모든 학생의 집계를 다시 계산
+     * - 학생 id 순으로 묶음을 나눠 묶음마다 별도 트랜잭션으로 처리
+     *
+     * @return 재계산한 학생 수
+     */
+    public int rebuildAll() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int rebuilt = 0;
+        long afterId = 0L;
+        while (true) {
+            List<Long> ids = scoreRecordRepository.findStudentIdsAfter(afterId, REBUILD_CHUNK_SIZE);
+            if (ids.isEmpty()) {
+                break;
+            }
+            transactionTemplate.executeWithoutResult(status -> rebuildChunk(ids));
+            rebuilt += ids.size();
+            afterId = ids.get(ids.size() - 1);
+        }
+        log.info("📊 성적 집계 재계산 완료: {}명", rebuilt);
+        return rebuilt;
+    }
+
+    private void rebuildChunk(List<Long> studentIds) {
+        // 재계산 도중 들어오는 성적 입력은 학생 행 잠금이 풀릴 때까지 대기 (성적 입력과 같은 잠금 순서)
+        studentRepository.lockAllByIdIn(studentIds);
+        studentScoreStatsRepository.rebuild(studentIds);
+        studentRepository.refreshAverageScores(studentIds);
+
+        // 바뀐 평균을 랭킹 등에 반영
+        studentRepository.findCountersByIdIn(studentIds).stream()
+                .map(StudentUpdatedEvent::of)
+                .forEach(eventPublisher::publishEvent);
+    }
+}
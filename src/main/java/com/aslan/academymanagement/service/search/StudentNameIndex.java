@@ -0,0 +1,348 @@
+package com.aslan.academymanagement.service.search;
+
+import com.aslan.academymanagement.domain.enums.Division;
+import com.aslan.academymanagement.dto.StudentSuggestion;
+import com.aslan.academymanagement.event.StudentUpdatedEvent;
+import com.aslan.academymanagement.repository.StudentCounterView;
+import com.aslan.academymanagement.repository.StudentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Stream;
+
+/**
+ * 학생 이름 검색용 메모리 역색인 (inverted index)
+ *
+ * - "n:" 키: 이름의 글자 단위 1-gram / 2-gram (예: 김민수 -> 김, 민, 수, 김민, 민수)
+ * - "c:" 키: 초성으로 바꾼 이름의 1-gram / 2-gram (예: ㄱㅁㅅ -> ㄱ, ㅁ, ㅅ, ㄱㅁ, ㅁㅅ)
+ * - 앞부분 일치는 이름순/초성순 정렬 집합에서 바로 찾고, 중간 일치는 gram 교집합 후
+ *   실제 포함 여부를 다시 확인
+ * - 초성과 완성형이 섞인 "김ㅁ" 같은 검색어는 정렬 집합 대신 gram 교집합에서 앞부분/중간 일치를 함께 찾음
+ *
+ * LIKE '%x%' 전체 스캔 대신 키 조회 몇 번으로 끝나므로 타이핑마다 호출해도 부담이 적음
+ *
+ * 갱신은 학생마다 entries.compute 안에서 한 번에 교체 (같은 학생의 이벤트가 여러 스레드에서 와도
+ * 이전 항목이 정렬 집합/posting list에 남지 않음), version이 더 낮은 늦은 이벤트는 버림
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudentNameIndex {
+
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final char HANGUL_BEGIN = '가';
+    private static final char HANGUL_END = '힣';
+    private static final int SYLLABLES_PER_CHOSUNG = 21 * 28;
+
+    private record Entry(Long id, String studentId, String name, String normalizedName, String chosungName,
+                         Division division, long version) {
+    }
+
+    private static final Comparator<Entry> NAME_ORDER = Comparator.comparing(Entry::normalizedName)
+            .thenComparing(Entry::id);
+    private static final Comparator<Entry> CHOSUNG_ORDER = Comparator.comparing(Entry::chosungName)
+            .thenComparing(NAME_ORDER);
+
+    private final StudentRepository studentRepository;
+
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    // 접두어 검색용 정렬 집합 (이름순 / 초성순)
+    private final NavigableSet<Entry> byName = new ConcurrentSkipListSet<>(NAME_ORDER);
+    private final NavigableSet<Entry> byChosung = new ConcurrentSkipListSet<>(CHOSUNG_ORDER);
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        try (Stream<StudentCounterView> students = studentRepository.streamCountersBy()) {
+            students.map(StudentUpdatedEvent::of).forEach(this::put);
+        }
+        log.info("🔎 학생 이름 색인 초기화 완료: {}명, 키 {}개", entries.size(), postings.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStudentUpdated(StudentUpdatedEvent event) {
+        put(event);
+    }
+
+    public void put(StudentUpdatedEvent student) {
+        String normalized = normalize(student.name());
+        Entry entry = new Entry(student.id(), student.studentId(), student.name(),
+                normalized, toChosung(normalized), student.division(), student.version());
+        // 같은 학생의 갱신은 compute가 잡는 키 잠금으로 순서대로 실행됨 (다른 학생은 서로 막지 않음)
+        entries.compute(entry.id(), (id, previous) -> {
+            if (previous != null && previous.version() > entry.version()) {
+                return previous;
+            }
+            if (previous != null) {
+                byName.remove(previous);
+                byChosung.remove(previous);
+                if (!previous.name().equals(entry.name())) {
+                    keysOf(previous.normalizedName()).forEach(key -> {
+                        Set<Long> ids = postings.get(key);
+                        if (ids != null) {
+                            ids.remove(id);
+                        }
+                    });
+                }
+            }
+            byName.add(entry);
+            byChosung.add(entry);
+            keysOf(normalized).forEach(key ->
+                    postings.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(id));
+            return entry;
+        });
+    }
+
+    /**
+     * 이름 검색
+     * 1. 앞부분 일치: 정렬된 집합에서 접두어 위치로 바로 이동해 limit개까지 (O(log n + limit))
+     * 2. 부족하면 중간 일치: gram 교집합 후보에서 limit개가 찰 때까지 확인
+     * 초성과 완성형이 섞인 검색어는 두 단계를 gram 교집합 한 번으로 처리
+     */
+    public List<StudentSuggestion> search(String query, int limit) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+
+        List<Entry> results = new ArrayList<>(limit);
+        if (isMixed(normalized)) {
+            collectMixedMatches(normalized, limit, results);
+        } else {
+            Set<Long> seen = new HashSet<>();
+            collectPrefixMatches(normalized, limit, results, seen);
+            if (results.size() < limit) {
+                collectInfixMatches(normalized, limit, results, seen);
+            }
+        }
+
+        return results.stream()
+                .map(e -> new StudentSuggestion(e.id(), e.studentId(), e.name(), e.division()))
+                .toList();
+    }
+
+    // 초성만 또는 완성형만인 검색어: 정렬 집합의 접두어 구간이 곧 일치 결과
+    private void collectPrefixMatches(String query, int limit, List<Entry> results, Set<Long> seen) {
+        boolean chosungFirst = isChosung(query.charAt(0));
+        NavigableSet<Entry> sorted = chosungFirst ? byChosung : byName;
+        Entry probe = new Entry(Long.MIN_VALUE, "", "", query, query, null, 0L);
+
+        for (Entry entry : sorted.tailSet(probe, true)) {
+            String key = chosungFirst ? entry.chosungName() : entry.normalizedName();
+            if (!key.startsWith(query) || results.size() >= limit) {
+                return;
+            }
+            if (seen.add(entry.id())) {
+                results.add(entry);
+            }
+        }
+    }
+
+    private void collectInfixMatches(String query, int limit, List<Entry> results, Set<Long> seen) {
+        List<Set<Long>> candidates = candidatesOf(query);
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        List<Entry> infix = new ArrayList<>();
+        for (Long id : candidates.get(0)) {
+            if (results.size() + infix.size() >= limit) {
+                break;
+            }
+            if (seen.contains(id) || !containsAll(candidates, id)) {
+                continue;
+            }
+            Entry entry = entries.get(id);
+            if (entry != null && indexOf(entry.normalizedName(), query) > 0) {
+                infix.add(entry);
+            }
+        }
+        infix.sort(NAME_ORDER);
+        results.addAll(infix);
+    }
+
+    /**
+     * 초성과 완성형이 섞인 검색어
+     * - 정렬 집합의 접두어 구간은 "김ㅁ"이면 김으로 시작하는 이름 전체라 일치하지 않는 이름까지 훑게 됨
+     * - 대신 초성 gram과 이름 gram의 교집합 후보만 확인 (후보 수는 가장 작은 posting list 이하)
+     */
+    private void collectMixedMatches(String query, int limit, List<Entry> results) {
+        List<Set<Long>> candidates = candidatesOf(query);
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        List<Entry> prefix = new ArrayList<>();
+        List<Entry> infix = new ArrayList<>();
+        for (Long id : candidates.get(0)) {
+            if (!containsAll(candidates, id)) {
+                continue;
+            }
+            Entry entry = entries.get(id);
+            if (entry == null) {
+                continue;
+            }
+            int index = indexOf(entry.normalizedName(), query);
+            if (index == 0) {
+                prefix.add(entry);
+            } else if (index > 0 && infix.size() < limit) {
+                infix.add(entry);
+            }
+        }
+        prefix.sort(NAME_ORDER);
+        infix.sort(NAME_ORDER);
+        for (List<Entry> matches : List.of(prefix, infix)) {
+            for (Entry entry : matches) {
+                if (results.size() >= limit) {
+                    return;
+                }
+                results.add(entry);
+            }
+        }
+    }
+
+    // 검색어 키마다 posting list를 작은 것부터 정렬 (하나라도 없으면 빈 목록)
+    private List<Set<Long>> candidatesOf(String query) {
+        List<Set<Long>> candidates = new ArrayList<>();
+        for (String key : queryKeys(query)) {
+            Set<Long> ids = postings.get(key);
+            if (ids == null || ids.isEmpty()) {
+                return List.of();
+            }
+            candidates.add(ids);
+        }
+        candidates.sort(Comparator.comparingInt(Set::size));
+        return candidates;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private static boolean containsAll(List<Set<Long>> sets, Long id) {
+        for (int i = 1; i < sets.size(); i++) {
+            if (!sets.get(i).contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 초성 글자와 그 밖의 글자가 함께 있는 검색어
+    private static boolean isMixed(String query) {
+        boolean chosung = false;
+        boolean other = false;
+        for (int i = 0; i < query.length(); i++) {
+            if (isChosung(query.charAt(i))) {
+                chosung = true;
+            } else {
+                other = true;
+            }
+        }
+        return chosung && other;
+    }
+
+    // 색인할 키: 이름 gram + 초성 gram
+    private static Set<String> keysOf(String normalized) {
+        Set<String> keys = new LinkedHashSet<>();
+        addGrams(keys, "n:", normalized);
+        addGrams(keys, "c:", toChosung(normalized));
+        return keys;
+    }
+
+    // 검색어에서 뽑는 키: 초성 gram은 항상, 이름 gram은 초성이 섞이지 않은 구간만
+    private static Set<String> queryKeys(String query) {
+        Set<String> keys = new LinkedHashSet<>();
+        String chosung = toChosung(query);
+        if (chosung.length() == 1) {
+            keys.add("c:" + chosung);
+        }
+        for (int i = 0; i + 1 < chosung.length(); i++) {
+            keys.add("c:" + chosung.substring(i, i + 2));
+        }
+        for (int i = 0; i < query.length(); i++) {
+            if (isChosung(query.charAt(i))) {
+                continue;
+            }
+            keys.add("n:" + query.charAt(i));
+            if (i + 1 < query.length() && !isChosung(query.charAt(i + 1))) {
+                keys.add("n:" + query.substring(i, i + 2));
+            }
+        }
+        return keys;
+    }
+
+    private static void addGrams(Set<String> keys, String prefix, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            keys.add(prefix + text.charAt(i));
+            if (i + 1 < text.length()) {
+                keys.add(prefix + text.substring(i, i + 2));
+            }
+        }
+    }
+
+    // 이름에서 검색어가 시작하는 위치 (초성 검색어 글자는 해당 음절의 초성과 비교)
+    private static int indexOf(String name, String query) {
+        for (int start = 0; start + query.length() <= name.length(); start++) {
+            boolean matched = true;
+            for (int i = 0; i < query.length() && matched; i++) {
+                char q = query.charAt(i);
+                char n = name.charAt(start + i);
+                matched = q == n || (isChosung(q) && chosungOf(n) == q);
+            }
+            if (matched) {
+                return start;
+            }
+        }
+        return -1;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.strip().replace(" ", "").toLowerCase();
+    }
+
+    static String toChosung(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            builder.append(chosungOf(text.charAt(i)));
+        }
+        return builder.toString();
+    }
+
+    private static char chosungOf(char c) {
+        if (c >= HANGUL_BEGIN && c <= HANGUL_END) {
+            return CHOSUNG[(c - HANGUL_BEGIN) / SYLLABLES_PER_CHOSUNG];
+        }
+        return c;
+    }
+
+    private static boolean isChosung(char c) {
+        for (char chosung : CHOSUNG) {
+            if (chosung == c) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -5,12 +5,21 @@ import com.aslan.academymanagement.annotation.Loggable;
 import com.aslan.academymanagement.annotation.Monitored;
 import com.aslan.academymanagement.domain.Student;
 import com.aslan.academymanagement.domain.enums.Division;
+import com.aslan.academymanagement.dto.AttendanceResult;
 import com.aslan.academymanagement.dto.StudentRequest;
+import com.aslan.academymanagement.repository.StudentCounterView;
+import com.aslan.academymanagement.event.StudentUpdatedEvent;
 import com.aslan.academymanagement.repository.StudentRepository;
+import com.aslan.academymanagement.service.notification.NotificationDispatcher;
 import com.aslan.academymanagement.service.notification.NotificationService;
+import com.aslan.academymanagement.service.ranking.StudentLeaderboard;
+import com.aslan.academymanagement.service.score.ScoreStatsService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -58,6 +67,17 @@ public class ElementaryStudentService implements StudentManagementService {
     // final 키워드로 불변성 보장 - 생성자 주입의 장점
     private final StudentRepository studentRepository;
     private final NotificationService notificationService;
+    private final NotificationDispatcher notificationDispatcher;
+    private final ScoreStatsService scoreStatsService;
+    private final StudentLeaderboard studentLeaderboard;
+    private final StudentIdFilter studentIdFilter;
+    private final StudentCache studentCache;
+    private final StudentAttendanceChecker attendanceChecker;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // application-elemnetary.yml의 우수 학생 기준
+    @Value("${academy.min-attendance:80}")
+    private int minAttendance;
 
     @Override
     @Transactional
@@ -66,16 +86,38 @@ public class ElementaryStudentService implements StudentManagementService {
     public Student registerStudent(StudentRequest request) {
         log.info("👶 초등부 학생 등록 시작: {}", request.getName());
 
-        if (request.getParentPhoneNumber() == null ||
-                request.getParentPhoneNumber().isEmpty()) {
-            throw new IllegalArgumentException("초등부는 학부모 연락처가 필수입니다!");
+        Student student = newStudent(request);
+
+        // 필터가 "확실히 없음"이라고 하면 중복 확인 쿼리 생략 (최종 판정은 유니크 제약)
+        if (studentIdFilter.mightContain(request.getStudentId())
+                && studentRepository.existsByStudentId(request.getStudentId())) {
+            throw new IllegalArgumentException("이미 존재하는 학생 번호입니다: " + request.getStudentId());
         }
 
-        if (studentRepository.existsByStudentId(request.getStudentId())) {
+        Student saved;
+        try {
+            saved = studentRepository.save(student);
+        } catch (DataIntegrityViolationException e) {
+            // 확인 직후 같은 번호가 동시에 등록된 경우만 번역, 다른 제약 위반은 그대로 전파
+            if (!StudentIdConstraint.isViolatedBy(e)) {
+                throw e;
+            }
             throw new IllegalArgumentException("이미 존재하는 학생 번호입니다: " + request.getStudentId());
         }
+        eventPublisher.publishEvent(StudentUpdatedEvent.of(saved));
+        notifyRegistered(saved);
 
-        Student student = Student.builder()
+        return saved;
+    }
+
+    @Override
+    public Student newStudent(StudentRequest request) {
+        if (request.getParentPhoneNumber() == null ||
+                request.getParentPhoneNumber().isEmpty()) {
+            throw new IllegalArgumentException("초등부는 학부모 연락처가 필수입니다!");
+        }
+
+        return Student.builder()
                 .studentId(request.getStudentId())
                 .name(request.getName())
                 .birthDate(request.getBirthDate())
@@ -87,21 +129,26 @@ public class ElementaryStudentService implements StudentManagementService {
                 .averageScore(0.0)
                 .specialNotes("🌟 신규 등록 - 귀가 동의서 필요")
                 .build();
+    }
 
-        Student saved = studentRepository.save(student);
-
+    @Override
+    public void notifyRegistered(Student student) {
         notificationService.notifyParent(
-                saved.getParentPhoneNumber(),
-                String.format("🎉 %s 학생이 초등부에 등록되었습니다!", saved.getName())
+                student.getParentPhoneNumber(),
+                String.format("🎉 %s 학생이 초등부에 등록되었습니다!", student.getName())
         );
-
-        return saved;
     }
 
     @Override
     @Transactional(readOnly = true)
     public Student getStudent(String studentId) {
-        return studentRepository.findByStudentId(studentId)
+        // 조회 전용 (캐시된 엔티티는 수정하지 않음)
+        return studentCache.get(studentId)
+                .orElseThrow(() -> new IllegalArgumentException("학생을 찾을 수 없습니다: " + studentId));
+    }
+
+    private StudentCounterView getCounters(String studentId) {
+        return studentRepository.findCountersByStudentId(studentId)
                 .orElseThrow(() -> new IllegalArgumentException("학생을 찾을 수 없습니다: " + studentId));
     }
 
@@ -109,7 +156,10 @@ public class ElementaryStudentService implements StudentManagementService {
     @Transactional
     @Loggable
     public Student updateStudent(String studentId, StudentRequest request) {
-        Student student = getStudent(studentId);
+        // 수정은 캐시를 거치지 않고 영속 상태의 엔티티로 (커밋 후 이벤트로 캐시 제거)
+        // 행을 잠가 출석/성적 카운터 UPDATE와 순서대로 처리 (version 충돌 방지)
+        Student student = studentRepository.findForUpdateByStudentId(studentId)
+                .orElseThrow(() -> new IllegalArgumentException("학생을 찾을 수 없습니다: " + studentId));
 
         student.setName(request.getName());
         student.setPhoneNumber(request.getPhoneNumber());
@@ -117,47 +167,57 @@ public class ElementaryStudentService implements StudentManagementService {
         student.setGrade(request.getGrade());
         student.setSpecialNotes(request.getSpecialNotes());
 
-        return studentRepository.save(student);
+        // 바로 flush해서 증가한 version을 이벤트에 싣기
+        Student saved = studentRepository.saveAndFlush(student);
+        eventPublisher.publishEvent(StudentUpdatedEvent.of(saved));
+        return saved;
     }
 
     @Override
     @Transactional
     @AttendanceRequired
     public void checkAttendance(String studentId) {
-        Student student = getStudent(studentId);
+        notifyAttendance(attendanceChecker.checkAttendance(Division.ELEMENTARY, studentId));
+    }
 
-        student.setAttendanceCount(student.getAttendanceCount() + 1);
-        studentRepository.save(student);
+    @Override
+    @Transactional
+    @AttendanceRequired
+    public List<AttendanceResult> checkAttendances(Long lectureId, List<String> studentIds) {
+        List<AttendanceResult> results = attendanceChecker.checkAttendances(Division.ELEMENTARY, lectureId, studentIds,
+                attended -> attended.forEach(this::notifyAttendance));
 
-        log.info("👶 초등부 출석 체크: {} (총 {}일)", student.getName(), student.getAttendanceCount());
+        log.info("👶 초등부 일괄 출석 체크: 강의 {} - {}/{}명", lectureId, AttendanceResult.countAttended(results), results.size());
+        return results;
+    }
 
-        notificationService.notifyParent(
-                student.getParentPhoneNumber(),
-                String.format("✅ %s 학생이 출석했습니다! (총 %d일)",
-                        student.getName(), student.getAttendanceCount())
-        );
+    // 알림은 커밋 후 대기열로 보냄 (일괄 출석에서 학생 수만큼 트랜잭션이 길어지지 않도록)
+    private void notifyAttendance(StudentCounterView student) {
+        log.info("👶 초등부 출석 체크: {} (총 {}일)", student.getName(), student.getAttendanceCount());
 
-        if (student.getAttendanceCount() == 100) {
-            notificationService.notifyParent(
-                    student.getParentPhoneNumber(),
-                    String.format("🎊 축하합니다! %s 학생이 100일 개근을 달성했습니다!", student.getName())
-            );
-        }
+        String parentPhoneNumber = student.getParentPhoneNumber();
+        String attendedMessage = String.format("✅ %s 학생이 출석했습니다! (총 %d일)",
+                student.getName(), student.getAttendanceCount());
+        String milestoneMessage = student.getAttendanceCount() == 100
+                ? String.format("🎊 축하합니다! %s 학생이 100일 개근을 달성했습니다!", student.getName())
+                : null;
+
+        notificationDispatcher.dispatchAfterCommit(() -> {
+            notificationService.notifyParent(parentPhoneNumber, attendedMessage);
+            if (milestoneMessage != null) {
+                notificationService.notifyParent(parentPhoneNumber, milestoneMessage);
+            }
+        });
     }
 
     @Override
     @Transactional
     @Loggable
     public void updateScore(String studentId, Double score) {
-        Student student = getStudent(studentId);
-
-        double currentAvg = student.getAverageScore() != null ? student.getAverageScore() : 0.0;
-        int count = student.getAttendanceCount() != null ? student.getAttendanceCount() : 1;
-
-        double newAvg = ((currentAvg * count) + score) / (count + 1);
-        student.setAverageScore(Math.round(newAvg * 100.0) / 100.0);
-
-        studentRepository.save(student);
+        // 이력 기록 + 집계 증분 갱신 + 평균 반영 (모두 DB에서 원자적으로 처리)
+        scoreStatsService.record(studentId, score);
+        StudentCounterView student = getCounters(studentId);
+        eventPublisher.publishEvent(StudentUpdatedEvent.of(student));
 
         log.info("👶 초등부 성적 입력: {} - {}점 (평균: {})",
                 student.getName(), score, student.getAverageScore());
@@ -174,13 +234,11 @@ public class ElementaryStudentService implements StudentManagementService {
     @Override
     @Transactional(readOnly = true)
     @Monitored
-    public List<Student> getTopStudents() {
-        log.info("👶 초등부 우수 학생 조회 (출석 80일 이상)");
+    public List<Student> getTopStudents(int page, int size) {
+        log.info("👶 초등부 우수 학생 조회 (출석 {}일 이상)", minAttendance);
 
-        List<Student> allStudents = studentRepository.findByDivision(Division.ELEMENTARY);
-        return allStudents.stream()
-                .filter(s -> s.getAttendanceCount() != null && s.getAttendanceCount() >= 80)
-                .toList();
+        // 전체 학생을 불러오지 않고 메모리 랭킹에서 해당 페이지의 학생만 조회
+        return studentLeaderboard.topByAttendance(Division.ELEMENTARY, minAttendance, page, size);
     }
 
     @Override
@@ -6,16 +6,28 @@ import com.aslan.academymanagement.annotation.Loggable;
 import com.aslan.academymanagement.annotation.Monitored;
 import com.aslan.academymanagement.domain.Student;
 import com.aslan.academymanagement.domain.enums.Division;
+import com.aslan.academymanagement.dto.AttendanceResult;
 import com.aslan.academymanagement.dto.StudentRequest;
+import com.aslan.academymanagement.repository.StudentCounterView;
+import com.aslan.academymanagement.event.StudentUpdatedEvent;
 import com.aslan.academymanagement.repository.StudentRepository;
+import com.aslan.academymanagement.service.attendance.AttendanceLogService;
+import com.aslan.academymanagement.service.notification.NotificationDispatcher;
 import com.aslan.academymanagement.service.notification.NotificationService;
+import com.aslan.academymanagement.service.ranking.StudentLeaderboard;
+import com.aslan.academymanagement.service.score.ScoreStatsService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -23,8 +35,23 @@ import java.util.List;
 @RequiredArgsConstructor
 public class MiddleStudentService implements StudentManagementService {
 
+    // 누적 출석이 이 이상이면 이번 달 출석률을 확인
+    private static final int RATE_CHECK_ATTENDANCE = 50;
+
     private final StudentRepository studentRepository;
     private final NotificationService notificationService;
+    private final NotificationDispatcher notificationDispatcher;
+    private final AttendanceLogService attendanceLogService;
+    private final ScoreStatsService scoreStatsService;
+    private final StudentLeaderboard studentLeaderboard;
+    private final StudentIdFilter studentIdFilter;
+    private final StudentCache studentCache;
+    private final StudentAttendanceChecker attendanceChecker;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // application-middle.yml의 우수 학생 기준
+    @Value("${academy.min-score:90.0}")
+    private double minScore;
 
     @Override
     @Transactional
@@ -33,15 +60,37 @@ public class MiddleStudentService implements StudentManagementService {
     public Student registerStudent(StudentRequest request) {
         log.info("🎓 중등부 학생 등록 시작: {}", request.getName());
 
-        if (request.getPhoneNumber() == null || request.getPhoneNumber().isEmpty()) {
-            throw new IllegalArgumentException("중등부는 본인 연락처가 필수입니다!");
+        Student student = newStudent(request);
+
+        // 필터가 "확실히 없음"이라고 하면 중복 확인 쿼리 생략 (최종 판정은 유니크 제약)
+        if (studentIdFilter.mightContain(request.getStudentId())
+                && studentRepository.existsByStudentId(request.getStudentId())) {
+            throw new IllegalArgumentException("이미 존재하는 학생 번호입니다: " + request.getStudentId());
         }
 
-        if (studentRepository.existsByStudentId(request.getStudentId())) {
+        Student saved;
+        try {
+            saved = studentRepository.save(student);
+        } catch (DataIntegrityViolationException e) {
+            // 확인 직후 같은 번호가 동시에 등록된 경우만 번역, 다른 제약 위반은 그대로 전파
+            if (!StudentIdConstraint.isViolatedBy(e)) {
+                throw e;
+            }
             throw new IllegalArgumentException("이미 존재하는 학생 번호입니다: " + request.getStudentId());
         }
+        eventPublisher.publishEvent(StudentUpdatedEvent.of(saved));
+        notifyRegistered(saved);
+
+        return saved;
+    }
+
+    @Override
+    public Student newStudent(StudentRequest request) {
+        if (request.getPhoneNumber() == null || request.getPhoneNumber().isEmpty()) {
+            throw new IllegalArgumentException("중등부는 본인 연락처가 필수입니다!");
+        }
 
-        Student student = Student.builder()
+        return Student.builder()
                 .studentId(request.getStudentId())
                 .name(request.getName())
                 .birthDate(request.getBirthDate())
@@ -53,28 +102,33 @@ public class MiddleStudentService implements StudentManagementService {
                 .averageScore(0.0)
                 .specialNotes("📚 신규 등록 - 레벨 테스트 예정")
                 .build();
+    }
 
-        Student saved = studentRepository.save(student);
-
+    @Override
+    public void notifyRegistered(Student student) {
         notificationService.notifyStudent(
-                saved.getPhoneNumber(),
-                String.format("🎉 %s님, 중등부에 등록되었습니다! 열심히 공부해요!", saved.getName())
+                student.getPhoneNumber(),
+                String.format("🎉 %s님, 중등부에 등록되었습니다! 열심히 공부해요!", student.getName())
         );
 
-        if (saved.getParentPhoneNumber() != null) {
+        if (student.getParentPhoneNumber() != null) {
             notificationService.notifyParent(
-                    saved.getParentPhoneNumber(),
-                    String.format("%s 학생이 중등부에 등록되었습니다.", saved.getName())
+                    student.getParentPhoneNumber(),
+                    String.format("%s 학생이 중등부에 등록되었습니다.", student.getName())
             );
         }
-
-        return saved;
     }
 
     @Override
     @Transactional(readOnly = true)
     public Student getStudent(String studentId) {
-        return studentRepository.findByStudentId(studentId)
+        // 조회 전용 (캐시된 엔티티는 수정하지 않음)
+        return studentCache.get(studentId)
+                .orElseThrow(() -> new IllegalArgumentException("학생을 찾을 수 없습니다: " + studentId));
+    }
+
+    private StudentCounterView getCounters(String studentId) {
+        return studentRepository.findCountersByStudentId(studentId)
                 .orElseThrow(() -> new IllegalArgumentException("학생을 찾을 수 없습니다: " + studentId));
     }
 
@@ -82,7 +136,10 @@ public class MiddleStudentService implements StudentManagementService {
     @Transactional
     @Loggable
     public Student updateStudent(String studentId, StudentRequest request) {
-        Student student = getStudent(studentId);
+        // 수정은 캐시를 거치지 않고 영속 상태의 엔티티로 (커밋 후 이벤트로 캐시 제거)
+        // 행을 잠가 출석/성적 카운터 UPDATE와 순서대로 처리 (version 충돌 방지)
+        Student student = studentRepository.findForUpdateByStudentId(studentId)
+                .orElseThrow(() -> new IllegalArgumentException("학생을 찾을 수 없습니다: " + studentId));
 
         student.setName(request.getName());
         student.setPhoneNumber(request.getPhoneNumber());
@@ -90,49 +147,71 @@ public class MiddleStudentService implements StudentManagementService {
         student.setGrade(request.getGrade());
         student.setSpecialNotes(request.getSpecialNotes());
 
-        return studentRepository.save(student);
+        // 바로 flush해서 증가한 version을 이벤트에 싣기
+        Student saved = studentRepository.saveAndFlush(student);
+        eventPublisher.publishEvent(StudentUpdatedEvent.of(saved));
+        return saved;
     }
 
     @Override
     @Transactional
     @AttendanceRequired
     public void checkAttendance(String studentId) {
-        Student student = getStudent(studentId);
+        StudentCounterView student = attendanceChecker.checkAttendance(Division.MIDDLE, studentId);
+        notifyAttendance(student, getMonthToDateRates(List.of(student)).get(studentId));
+    }
+
+    @Override
+    @Transactional
+    @AttendanceRequired
+    public List<AttendanceResult> checkAttendances(Long lectureId, List<String> studentIds) {
+        List<AttendanceResult> results = attendanceChecker.checkAttendances(Division.MIDDLE, lectureId, studentIds,
+                attended -> {
+                    // 출석률 확인 대상의 이번 달 출석률을 한 번에 조회
+                    Map<String, Double> rates = getMonthToDateRates(attended);
+                    attended.forEach(student -> notifyAttendance(student, rates.get(student.getStudentId())));
+                });
+
+        log.info("🎓 중등부 일괄 출석 체크: 강의 {} - {}/{}명", lectureId, AttendanceResult.countAttended(results), results.size());
+        return results;
+    }
 
-        student.setAttendanceCount(student.getAttendanceCount() + 1);
-        studentRepository.save(student);
+    // 누적 출석이 RATE_CHECK_ATTENDANCE일 이상인 학생만 이번 달 출석률 조회 (대상이 없으면 쿼리 없음)
+    private Map<String, Double> getMonthToDateRates(Collection<StudentCounterView> students) {
+        List<String> targets = students.stream()
+                .filter(student -> student.getAttendanceCount() >= RATE_CHECK_ATTENDANCE)
+                .map(StudentCounterView::getStudentId)
+                .toList();
+        return attendanceLogService.getMonthToDateRates(targets);
+    }
 
+    // attendanceRate: 이번 달 출석률 (확인 대상이 아니면 null)
+    // 알림은 커밋 후 대기열로 보냄 (일괄 출석에서 학생 수만큼 트랜잭션이 길어지지 않도록)
+    private void notifyAttendance(StudentCounterView student, Double attendanceRate) {
         log.info("🎓 중등부 출석 체크: {} (총 {}일)", student.getName(), student.getAttendanceCount());
 
-        notificationService.notifyStudent(
-                student.getPhoneNumber(),
-                String.format("✅ 출석 체크 완료! (총 %d일)", student.getAttendanceCount())
-        );
+        String phoneNumber = student.getPhoneNumber();
+        String attendedMessage = String.format("✅ 출석 체크 완료! (총 %d일)", student.getAttendanceCount());
+        String warningMessage = attendanceRate != null && attendanceRate < 90
+                ? String.format("⚠️ 출석률이 %.1f%%입니다. 출석 관리에 주의하세요!", attendanceRate)
+                : null;
 
-        if (student.getAttendanceCount() >= 50) {
-            double attendanceRate = (student.getAttendanceCount() / 50.0) * 100;
-            if (attendanceRate < 90) {
-                notificationService.notifyStudent(
-                        student.getPhoneNumber(),
-                        String.format("⚠️ 출석률이 %.1f%%입니다. 출석 관리에 주의하세요!", attendanceRate)
-                );
+        notificationDispatcher.dispatchAfterCommit(() -> {
+            notificationService.notifyStudent(phoneNumber, attendedMessage);
+            if (warningMessage != null) {
+                notificationService.notifyStudent(phoneNumber, warningMessage);
             }
-        }
+        });
     }
 
     @Override
     @Transactional
     @Loggable
     public void updateScore(String studentId, Double score) {
-        Student student = getStudent(studentId);
-
-        double currentAvg = student.getAverageScore() != null ? student.getAverageScore() : 0.0;
-        int count = student.getAttendanceCount() != null ? student.getAttendanceCount() : 1;
-
-        double newAvg = ((currentAvg * count) + score) / (count + 1);
-        student.setAverageScore(Math.round(newAvg * 100.0) / 100.0);
-
-        studentRepository.save(student);
+        // 이력 기록 + 집계 증분 갱신 + 평균 반영 (모두 DB에서 원자적으로 처리)
+        scoreStatsService.record(studentId, score);
+        StudentCounterView student = getCounters(studentId);
+        eventPublisher.publishEvent(StudentUpdatedEvent.of(student));
 
         String grade = calculateGrade(student.getAverageScore());
 
@@ -157,10 +236,11 @@ public class MiddleStudentService implements StudentManagementService {
     @Override
     @Transactional(readOnly = true)
     @Monitored
-    public List<Student> getTopStudents() {
-        log.info("🎓 중등부 우수 학생 조회 (평균 90점 이상)");
+    public List<Student> getTopStudents(int page, int size) {
+        log.info("🎓 중등부 우수 학생 조회 (평균 {}점 이상)", minScore);
 
-        return studentRepository.findHighAchievers(Division.MIDDLE, 90.0);
+        // 전체 학생을 불러오지 않고 메모리 랭킹에서 해당 페이지의 학생만 조회
+        return studentLeaderboard.topByScore(Division.MIDDLE, minScore, page, size);
     }
 
     @Override
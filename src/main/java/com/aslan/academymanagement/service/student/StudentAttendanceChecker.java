@@ -0,0 +1,94 @@
+package com.aslan.academymanagement.service.student;
+
+import com.aslan.academymanagement.domain.enums.Division;
+import com.aslan.academymanagement.dto.AttendanceResult;
+import com.aslan.academymanagement.event.StudentUpdatedEvent;
+import com.aslan.academymanagement.repository.LectureStudentRepository;
+import com.aslan.academymanagement.repository.StudentCounterView;
+import com.aslan.academymanagement.repository.StudentRepository;
+import com.aslan.academymanagement.service.attendance.AttendanceLogService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 부서 공통 출석 처리 (초등부/중등부 서비스가 함께 사용)
+ *
+ * - 현재 부서(Profile)의 학생만 출석 처리. 다른 부서 학생은 없는 학생과 같게 취급
+ * - 출석 횟수 증가 + 일별 집계 + 갱신 이벤트까지 처리하고, 알림 내용은 부서별 서비스가 정함
+ * - 호출한 서비스의 트랜잭션에 참여 (알림도 서비스 쪽에서 커밋 후 전송)
+ */
+@Component
+@RequiredArgsConstructor
+class StudentAttendanceChecker {
+
+    private final StudentRepository studentRepository;
+    private final LectureStudentRepository lectureStudentRepository;
+    private final AttendanceLogService attendanceLogService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 단건 출석: 엔티티를 읽지 않고 DB에서 바로 증가시킨 뒤, 알림에 필요한 값만 다시 조회
+     */
+    StudentCounterView checkAttendance(Division division, String studentId) {
+        if (studentRepository.incrementAttendanceCount(studentId, division) == 0) {
+            throw new IllegalArgumentException("학생을 찾을 수 없습니다: " + studentId);
+        }
+        attendanceLogService.record(List.of(studentId), null);
+
+        StudentCounterView student = studentRepository.findCountersByStudentId(studentId)
+                .orElseThrow(() -> new IllegalArgumentException("학생을 찾을 수 없습니다: " + studentId));
+        eventPublisher.publishEvent(StudentUpdatedEvent.of(student));
+        return student;
+    }
+
+    /**
+     * 강의 단위 일괄 출석
+     *
+     * @param notifier 출석 처리된 학생들(요청 순서)을 한 번에 받아 부서별 알림을 보냄
+     */
+    List<AttendanceResult> checkAttendances(Division division, Long lectureId, List<String> studentIds,
+                                            Consumer<List<StudentCounterView>> notifier) {
+        // 중복 제거 (요청 순서는 유지)
+        Set<String> requested = new LinkedHashSet<>(studentIds);
+
+        // 1. 현재 부서의 수강생 여부를 IN 쿼리 한 번으로 확인
+        Set<String> enrolled = new HashSet<>(
+                lectureStudentRepository.findEnrolledStudentIds(lectureId, requested, division));
+
+        // 2. 출석 횟수를 UPDATE 한 번으로 증가시키고, 갱신된 값을 SELECT 한 번으로 다시 읽음
+        Map<String, StudentCounterView> counters = Map.of();
+        if (!enrolled.isEmpty()) {
+            studentRepository.incrementAttendanceCounts(enrolled);
+            attendanceLogService.record(enrolled, lectureId);
+            counters = studentRepository.findCountersByStudentIdIn(enrolled).stream()
+                    .collect(Collectors.toMap(StudentCounterView::getStudentId, Function.identity()));
+        }
+
+        List<StudentCounterView> attended = new ArrayList<>(counters.size());
+        List<AttendanceResult> results = new ArrayList<>(requested.size());
+        for (String studentId : requested) {
+            StudentCounterView student = counters.get(studentId);
+            if (student == null) {
+                results.add(AttendanceResult.notEnrolled(studentId));
+                continue;
+            }
+            eventPublisher.publishEvent(StudentUpdatedEvent.of(student));
+            attended.add(student);
+            results.add(AttendanceResult.attended(student));
+        }
+
+        notifier.accept(attended);
+        return results;
+    }
+}
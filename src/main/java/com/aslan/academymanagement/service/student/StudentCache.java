@@ -0,0 +1,75 @@
+package com.aslan.academymanagement.service.student;
+
+import com.aslan.academymanagement.domain.Student;
+import com.aslan.academymanagement.event.StudentUpdatedEvent;
+import com.aslan.academymanagement.repository.StudentRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 학생 번호 → 학생 조회 캐시 (read-through)
+ *
+ * - 최대 개수 + 쓰기 후 TTL로 만료 (Caffeine)
+ * - 학생 정보가 바뀌는 모든 경로는 StudentUpdatedEvent를 발행하므로 커밋 후 해당 항목을 제거
+ *   (같은 키를 읽어 오는 중이면 제거가 로드 완료를 기다리므로 커밋 전 값이 남지 않음)
+ * - 캐시된 엔티티는 준영속 상태이므로 읽기 전용으로만 사용. 수정은 저장소에서 다시 조회해서 할 것
+ * - 없는 학생 번호는 캐시하지 않음
+ */
+@Component
+public class StudentCache {
+
+    private final StudentRepository studentRepository;
+    private final Cache<String, Student> cache;
+
+    public StudentCache(
+            StudentRepository studentRepository,
+            @Value("${academy.student-cache.maximum-size:10000}") long maximumSize,
+            @Value("${academy.student-cache.ttl:5m}") Duration ttl
+    ) {
+        this.studentRepository = studentRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public Optional<Student> get(String studentId) {
+        return Optional.ofNullable(cache.get(studentId,
+                key -> studentRepository.findByStudentId(key).orElse(null)));
+    }
+
+    public void evict(String studentId) {
+        cache.invalidate(studentId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStudentUpdated(StudentUpdatedEvent event) {
+        evict(event.studentId());
+    }
+
+    /**
+     * 캐시 크기 조정을 위한 통계
+     */
+    public Map<String, Object> getStats() {
+        CacheStats stats = cache.stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("size", cache.estimatedSize());
+        result.put("hitCount", stats.hitCount());
+        result.put("missCount", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictionCount", stats.evictionCount());
+        result.put("averageLoadPenaltyMillis", stats.averageLoadPenalty() / 1_000_000.0);
+        return result;
+    }
+}
@@ -0,0 +1,39 @@
+package com.aslan.academymanagement.service.student;
+
+import com.aslan.academymanagement.domain.Student;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+import java.util.Locale;
+
+/**
+ * 학생 번호 유니크 제약(uk_students_student_id) 위반 판별
+ *
+ * - NOT NULL, 길이 초과 등 다른 무결성 위반까지 "이미 존재하는 학생 번호"로 바꾸지 않도록 제약 이름으로 확인
+ * - JPA 저장은 Hibernate가 뽑아 준 제약 이름으로, JdbcTemplate 저장은 드라이버 메시지로 판별
+ *   (H2는 제약 이름 뒤에 인덱스 접미사를 붙이므로 포함 여부로 비교)
+ */
+final class StudentIdConstraint {
+
+    private static final String NAME = Student.STUDENT_ID_CONSTRAINT.toUpperCase(Locale.ROOT);
+
+    private StudentIdConstraint() {
+    }
+
+    static boolean isViolatedBy(DataIntegrityViolationException e) {
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return mentions(violation.getConstraintName());
+            }
+            if (cause instanceof SQLException && cause.getMessage() != null) {
+                return mentions(cause.getMessage());
+            }
+        }
+        return false;
+    }
+
+    private static boolean mentions(String text) {
+        return text.toUpperCase(Locale.ROOT).contains(NAME);
+    }
+}
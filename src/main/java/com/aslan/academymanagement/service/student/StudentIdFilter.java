@@ -0,0 +1,122 @@
+package com.aslan.academymanagement.service.student;
+
+import com.aslan.academymanagement.event.StudentUpdatedEvent;
+import com.aslan.academymanagement.repository.StudentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+/**
+ * 등록된 학생 번호 Bloom filter
+ *
+ * - mightContain == false 이면 "확실히 없는 번호" → 등록 시 중복 확인 쿼리를 생략
+ * - true 이면 있을 수도 있음 (오탐 가능) → DB로 확인
+ * - 최종 중복 판정은 항상 DB 유니크 제약이 담당. 필터는 쿼리를 줄이는 용도로만 사용
+ * - 시작 시 전체 번호로 채우고, 이후 StudentUpdatedEvent로 추가 (삭제는 반영하지 않음 → 오탐만 늘어남)
+ * - 초기화 전에는 항상 true를 반환해 DB 확인으로 넘어감
+ */
+@Slf4j
+@Component
+public class StudentIdFilter {
+
+    private final StudentRepository studentRepository;
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+    private volatile boolean ready;
+
+    public StudentIdFilter(
+            StudentRepository studentRepository,
+            @Value("${academy.student-id-filter.expected-insertions:100000}") int expectedInsertions,
+            @Value("${academy.student-id-filter.false-positive-rate:0.01}") double falsePositiveRate
+    ) {
+        this.studentRepository = studentRepository;
+        // m = -n ln p / (ln 2)^2, k = m / n * ln 2
+        long m = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitCount = Math.max(64, (m + 63) / 64 * 64);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+        this.bits = new AtomicLongArray((int) (bitCount / 64));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        long count = 0;
+        try (Stream<String> studentIds = studentRepository.streamStudentIds()) {
+            for (Iterator<String> it = studentIds.iterator(); it.hasNext(); count++) {
+                put(it.next());
+            }
+        }
+        ready = true;
+        log.info("🔎 학생 번호 필터 초기화 완료: {}건 ({}bit, 해시 {}개)", count, bitCount, hashCount);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStudentUpdated(StudentUpdatedEvent event) {
+        put(event.studentId());
+    }
+
+    public boolean mightContain(String studentId) {
+        if (!ready) {
+            return true;
+        }
+        long hash = hash64(studentId);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = bitIndex(h1, h2, i);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void put(String studentId) {
+        long hash = hash64(studentId);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = bitIndex(h1, h2, i);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    // 두 해시를 조합해 i번째 해시를 만듦 (Kirsch-Mitzenmacher)
+    private long bitIndex(int h1, int h2, int i) {
+        int combined = h1 + i * h2;
+        return (combined & Integer.MAX_VALUE) % bitCount;
+    }
+
+    // FNV-1a 64bit + murmur3 finalizer
+    private static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
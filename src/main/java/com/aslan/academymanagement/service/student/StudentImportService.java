@@ -0,0 +1,314 @@
+package com.aslan.academymanagement.service.student;
+
+import com.aslan.academymanagement.domain.Student;
+import com.aslan.academymanagement.dto.StudentImportResponse;
+import com.aslan.academymanagement.dto.StudentImportResponse.RowError;
+import com.aslan.academymanagement.dto.StudentRequest;
+import com.aslan.academymanagement.event.StudentUpdatedEvent;
+import com.aslan.academymanagement.repository.StudentRepository;
+import com.aslan.academymanagement.service.notification.NotificationDispatcher;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 학생 일괄 등록 (CSV / JSONL)
+ *
+ * - 요청 본문을 한 줄씩 읽어 처리하므로 파일 크기와 무관하게 메모리 사용량이 일정
+ *   (한 번에 들고 있는 것은 묶음 하나 + 최대 개수로 제한된 오류 목록)
+ * - 검증: StudentRequest 제약 조건 + 부서별 규칙 (StudentManagementService.newStudent)
+ * - 저장: 묶음마다 트랜잭션 하나, 중복 확인 IN 쿼리 1회 + JDBC 배치 INSERT 1회
+ * - 알림: 커밋 후 알림 대기열에 넣고 바로 다음 묶음 처리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StudentImportService {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final int MAX_REPORTED_ERRORS = 1_000;
+    private static final Set<String> REQUIRED_CSV_COLUMNS = Set.of("studentId", "name", "birthDate", "grade", "division");
+
+    private static final String INSERT_STUDENT = """
+            INSERT INTO students (student_id, name, birth_date, phone_number, parent_phone_number,
+                                  grade, division, attendance_count, average_score, special_notes,
+                                  created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    public enum Format {
+        CSV, JSONL;
+
+        public static Format from(String contentType) {
+            return contentType != null && contentType.toLowerCase().contains("csv") ? CSV : JSONL;
+        }
+    }
+
+    private final StudentManagementService studentManagementService;
+    private final StudentRepository studentRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NotificationDispatcher notificationDispatcher;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    public StudentImportResponse importStudents(InputStream in, Format format) throws IOException {
+        Report report = new Report();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        List<Row> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            long lineNumber = 0;
+            List<String> header = null;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (format == Format.CSV && header == null) {
+                    header = parseCsvHeader(line);
+                    continue;
+                }
+
+                report.totalRows++;
+                Row row = parseRow(line, lineNumber, format, header, report);
+                if (row == null) {
+                    continue;
+                }
+                chunk.add(row);
+                if (chunk.size() == CHUNK_SIZE) {
+                    flush(chunk, transactionTemplate, report);
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            flush(chunk, transactionTemplate, report);
+        }
+
+        log.info("📥 학생 일괄 등록: {}행 중 {}명 등록, {}행 실패", report.totalRows, report.imported, report.failed);
+        return StudentImportResponse.builder()
+                .totalRows(report.totalRows)
+                .imported(report.imported)
+                .failed(report.failed)
+                .errors(report.errors)
+                .errorsTruncated(report.failed > report.errors.size())
+                .build();
+    }
+
+    /**
+     * 한 줄을 학생 엔티티로 변환. 형식/검증 오류면 보고서에 기록하고 null 반환
+     */
+    private Row parseRow(String line, long lineNumber, Format format, List<String> header, Report report) {
+        StudentRequest request;
+        try {
+            request = format == Format.CSV
+                    ? objectMapper.convertValue(toFields(header, parseCsvLine(line)), StudentRequest.class)
+                    : objectMapper.readValue(line, StudentRequest.class);
+        } catch (IOException | IllegalArgumentException e) {
+            report.fail(lineNumber, null, describe(e));
+            return null;
+        }
+
+        Set<ConstraintViolation<StudentRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            report.fail(lineNumber, request.getStudentId(), violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+            return null;
+        }
+
+        Student student;
+        try {
+            student = studentManagementService.newStudent(request);
+        } catch (IllegalArgumentException e) {
+            report.fail(lineNumber, request.getStudentId(), e.getMessage());
+            return null;
+        }
+        // 부서는 실행 중인 Profile이 정하므로 파일의 부서가 다르면 조용히 바꾸지 않고 실패 처리
+        if (student.getDivision() != request.getDivision()) {
+            report.fail(lineNumber, request.getStudentId(), String.format(
+                    "부서가 일치하지 않습니다: %s (현재 부서: %s)", request.getDivision(), student.getDivision()));
+            return null;
+        }
+        return new Row(lineNumber, student);
+    }
+
+    private void flush(List<Row> chunk, TransactionTemplate transactionTemplate, Report report) {
+        List<Row> duplicates = new ArrayList<>();
+        List<Row> inserted;
+        try {
+            inserted = transactionTemplate.execute(status -> insertChunk(chunk, duplicates));
+        } catch (DataIntegrityViolationException e) {
+            // 중복 확인 직후 다른 요청이 같은 번호를 등록한 경우: 이 묶음 전체가 롤백됨 (다른 제약 위반은 그대로 전파)
+            if (!StudentIdConstraint.isViolatedBy(e)) {
+                throw e;
+            }
+            log.warn("학생 일괄 등록 묶음 실패 ({}행)", chunk.size(), e);
+            chunk.forEach(row -> report.fail(row.line(), row.student().getStudentId(),
+                    "동시에 등록된 학생 번호와 충돌했습니다. 다시 시도해 주세요."));
+            return;
+        }
+
+        duplicates.forEach(row -> report.fail(row.line(), row.student().getStudentId(),
+                "이미 존재하는 학생 번호입니다: " + row.student().getStudentId()));
+        report.imported += inserted.size();
+        inserted.forEach(row -> notificationDispatcher.dispatch(
+                () -> studentManagementService.notifyRegistered(row.student())));
+    }
+
+    private List<Row> insertChunk(List<Row> chunk, List<Row> duplicates) {
+        Set<String> existing = new HashSet<>(studentRepository.findExistingStudentIds(
+                chunk.stream().map(row -> row.student().getStudentId()).toList()));
+
+        List<Row> accepted = new ArrayList<>(chunk.size());
+        for (Row row : chunk) {
+            String studentId = row.student().getStudentId();
+            // 이미 저장된 번호 또는 같은 묶음 안에서 앞에 나온 번호
+            if (!existing.add(studentId)) {
+                duplicates.add(row);
+                continue;
+            }
+            accepted.add(row);
+        }
+        if (accepted.isEmpty()) {
+            return accepted;
+        }
+
+        // 엔티티를 거치지 않으므로 감사 컬럼도 직접 채움
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_STUDENT, accepted, accepted.size(), (ps, row) -> {
+            Student student = row.student();
+            ps.setString(1, student.getStudentId());
+            ps.setString(2, student.getName());
+            ps.setDate(3, Date.valueOf(student.getBirthDate()));
+            ps.setString(4, student.getPhoneNumber());
+            ps.setString(5, student.getParentPhoneNumber());
+            ps.setString(6, student.getGrade().name());
+            ps.setString(7, student.getDivision().name());
+            ps.setInt(8, student.getAttendanceCount());
+            ps.setDouble(9, student.getAverageScore());
+            ps.setString(10, student.getSpecialNotes());
+            ps.setTimestamp(11, now);
+            ps.setTimestamp(12, now);
+        });
+
+        // 생성된 id를 포함해 다시 읽어 랭킹/검색 색인에 반영 (커밋 후 처리)
+        studentRepository.findCountersByStudentIdIn(accepted.stream().map(row -> row.student().getStudentId()).toList())
+                .forEach(student -> eventPublisher.publishEvent(StudentUpdatedEvent.of(student)));
+        return accepted;
+    }
+
+    private static List<String> parseCsvHeader(String line) {
+        List<String> header = parseCsvLine(line).stream().map(String::trim).toList();
+        List<String> missing = REQUIRED_CSV_COLUMNS.stream()
+                .filter(column -> !header.contains(column))
+                .sorted()
+                .toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("CSV 헤더에 필수 컬럼이 없습니다: " + missing);
+        }
+        return header;
+    }
+
+    private static Map<String, String> toFields(List<String> header, List<String> values) {
+        if (values.size() > header.size()) {
+            throw new IllegalArgumentException("컬럼 수가 헤더보다 많습니다.");
+        }
+        Map<String, String> fields = new HashMap<>();
+        for (int i = 0; i < values.size(); i++) {
+            String value = values.get(i).trim();
+            if (!value.isEmpty()) {
+                fields.put(header.get(i), value);
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * CSV 한 줄 분리 (큰따옴표로 감싼 값, "" 이스케이프 지원 / 줄바꿈을 포함한 값은 미지원)
+     */
+    static List<String> parseCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    private static String describe(Exception e) {
+        Throwable cause = e instanceof IllegalArgumentException && e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof JsonMappingException mapping && !mapping.getPath().isEmpty()) {
+            return "잘못된 값입니다: " + mapping.getPath().get(mapping.getPath().size() - 1).getFieldName();
+        }
+        if (cause instanceof IllegalArgumentException) {
+            return cause.getMessage();
+        }
+        return "읽을 수 없는 행입니다.";
+    }
+
+    private record Row(long line, Student student) {
+    }
+
+    private static class Report {
+        private int totalRows;
+        private int imported;
+        private int failed;
+        private final List<RowError> errors = new ArrayList<>();
+
+        private void fail(long line, String studentId, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new RowError(line, studentId, message));
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.aslan.academymanagement.service.student;
 
 import com.aslan.academymanagement.domain.Student;
+import com.aslan.academymanagement.dto.AttendanceResult;
 import com.aslan.academymanagement.dto.StudentRequest;
 
 import java.util.List;
@@ -35,6 +36,18 @@ public interface StudentManagementService {
      */
     Student registerStudent(StudentRequest request);
 
+    /**
+     * 등록할 학생 엔티티 생성 (저장하지 않음)
+     * - 부서별 필수 연락처 검증 후 부서 기본값을 채움
+     * - 단건 등록과 일괄 등록이 같은 규칙을 사용하도록 분리
+     */
+    Student newStudent(StudentRequest request);
+
+    /**
+     * 등록 완료 알림 전송
+     */
+    void notifyRegistered(Student student);
+
     /**
      * 학생 정보 조회
      */
@@ -51,17 +64,24 @@ public interface StudentManagementService {
      */
     void checkAttendance(String studentId);
 
+    /**
+     * 강의 단위 일괄 출석 체크
+     * - 수강생 확인과 출석 횟수 증가를 각각 쿼리 한 번으로 처리
+     * - @AttendanceRequired AOP 적용 (지각 판정은 단건 출석과 동일)
+     */
+    List<AttendanceResult> checkAttendances(Long lectureId, List<String> studentIds);
+
     /**
      * 성적 입력
      */
     void updateScore(String studentId, Double score);
 
     /**
-     * 우수 학생 조회
-     * - 초등부: 출석 80일 이상
-     * - 중등부: 평균 90점 이상
+     * 우수 학생 조회 (메모리 랭킹 기반 페이지 조회)
+     * - 초등부: 출석 횟수 순, academy.min-attendance 이상
+     * - 중등부: 평균 점수 순, academy.min-score 이상
      */
-    List<Student> getTopStudents();
+    List<Student> getTopStudents(int page, int size);
 
     /**
      * 현재 부서 타입 반환
@@ -0,0 +1,64 @@
+package com.aslan.academymanagement.service.student;
+
+import com.aslan.academymanagement.dto.CursorPage;
+import com.aslan.academymanagement.dto.StudentResponse;
+import com.aslan.academymanagement.dto.StudentSearchCondition;
+import com.aslan.academymanagement.repository.StudentRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.stream.Stream;
+
+/**
+ * 학생 목록 조회 서비스 (부서 Profile과 무관한 공통 조회)
+ *
+ * - 목록: id 기준 키셋 페이지네이션 (OFFSET 없이 마지막 id 이후부터 조회)
+ * - 내보내기: DB 커서에서 한 건씩 읽어 바로 JSON으로 쓰므로 학생 수와 무관하게 메모리 사용량이 일정
+ */
+@Service
+@RequiredArgsConstructor
+public class StudentQueryService {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final StudentRepository studentRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public CursorPage<StudentResponse> getStudents(StudentSearchCondition condition, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size는 1~" + MAX_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        return CursorPage.of(
+                studentRepository.findPageAfter(CursorPage.decode(cursor), condition, size + 1),
+                size,
+                StudentResponse::getId);
+    }
+
+    /**
+     * 조건에 맞는 학생 전체를 JSON 배열로 스트리밍
+     */
+    @Transactional(readOnly = true)
+    public void exportStudents(StudentSearchCondition condition, OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.createGenerator(out);
+             Stream<StudentResponse> students = studentRepository.streamAll(condition)) {
+
+            generator.writeStartArray();
+            students.forEach(student -> {
+                try {
+                    generator.writeObject(student);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            generator.writeEndArray();
+        }
+    }
+}
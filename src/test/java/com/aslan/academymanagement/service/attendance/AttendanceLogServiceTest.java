@@ -0,0 +1,79 @@
+package com.aslan.academymanagement.service.attendance;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class AttendanceLogServiceTest {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private AttendanceLogService attendanceLogService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void monthToDateRatesForManyStudentsRunOneQuery() {
+        List<String> studentIds = insertStudents(40);
+        List<String> attended = studentIds.subList(0, 30);
+        attendanceLogService.record(attended, null);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        Map<String, Double> rates = attendanceLogService.getMonthToDateRates(studentIds);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        // 학생마다 기간 요약으로 계산한 값과 같아야 함
+        LocalDate today = LocalDate.now();
+        assertThat(rates).hasSize(studentIds.size());
+        for (String studentId : studentIds) {
+            assertThat(rates.get(studentId)).isEqualTo(
+                    attendanceLogService.getSummary(studentId, today.withDayOfMonth(1), today).getAttendanceRate());
+        }
+        assertThat(rates.get(studentIds.get(35))).isZero();
+    }
+
+    @Test
+    void emptyInputRunsNoQuery() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        assertThat(attendanceLogService.getMonthToDateRates(List.of())).isEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    private List<String> insertStudents(int count) {
+        String prefix = "RATE" + SEQUENCE.incrementAndGet() + "-";
+        List<String> studentIds = IntStream.range(0, count).mapToObj(i -> prefix + i).toList();
+        jdbcTemplate.batchUpdate("""
+                        INSERT INTO students (student_id, name, birth_date, parent_phone_number, grade, division,
+                                              attendance_count, average_score)
+                        VALUES (?, '출석률', ?, '010-0000-0000', 'GRADE_5', 'ELEMENTARY', 0, 0.0)
+                        """,
+                studentIds, count, (ps, studentId) -> {
+                    ps.setString(1, studentId);
+                    ps.setDate(2, Date.valueOf(LocalDate.of(2014, 1, 1)));
+                });
+        return studentIds;
+    }
+}
@@ -0,0 +1,153 @@
+package com.aslan.academymanagement.service.lecture;
+
+import com.aslan.academymanagement.domain.Member;
+import com.aslan.academymanagement.domain.Student;
+import com.aslan.academymanagement.domain.enums.Division;
+import com.aslan.academymanagement.domain.enums.Grade;
+import com.aslan.academymanagement.domain.enums.LectureType;
+import com.aslan.academymanagement.domain.enums.Role;
+import com.aslan.academymanagement.domain.enums.Subject;
+import com.aslan.academymanagement.dto.FreeSlotResponse;
+import com.aslan.academymanagement.dto.LectureRequest;
+import com.aslan.academymanagement.dto.LectureScheduleRequest;
+import com.aslan.academymanagement.dto.StudentRequest;
+import com.aslan.academymanagement.repository.MemberRepository;
+import com.aslan.academymanagement.service.student.StudentManagementService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class FreeSlotServiceTest {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+    // 학생 번호는 ES771~ (다른 테스트의 번호 대역과 겹치지 않도록 강사와 따로 셈)
+    private static final AtomicInteger STUDENTS = new AtomicInteger();
+
+    @Autowired
+    private FreeSlotService freeSlotService;
+
+    @Autowired
+    private LectureService lectureService;
+
+    @Autowired
+    private LectureStudentService lectureStudentService;
+
+    @Autowired
+    private StudentManagementService studentManagementService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private Member teacher;
+    private Member otherTeacher;
+
+    @BeforeEach
+    void setUp() {
+        teacher = teacher();
+        otherTeacher = teacher();
+    }
+
+    @Test
+    void findsTimesWhenTeacherAndEveryStudentAreFree() {
+        Long math = create(teacher, DayOfWeek.MONDAY, LocalTime.of(16, 0), LocalTime.of(17, 0));
+        Long english = create(otherTeacher, DayOfWeek.MONDAY, LocalTime.of(18, 0), LocalTime.of(18, 50));
+        Student first = student();
+        Student second = student();
+        lectureStudentService.registerStudent(teacher, math, first.getId());
+        lectureStudentService.registerStudent(teacher, math, second.getId());
+        lectureStudentService.registerStudent(otherTeacher, english, second.getId());
+
+        List<FreeSlotResponse> slots = freeSlotService.findForLecture(
+                teacher, math, 30, LocalTime.of(15, 0), LocalTime.of(20, 0));
+
+        // 월요일: 16~17 수업(강사+학생), 18~18:50 두 번째 학생의 다른 수업
+        assertThat(slots).filteredOn(slot -> slot.dayOfWeek() == DayOfWeek.MONDAY).containsExactly(
+                new FreeSlotResponse(DayOfWeek.MONDAY, LocalTime.of(15, 0), LocalTime.of(16, 0)),
+                new FreeSlotResponse(DayOfWeek.MONDAY, LocalTime.of(17, 0), LocalTime.of(18, 0)),
+                new FreeSlotResponse(DayOfWeek.MONDAY, LocalTime.of(18, 50), LocalTime.of(20, 0)));
+        assertThat(slots).filteredOn(slot -> slot.dayOfWeek() == DayOfWeek.TUESDAY).containsExactly(
+                new FreeSlotResponse(DayOfWeek.TUESDAY, LocalTime.of(15, 0), LocalTime.of(20, 0)));
+
+        // 70분 이상만: 17~18 (60분)은 제외
+        assertThat(freeSlotService.findForLecture(teacher, math, 70, LocalTime.of(15, 0), LocalTime.of(20, 0)))
+                .filteredOn(slot -> slot.dayOfWeek() == DayOfWeek.MONDAY)
+                .extracting(FreeSlotResponse::startTime)
+                .containsExactly(LocalTime.of(18, 50));
+    }
+
+    @Test
+    void roundsPartialSlotsToBusyAndChecksArguments() {
+        create(teacher, DayOfWeek.FRIDAY, LocalTime.of(10, 2), LocalTime.of(10, 58));
+
+        assertThat(freeSlotService.find(List.of(teacher.getId()), List.of(), 5,
+                LocalTime.of(10, 0), LocalTime.of(11, 0)))
+                .filteredOn(slot -> slot.dayOfWeek() == DayOfWeek.FRIDAY)
+                .isEmpty();
+        assertThatThrownBy(() -> freeSlotService.find(List.of(), List.of(), 30, LocalTime.of(9, 0), LocalTime.of(22, 0)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> freeSlotService.find(List.of(teacher.getId()), List.of(), 30,
+                LocalTime.of(22, 0), LocalTime.of(9, 0)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void teacherMayOnlyLookUpStudentsOfTheirOwnLectures() {
+        Long math = create(teacher, DayOfWeek.WEDNESDAY, LocalTime.of(16, 0), LocalTime.of(17, 0));
+        Long english = create(otherTeacher, DayOfWeek.WEDNESDAY, LocalTime.of(18, 0), LocalTime.of(19, 0));
+        Student mine = student();
+        Student theirs = student();
+        lectureStudentService.registerStudent(teacher, math, mine.getId());
+        lectureStudentService.registerStudent(otherTeacher, english, theirs.getId());
+
+        assertThat(freeSlotService.findForTeacher(teacher, List.of(mine.getId()), 60,
+                LocalTime.of(15, 0), LocalTime.of(20, 0)))
+                .filteredOn(slot -> slot.dayOfWeek() == DayOfWeek.WEDNESDAY)
+                .extracting(FreeSlotResponse::startTime)
+                .containsExactly(LocalTime.of(15, 0), LocalTime.of(17, 0));
+
+        // 다른 강사의 수강생, 없는 학생은 거부
+        assertThatThrownBy(() -> freeSlotService.findForTeacher(teacher, List.of(mine.getId(), theirs.getId()), 60,
+                LocalTime.of(15, 0), LocalTime.of(20, 0)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(String.valueOf(theirs.getId()));
+        assertThatThrownBy(() -> freeSlotService.findForTeacher(teacher, List.of(-1L), 60,
+                LocalTime.of(15, 0), LocalTime.of(20, 0)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Member teacher() {
+        int n = SEQUENCE.incrementAndGet();
+        return memberRepository.save(Member.builder()
+                .name("보강" + n)
+                .email("free-slot-" + n + "@test.com")
+                .role(Role.TEACHER)
+                .build());
+    }
+
+    private Student student() {
+        return studentManagementService.registerStudent(StudentRequest.builder()
+                .studentId("ES" + (770 + STUDENTS.incrementAndGet()))
+                .name("보강학생")
+                .birthDate(LocalDate.of(2016, 1, 1))
+                .parentPhoneNumber("010-0000-0000")
+                .grade(Grade.GRADE_2)
+                .division(Division.ELEMENTARY)
+                .build());
+    }
+
+    private Long create(Member owner, DayOfWeek day, LocalTime start, LocalTime end) {
+        return lectureService.createLecture(owner, new LectureRequest("보강", LectureType.ACADEMY, Subject.MATH,
+                List.of(new LectureScheduleRequest(day, start, end)))).getId();
+    }
+}
@@ -0,0 +1,244 @@
+package com.aslan.academymanagement.service.lecture;
+
+import com.aslan.academymanagement.domain.Member;
+import com.aslan.academymanagement.domain.Student;
+import com.aslan.academymanagement.domain.enums.Division;
+import com.aslan.academymanagement.domain.enums.Grade;
+import com.aslan.academymanagement.domain.enums.LectureType;
+import com.aslan.academymanagement.domain.enums.Role;
+import com.aslan.academymanagement.domain.enums.Subject;
+import com.aslan.academymanagement.dto.LectureRequest;
+import com.aslan.academymanagement.dto.LectureScheduleRequest;
+import com.aslan.academymanagement.dto.StudentRequest;
+import com.aslan.academymanagement.event.LectureChangedEvent;
+import com.aslan.academymanagement.repository.MemberRepository;
+import com.aslan.academymanagement.service.student.StudentManagementService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class IcsFeedServiceTest {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private IcsFeedService icsFeedService;
+
+    @Autowired
+    private LectureService lectureService;
+
+    @Autowired
+    private LectureStudentService lectureStudentService;
+
+    @Autowired
+    private StudentManagementService studentManagementService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Member teacher;
+    private Long lectureId;
+
+    @BeforeEach
+    void setUp() {
+        int n = SEQUENCE.incrementAndGet();
+        teacher = memberRepository.save(Member.builder()
+                .name("피드" + n)
+                .email("ics-" + n + "@test.com")
+                .role(Role.TEACHER)
+                .build());
+        lectureId = lectureService.createLecture(teacher, new LectureRequest("수학; 심화, 반", LectureType.ACADEMY,
+                Subject.MATH, List.of(
+                        new LectureScheduleRequest(DayOfWeek.MONDAY, LocalTime.of(16, 0), LocalTime.of(17, 0)),
+                        new LectureScheduleRequest(DayOfWeek.THURSDAY, LocalTime.of(14, 0), LocalTime.of(15, 30)))))
+                .getId();
+    }
+
+    @Test
+    void writesOneRecurringEventPerSchedule() throws IOException {
+        StringWriter out = new StringWriter();
+        icsFeedService.writeTeacherFeed(teacher.getId(), out);
+        String ics = out.toString();
+
+        assertThat(ics).startsWith("BEGIN:VCALENDAR\r\nVERSION:2.0\r\n").endsWith("END:VCALENDAR\r\n");
+        assertThat(ics.split("BEGIN:VEVENT", -1)).hasSize(3);
+        assertThat(ics).contains("RRULE:FREQ=WEEKLY;BYDAY=MO\r\n", "RRULE:FREQ=WEEKLY;BYDAY=TH\r\n");
+        assertThat(ics).contains("SUMMARY:수학\\; 심화\\, 반\r\n");
+        assertThat(ics).contains("BEGIN:VTIMEZONE\r\nTZID:Asia/Seoul\r\n");
+        assertThat(ics).containsPattern("DTSTART;TZID=Asia/Seoul:\\d{8}T160000\r\n");
+        assertThat(ics).containsPattern("DTEND;TZID=Asia/Seoul:\\d{8}T153000\r\n");
+        assertThat(ics).doesNotContain("\n\n").doesNotContainPattern("[^\r]\n");
+    }
+
+    @Test
+    void foldsLongLinesWithoutSplittingCharacters() throws IOException {
+        StringWriter out = new StringWriter();
+        IcsFeedService.line(out, "SUMMARY:" + "가".repeat(40));
+
+        String[] lines = out.toString().split("\r\n");
+        assertThat(lines).hasSizeGreaterThan(1);
+        for (String line : lines) {
+            assertThat(line.getBytes(StandardCharsets.UTF_8).length).isLessThanOrEqualTo(75);
+        }
+        assertThat(out.toString().replace("\r\n ", "")).isEqualTo("SUMMARY:" + "가".repeat(40) + "\r\n");
+    }
+
+    @Test
+    void studentFeedFollowsEnrollments() throws Exception {
+        String studentId = "ES" + (750 + SEQUENCE.get());
+        Student student = registerStudent(studentId);
+        String url = "/calendar/students/" + studentId + ".ics?token=" + icsFeedService.studentToken(student);
+
+        String etag = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(content().string(not(containsString("BEGIN:VEVENT"))))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        lectureStudentService.registerStudent(teacher, lectureId, student.getId());
+
+        // 수강 등록 후에는 이전 ETag로 304가 나오지 않음
+        String body = mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertThat(body.split("BEGIN:VEVENT", -1)).hasSize(3);
+    }
+
+    @Test
+    void studentFeedVersionIsPerStudent() throws Exception {
+        String studentId = "ES" + (750 + SEQUENCE.get());
+        Student student = registerStudent(studentId);
+        Student other = registerStudent("ES" + (850 + SEQUENCE.get()));
+        String url = "/calendar/students/" + studentId + ".ics?token=" + icsFeedService.studentToken(student);
+        String etag = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // 다른 학생의 수강 변경은 이 학생의 피드를 무효화하지 않음
+        lectureStudentService.registerStudent(teacher, lectureId, other.getId());
+        assertThat(icsFeedService.studentEtag(studentId)).isEqualTo(etag);
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        // 강의 변경은 그 강의의 수강생 피드만 무효화
+        long otherVersion = icsFeedService.studentFeedVersion(other.getId());
+        icsFeedService.onLectureChanged(new LectureChangedEvent(lectureId, teacher.getId()));
+        assertThat(icsFeedService.studentFeedVersion(other.getId())).isEqualTo(otherVersion + 1);
+        assertThat(icsFeedService.studentEtag(studentId)).isEqualTo(etag);
+    }
+
+    @Test
+    void onlyTheLectureTeacherGetsARevocableStudentFeedUrl() throws Exception {
+        String studentId = "ES" + (750 + SEQUENCE.get());
+        Student student = registerStudent(studentId);
+        Member stranger = memberRepository.save(Member.builder()
+                .name("외부" + SEQUENCE.get())
+                .email("ics-stranger-" + SEQUENCE.get() + "@test.com")
+                .role(Role.TEACHER)
+                .build());
+        String feed = "/api/v1/students/" + studentId + "/calendar-feed";
+
+        // 수강 전에는 강사도, 수강 후에도 다른 강사는 발급 불가
+        assertThatThrownBy(() -> icsFeedService.issueStudentToken(teacher.getId(), studentId))
+                .isInstanceOf(IllegalArgumentException.class);
+        lectureStudentService.registerStudent(teacher, lectureId, student.getId());
+        assertThatThrownBy(() -> icsFeedService.issueStudentToken(stranger.getId(), studentId))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> icsFeedService.rotateStudentToken(stranger.getId(), studentId))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        String oldUrl = feedUrl(mockMvc.perform(get(feed).with(user(teacher.getEmail())))
+                .andExpect(status().isOk()));
+        mockMvc.perform(get(oldUrl)).andExpect(status().isOk());
+
+        // 재발급하면 이전 주소는 404, 새 주소만 유효
+        String newUrl = feedUrl(mockMvc.perform(post(feed + "/rotate").with(user(teacher.getEmail())))
+                .andExpect(status().isOk()));
+        assertThat(newUrl).isNotEqualTo(oldUrl);
+        mockMvc.perform(get(oldUrl)).andExpect(status().isNotFound());
+        mockMvc.perform(get(newUrl)).andExpect(status().isOk());
+    }
+
+    @Test
+    void unchangedFeedIsServedAsNotModifiedWithoutQueries() throws Exception {
+        String url = "/calendar/teachers/" + teacher.getId() + ".ics?token=" + icsFeedService.teacherToken(teacher.getId());
+        String etag = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/calendar"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotBlank();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void rejectsWrongToken() throws Exception {
+        String otherToken = icsFeedService.teacherToken(teacher.getId() + 1);
+        mockMvc.perform(get("/calendar/teachers/" + teacher.getId() + ".ics?token=" + otherToken))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/calendar/teachers/" + teacher.getId() + ".ics"))
+                .andExpect(status().isNotFound());
+    }
+
+    // 응답의 절대 주소에서 경로와 쿼리만
+    private String feedUrl(ResultActions result) throws Exception {
+        URI uri = URI.create(objectMapper.readTree(result.andReturn().getResponse().getContentAsString())
+                .get("url").asText());
+        return uri.getRawPath() + "?" + uri.getRawQuery();
+    }
+
+    private Student registerStudent(String studentId) {
+        return studentManagementService.registerStudent(StudentRequest.builder()
+                .studentId(studentId)
+                .name("구독")
+                .birthDate(LocalDate.of(2016, 1, 1))
+                .parentPhoneNumber("010-0000-0000")
+                .grade(Grade.GRADE_2)
+                .division(Division.ELEMENTARY)
+                .build());
+    }
+}
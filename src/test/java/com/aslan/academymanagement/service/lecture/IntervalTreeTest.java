@@ -0,0 +1,52 @@
+package com.aslan.academymanagement.service.lecture;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IntervalTreeTest {
+
+    @Test
+    void findsOverlapsLikeLinearScanUnderRandomUpdates() {
+        IntervalTree tree = new IntervalTree();
+        List<IntervalTree.Interval> expected = new ArrayList<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 5_000; i++) {
+            int start = random.nextInt(1_000);
+            IntervalTree.Interval interval = new IntervalTree.Interval(start, start + 1 + random.nextInt(60), random.nextInt(50));
+            if (random.nextInt(3) == 0 && !expected.isEmpty()) {
+                IntervalTree.Interval removed = expected.remove(random.nextInt(expected.size()));
+                assertThat(tree.remove(removed.start(), removed.end(), removed.id())).isTrue();
+            } else if (!expected.contains(interval)) {
+                assertThat(tree.insert(interval.start(), interval.end(), interval.id())).isTrue();
+                expected.add(interval);
+            }
+
+            int queryStart = random.nextInt(1_100);
+            int queryEnd = queryStart + 1 + random.nextInt(30);
+            IntervalTree.Interval found = tree.findOverlap(queryStart, queryEnd);
+            boolean overlaps = expected.stream().anyMatch(e -> e.start() < queryEnd && queryStart < e.end());
+            assertThat(found != null).isEqualTo(overlaps);
+            if (found != null) {
+                assertThat(found.start() < queryEnd && queryStart < found.end()).isTrue();
+            }
+        }
+        assertThat(tree.size()).isEqualTo(expected.size());
+    }
+
+    @Test
+    void backToBackIntervalsDoNotOverlap() {
+        IntervalTree tree = new IntervalTree();
+        tree.insert(600, 660, 1);
+
+        assertThat(tree.findOverlap(660, 720)).isNull();
+        assertThat(tree.findOverlap(540, 600)).isNull();
+        assertThat(tree.findOverlap(659, 661)).isEqualTo(new IntervalTree.Interval(600, 660, 1));
+        assertThat(tree.insert(600, 660, 1)).isFalse();
+    }
+}
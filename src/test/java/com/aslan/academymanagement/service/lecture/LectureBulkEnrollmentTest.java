@@ -0,0 +1,252 @@
+package com.aslan.academymanagement.service.lecture;
+
+import com.aslan.academymanagement.domain.Member;
+import com.aslan.academymanagement.domain.enums.LectureType;
+import com.aslan.academymanagement.domain.enums.Role;
+import com.aslan.academymanagement.domain.enums.Subject;
+import com.aslan.academymanagement.dto.EnrollmentResult;
+import com.aslan.academymanagement.dto.EnrollmentResult.Status;
+import com.aslan.academymanagement.dto.LectureRequest;
+import com.aslan.academymanagement.dto.LectureScheduleRequest;
+import com.aslan.academymanagement.repository.LectureStudentRepository;
+import com.aslan.academymanagement.repository.MemberRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.sql.Date;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class LectureBulkEnrollmentTest {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+    private static final LectureScheduleRequest SATURDAY_MORNING =
+            new LectureScheduleRequest(DayOfWeek.SATURDAY, LocalTime.of(10, 0), LocalTime.of(12, 0));
+
+    @Autowired
+    private LectureService lectureService;
+
+    @Autowired
+    private LectureStudentService lectureStudentService;
+
+    @Autowired
+    private LectureSeatCounter lectureSeatCounter;
+
+    @Autowired
+    private LectureStudentRepository lectureStudentRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private Member teacher;
+
+    @BeforeEach
+    void setUp() {
+        teacher = newTeacher();
+    }
+
+    @Test
+    void reportsOneOutcomePerRequestedStudent() {
+        Long lectureId = createLecture(teacher, 5);
+        List<Long> students = insertStudents(7);
+
+        // students[0]: 이미 수강 중, students[1]: 같은 시간의 다른 강의 수강 중
+        lectureStudentService.registerStudent(teacher, lectureId, students.get(0));
+        Member other = newTeacher();
+        lectureStudentService.registerStudent(other, createLecture(other, null), students.get(1));
+
+        List<Long> request = new ArrayList<>(students);
+        request.add(-1L);
+        request.add(students.get(2)); // 중복 요청은 한 번만 처리
+        List<EnrollmentResult> results = lectureStudentService.registerStudents(teacher, lectureId, request);
+
+        assertThat(results).extracting(EnrollmentResult::getStudentId)
+                .containsExactlyElementsOf(request.subList(0, request.size() - 1));
+        assertThat(results).extracting(EnrollmentResult::getStatus).containsExactly(
+                Status.ALREADY_ENROLLED, Status.CONFLICT,
+                Status.ENROLLED, Status.ENROLLED, Status.ENROLLED, Status.ENROLLED,
+                Status.CAPACITY_FULL, Status.NOT_FOUND);
+        assertThat(lectureStudentRepository.countByLectureId(lectureId)).isEqualTo(5);
+        assertThat(lectureSeatCounter.taken(lectureId)).isEqualTo(5);
+    }
+
+    @Test
+    void unusedSeatsAreReturned() {
+        Long lectureId = createLecture(teacher, 10);
+        List<Long> students = insertStudents(3);
+        Member other = newTeacher();
+        lectureStudentService.registerStudent(other, createLecture(other, null), students.get(0));
+
+        List<EnrollmentResult> results = lectureStudentService.registerStudents(teacher, lectureId, students);
+
+        assertThat(results).extracting(EnrollmentResult::getStatus)
+                .containsExactly(Status.CONFLICT, Status.ENROLLED, Status.ENROLLED);
+        assertThat(lectureSeatCounter.taken(lectureId)).isEqualTo(2);
+    }
+
+    @Test
+    void queryCountDoesNotGrowWithClassSize() {
+        Long lectureId = createLecture(teacher, 40);
+        List<Long> students = insertStudents(30);
+        lectureSeatCounter.taken(lectureId);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        List<EnrollmentResult> enrolled = lectureStudentService.registerStudents(teacher, lectureId, students);
+        // 강의 1 + 학생 존재 확인 1 + 중복 확인 1 + 수강생 수 UPDATE 1 (배치 INSERT는 JdbcTemplate으로 실행되어 집계에서 빠짐)
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+        assertThat(enrolled).extracting(EnrollmentResult::getStatus).containsOnly(Status.ENROLLED);
+
+        List<Long> toRemove = new ArrayList<>(students);
+        toRemove.add(-1L);
+        statistics.clear();
+        List<EnrollmentResult> removed = lectureStudentService.removeStudents(teacher, lectureId, toRemove);
+        // 강의 1 + 수강생 잠금 조회 1 + DELETE 1 + 수강생 수 UPDATE 1
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+        assertThat(removed).filteredOn(result -> result.getStatus() == Status.REMOVED).hasSize(30);
+        assertThat(removed.get(30).getStatus()).isEqualTo(Status.NOT_ENROLLED);
+
+        assertThat(lectureStudentRepository.countByLectureId(lectureId)).isZero();
+        assertThat(lectureSeatCounter.taken(lectureId)).isZero();
+    }
+
+    @Test
+    void overlappingBulkRemovalsFreeOnlyTheSeatsTheyDeleted() throws Exception {
+        for (int round = 0; round < 10; round++) {
+            Member owner = newTeacher();
+            Long lectureId = createLecture(owner, 4);
+            List<Long> students = insertStudents(6);
+            lectureStudentService.registerStudents(owner, lectureId, students.subList(0, 4));
+            lectureStudentService.joinWaitlist(owner, lectureId, students.get(4));
+            lectureStudentService.joinWaitlist(owner, lectureId, students.get(5));
+
+            // 두 요청이 students[1], students[2]를 겹쳐서 제외
+            List<List<EnrollmentResult>> results = runConcurrently(
+                    () -> lectureStudentService.removeStudents(owner, lectureId, students.subList(0, 3)),
+                    () -> lectureStudentService.removeStudents(owner, lectureId, students.subList(1, 4)));
+
+            // 실제로 지워진 학생은 한 번씩만 REMOVED
+            assertThat(results.stream().flatMap(List::stream)
+                    .filter(result -> result.getStatus() == Status.REMOVED)
+                    .map(EnrollmentResult::getStudentId))
+                    .containsExactlyInAnyOrderElementsOf(students.subList(0, 4));
+            // 빈 자리 4개 → 대기자 2명 승격, 카운터는 실제 수강생 수와 같아야 함
+            assertThat(lectureStudentRepository.findEnrolledStudentPks(lectureId, students))
+                    .containsExactlyInAnyOrderElementsOf(students.subList(4, 6));
+            assertThat(lectureSeatCounter.taken(lectureId)).isEqualTo(2);
+            assertThat(jdbcTemplate.queryForObject("SELECT enrolled_count FROM lectures WHERE id = ?",
+                    Integer.class, lectureId)).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void bulkEndpointsAcceptStudentIdLists() throws Exception {
+        Long lectureId = createLecture(teacher, null);
+        List<Long> students = insertStudents(2);
+        String body = "{\"studentIds\": [" + students.stream().map(String::valueOf).collect(Collectors.joining(",")) + "]}";
+
+        mockMvc.perform(post("/api/v1/lecture/" + lectureId + "/students").with(user(teacher.getEmail()))
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].status").value(contains("ENROLLED", "ENROLLED")));
+        mockMvc.perform(delete("/api/v1/lecture/" + lectureId + "/students").with(user(teacher.getEmail()))
+                        .contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].status").value(contains("REMOVED", "REMOVED")));
+        mockMvc.perform(post("/api/v1/lecture/" + lectureId + "/students").with(user(teacher.getEmail()))
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"studentIds\": []}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @SafeVarargs
+    private static <T> List<T> runConcurrently(Callable<T>... tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(tasks.length);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<T>> futures = new ArrayList<>();
+        try {
+            for (Callable<T> task : tasks) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Member newTeacher() {
+        int n = SEQUENCE.incrementAndGet();
+        return memberRepository.save(Member.builder()
+                .name("일괄" + n)
+                .email("bulk-" + n + "@test.com")
+                .role(Role.TEACHER)
+                .build());
+    }
+
+    private Long createLecture(Member owner, Integer capacity) {
+        return lectureService.createLecture(owner, new LectureRequest("일괄 등록", LectureType.ACADEMY,
+                Subject.ENGLISH, List.of(SATURDAY_MORNING), capacity)).getId();
+    }
+
+    private List<Long> insertStudents(int count) {
+        String prefix = "BULK" + SEQUENCE.incrementAndGet() + "-";
+        jdbcTemplate.batchUpdate("""
+                        INSERT INTO students (student_id, name, birth_date, parent_phone_number, grade, division,
+                                              attendance_count, average_score)
+                        VALUES (?, '일괄등록', ?, '010-0000-0000', 'GRADE_4', 'ELEMENTARY', 0, 0.0)
+                        """,
+                IntStream.range(0, count).boxed().toList(), count, (ps, i) -> {
+                    ps.setString(1, prefix + i);
+                    ps.setDate(2, Date.valueOf(LocalDate.of(2015, 1, 1)));
+                });
+        return jdbcTemplate.queryForList("SELECT id FROM students WHERE student_id LIKE ? ORDER BY id",
+                Long.class, prefix + "%");
+    }
+}
@@ -0,0 +1,143 @@
+package com.aslan.academymanagement.service.lecture;
+
+import com.aslan.academymanagement.domain.Member;
+import com.aslan.academymanagement.domain.enums.LectureType;
+import com.aslan.academymanagement.domain.enums.Role;
+import com.aslan.academymanagement.domain.enums.Subject;
+import com.aslan.academymanagement.dto.LectureEventDto;
+import com.aslan.academymanagement.dto.LectureRequest;
+import com.aslan.academymanagement.dto.LectureScheduleRequest;
+import com.aslan.academymanagement.repository.MemberRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class LectureCalendarServiceTest {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private LectureCalendarService lectureCalendarService;
+
+    @Autowired
+    private LectureService lectureService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private Member teacher;
+
+    @BeforeEach
+    void setUp() {
+        int n = SEQUENCE.incrementAndGet();
+        teacher = memberRepository.save(Member.builder()
+                .name("달력" + n)
+                .email("calendar-" + n + "@test.com")
+                .role(Role.TEACHER)
+                .build());
+        lectureService.createLecture(teacher, lecture("수학", Subject.MATH,
+                new LectureScheduleRequest(DayOfWeek.MONDAY, LocalTime.of(16, 0), LocalTime.of(17, 0)),
+                new LectureScheduleRequest(DayOfWeek.THURSDAY, LocalTime.of(14, 0), LocalTime.of(15, 0))));
+    }
+
+    @Test
+    void expandsWeeklySchedulesOverAnyRange() {
+        // 2025-03-01(토) ~ 2025-03-31(월): 월요일 5회 + 목요일 4회
+        List<LectureEventDto> events = expand(LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31));
+
+        assertThat(events).hasSize(9);
+        assertThat(events.get(0).getStart()).isEqualTo("2025-03-03T16:00");
+        assertThat(events.get(1).getStart()).isEqualTo("2025-03-06T14:00");
+        assertThat(events.get(events.size() - 1).getStart()).isEqualTo("2025-03-31T16:00");
+        assertThat(events).extracting(LectureEventDto::getStart).isSorted();
+    }
+
+    @Test
+    void cachesExpandedWeeksUntilLecturesChange() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        LocalDate from = LocalDate.of(2025, 9, 1);
+        LocalDate to = LocalDate.of(2025, 12, 31);
+
+        statistics.clear();
+        int before = expand(from, to).size();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        statistics.clear();
+        assertThat(expand(from, to)).hasSize(before);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        lectureService.createLecture(teacher, lecture("영어", Subject.ENGLISH,
+                new LectureScheduleRequest(DayOfWeek.SATURDAY, LocalTime.of(10, 0), LocalTime.of(12, 0))));
+        // 2025-09-01 ~ 2025-12-31 의 토요일 17회
+        assertThat(expand(from, to)).hasSize(before + 17);
+    }
+
+    @Test
+    void unchangedCalendarIsServedAsNotModifiedWithoutQueries() throws Exception {
+        String url = "/api/v1/lecture/events?from=2025-03-01&to=2025-03-31";
+        String etag = mockMvc.perform(get(url).with(user(teacher.getEmail())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(9))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotBlank();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        mockMvc.perform(get(url).with(user(teacher.getEmail())).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        // 강의가 바뀌면 ETag도 바뀜
+        lectureService.createLecture(teacher, lecture("영어", Subject.ENGLISH,
+                new LectureScheduleRequest(DayOfWeek.SATURDAY, LocalTime.of(10, 0), LocalTime.of(12, 0))));
+        mockMvc.perform(get(url).with(user(teacher.getEmail())).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(14));
+    }
+
+    @Test
+    void rejectsInvalidRanges() {
+        assertThatThrownBy(() -> expand(LocalDate.of(2025, 3, 2), LocalDate.of(2025, 3, 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> expand(LocalDate.of(2025, 1, 1), LocalDate.of(2026, 1, 2)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<LectureEventDto> expand(LocalDate from, LocalDate to) {
+        return lectureCalendarService.expand(teacher.getId(), from, to).toList();
+    }
+
+    private static LectureRequest lecture(String title, Subject subject, LectureScheduleRequest... schedules) {
+        return new LectureRequest(title, LectureType.ACADEMY, subject, List.of(schedules));
+    }
+}
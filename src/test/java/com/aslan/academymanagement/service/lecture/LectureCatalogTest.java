@@ -0,0 +1,144 @@
+package com.aslan.academymanagement.service.lecture;
+
+import com.aslan.academymanagement.domain.Member;
+import com.aslan.academymanagement.domain.enums.LectureType;
+import com.aslan.academymanagement.domain.enums.Role;
+import com.aslan.academymanagement.domain.enums.Subject;
+import com.aslan.academymanagement.dto.CursorPage;
+import com.aslan.academymanagement.dto.LectureRequest;
+import com.aslan.academymanagement.dto.LectureResponse;
+import com.aslan.academymanagement.dto.LectureScheduleRequest;
+import com.aslan.academymanagement.dto.LectureSearchCondition;
+import com.aslan.academymanagement.repository.MemberRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class LectureCatalogTest {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private LectureService lectureService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Member teacher;
+    private int created;
+
+    @BeforeEach
+    void setUp() {
+        int n = SEQUENCE.incrementAndGet();
+        teacher = memberRepository.save(Member.builder()
+                .name("카탈로그" + n)
+                .email("catalog-" + n + "@test.com")
+                .role(Role.TEACHER)
+                .build());
+    }
+
+    @Test
+    void pagesThroughFilteredLecturesWithCursor() {
+        for (int i = 0; i < 5; i++) {
+            create("수학" + i, Subject.MATH, DayOfWeek.MONDAY, DayOfWeek.THURSDAY);
+        }
+        create("영어", Subject.ENGLISH, DayOfWeek.MONDAY);
+        create("수학-화", Subject.MATH, DayOfWeek.TUESDAY);
+
+        LectureSearchCondition condition =
+                new LectureSearchCondition(Subject.MATH, null, teacher.getId(), DayOfWeek.MONDAY);
+
+        List<String> titles = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPage<LectureResponse> page = lectureService.retrieveCatalog(condition, cursor, 2);
+            page.getItems().forEach(lecture -> {
+                titles.add(lecture.getTitle());
+                assertThat(lecture.getSchedules()).hasSize(2);
+            });
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(titles).containsExactly("수학0", "수학1", "수학2", "수학3", "수학4");
+        assertThat(pages).isEqualTo(3);
+    }
+
+    @Test
+    void eachPageRunsTwoQueries() {
+        for (int i = 0; i < 3; i++) {
+            create("강의" + i, Subject.SCIENCE, DayOfWeek.FRIDAY);
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        CursorPage<LectureResponse> page = lectureService.retrieveCatalog(
+                new LectureSearchCondition(null, LectureType.ACADEMY, teacher.getId(), null), null, 10);
+
+        assertThat(page.getItems()).hasSize(3);
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void eachFilterIsApplied() {
+        create("수학-월", Subject.MATH, DayOfWeek.MONDAY);
+        create("영어-월", Subject.ENGLISH, DayOfWeek.MONDAY);
+        create("수학-수", Subject.MATH, DayOfWeek.WEDNESDAY);
+
+        assertThat(titles(new LectureSearchCondition(null, null, teacher.getId(), null)))
+                .containsExactly("수학-월", "영어-월", "수학-수");
+        assertThat(titles(new LectureSearchCondition(Subject.MATH, null, teacher.getId(), null)))
+                .containsExactly("수학-월", "수학-수");
+        assertThat(titles(new LectureSearchCondition(null, null, teacher.getId(), DayOfWeek.MONDAY)))
+                .containsExactly("수학-월", "영어-월");
+        assertThat(titles(new LectureSearchCondition(null, LectureType.TUTORING, teacher.getId(), null)))
+                .isEmpty();
+        assertThat(titles(new LectureSearchCondition(Subject.MATH, LectureType.ACADEMY, teacher.getId(),
+                DayOfWeek.WEDNESDAY))).containsExactly("수학-수");
+    }
+
+    @Test
+    void rejectsOversizedPage() {
+        assertThatThrownBy(() -> lectureService.retrieveCatalog(new LectureSearchCondition(), null, 101))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<String> titles(LectureSearchCondition condition) {
+        return lectureService.retrieveCatalog(condition, null, 10).getItems().stream()
+                .map(LectureResponse::getTitle)
+                .toList();
+    }
+
+    private void create(String title, Subject subject, DayOfWeek... days) {
+        // 같은 강사의 강의끼리 시간이 겹치지 않도록 강의마다 2시간씩 뒤로
+        LocalTime start = LocalTime.of(8 + created++ * 2, 0);
+        List<LectureScheduleRequest> schedules = new ArrayList<>();
+        for (DayOfWeek day : days) {
+            schedules.add(new LectureScheduleRequest(day, start, start.plusHours(1)));
+        }
+        if (schedules.size() == 1) {
+            schedules.add(new LectureScheduleRequest(days[0], start.plusHours(1), start.plusHours(2)));
+        }
+        lectureService.createLecture(teacher, new LectureRequest(title, LectureType.ACADEMY, subject, schedules));
+    }
+}
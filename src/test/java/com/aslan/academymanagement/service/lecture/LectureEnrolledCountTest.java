@@ -0,0 +1,186 @@
+package com.aslan.academymanagement.service.lecture;
+
+import com.aslan.academymanagement.domain.Member;
+import com.aslan.academymanagement.domain.enums.LectureType;
+import com.aslan.academymanagement.domain.enums.Role;
+import com.aslan.academymanagement.domain.enums.Subject;
+import com.aslan.academymanagement.dto.LectureRequest;
+import com.aslan.academymanagement.dto.LectureResponse;
+import com.aslan.academymanagement.dto.LectureScheduleRequest;
+import com.aslan.academymanagement.repository.MemberRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class LectureEnrolledCountTest {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private LectureService lectureService;
+
+    @Autowired
+    private LectureStudentService lectureStudentService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Member teacher;
+
+    @BeforeEach
+    void setUp() {
+        int n = SEQUENCE.incrementAndGet();
+        teacher = memberRepository.save(Member.builder()
+                .name("인원" + n)
+                .email("enrolled-count-" + n + "@test.com")
+                .role(Role.TEACHER)
+                .build());
+    }
+
+    @Test
+    void countFollowsEveryEnrollmentPath() {
+        Long lectureId = createLecture(LocalTime.of(9, 0), 3);
+        List<Long> students = insertStudents(6);
+        assertThat(enrolledCount(lectureId)).isZero();
+
+        lectureStudentService.registerStudent(teacher, lectureId, students.get(0));
+        lectureStudentService.registerStudents(teacher, lectureId, students.subList(1, 4));
+        lectureStudentService.joinWaitlist(teacher, lectureId, students.get(4));
+        assertThat(enrolledCount(lectureId)).isEqualTo(3);
+
+        // 취소 1명 → 대기 1번 승격
+        lectureStudentService.removeStudent(teacher, lectureId, students.get(0));
+        assertThat(enrolledCount(lectureId)).isEqualTo(3);
+
+        lectureStudentService.removeStudents(teacher, lectureId, List.of(students.get(1), students.get(2), students.get(5)));
+        assertThat(enrolledCount(lectureId)).isEqualTo(1);
+
+        // 실패한 등록은 수강생 수를 바꾸지 않음
+        assertThatThrownBy(() -> lectureStudentService.registerStudent(teacher, lectureId, students.get(4)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(enrolledCount(lectureId)).isEqualTo(countRows(lectureId)).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentEnrollmentsDoNotLoseUpdates() throws Exception {
+        Long lectureId = createLecture(LocalTime.of(11, 0), null);
+        List<Long> students = insertStudents(200);
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < students.size(); i++) {
+            Long studentId = students.get(i);
+            boolean removeAfter = i % 4 == 0;
+            futures.add(executor.submit(() -> {
+                start.await();
+                lectureStudentService.registerStudent(teacher, lectureId, studentId);
+                if (removeAfter) {
+                    lectureStudentService.removeStudent(teacher, lectureId, studentId);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        assertThat(enrolledCount(lectureId)).isEqualTo(countRows(lectureId)).isEqualTo(150);
+    }
+
+    @Test
+    void lectureResponseCarriesCountWithoutCounting() {
+        Long lectureId = createLecture(LocalTime.of(13, 0), null);
+        lectureStudentService.registerStudents(teacher, lectureId, insertStudents(4));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        List<LectureResponse> lectures = lectureService.retrieveMyLectures(teacher);
+
+        assertThat(lectures).singleElement().extracting(LectureResponse::getEnrolledCount).isEqualTo(4);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void studentLecturesComeFromReverseIndex() {
+        Long first = createLecture(LocalTime.of(15, 0), null);
+        Long second = createLecture(LocalTime.of(17, 0), null);
+        createLecture(LocalTime.of(19, 0), null);
+        Long studentId = insertStudents(1).get(0);
+        lectureStudentService.registerStudent(teacher, second, studentId);
+        lectureStudentService.registerStudent(teacher, first, studentId);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        List<LectureResponse> lectures = lectureStudentService.getLecturesByStudent(studentId);
+
+        assertThat(lectures).extracting(LectureResponse::getId).containsExactly(first, second);
+        assertThat(lectures).allSatisfy(lecture -> assertThat(lecture.getEnrolledCount()).isEqualTo(1));
+        // 학생 존재 확인 1 + 강의 id 1 + 강의/스케줄 1
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM INFORMATION_SCHEMA.INDEXES "
+                + "WHERE INDEX_NAME = 'IDX_LECTURE_STUDENTS_STUDENT_ID'", Integer.class)).isEqualTo(1);
+    }
+
+    private Long createLecture(LocalTime start, Integer capacity) {
+        return lectureService.createLecture(teacher, new LectureRequest("인원반" + SEQUENCE.get(), LectureType.ACADEMY,
+                Subject.ENGLISH, List.of(new LectureScheduleRequest(DayOfWeek.TUESDAY, start, start.plusHours(1))),
+                capacity)).getId();
+    }
+
+    private int enrolledCount(Long lectureId) {
+        return lectureService.retrieveLecture(lectureId).getEnrolledCount();
+    }
+
+    private int countRows(Long lectureId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM lecture_students WHERE lecture_id = ?",
+                Integer.class, lectureId);
+    }
+
+    private List<Long> insertStudents(int count) {
+        String prefix = "COUNT" + SEQUENCE.get() + "-";
+        jdbcTemplate.batchUpdate("""
+                        INSERT INTO students (student_id, name, birth_date, parent_phone_number, grade, division,
+                                              attendance_count, average_score)
+                        VALUES (?, '인원확인', ?, '010-0000-0000', 'GRADE_5', 'ELEMENTARY', 0, 0.0)
+                        """,
+                IntStream.range(0, count).boxed().toList(), count, (ps, i) -> {
+                    ps.setString(1, prefix + i);
+                    ps.setDate(2, Date.valueOf(LocalDate.of(2014, 1, 1)));
+                });
+        return jdbcTemplate.queryForList("SELECT id FROM students WHERE student_id LIKE ? ORDER BY id",
+                Long.class, prefix + "%");
+    }
+}
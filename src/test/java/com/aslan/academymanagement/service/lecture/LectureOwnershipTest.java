@@ -0,0 +1,104 @@
+package com.aslan.academymanagement.service.lecture;
+
+import com.aslan.academymanagement.domain.Member;
+import com.aslan.academymanagement.domain.enums.LectureType;
+import com.aslan.academymanagement.domain.enums.Role;
+import com.aslan.academymanagement.domain.enums.Subject;
+import com.aslan.academymanagement.dto.LectureRequest;
+import com.aslan.academymanagement.dto.LectureScheduleRequest;
+import com.aslan.academymanagement.repository.MemberRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class LectureOwnershipTest {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private LectureOwnership lectureOwnership;
+
+    @Autowired
+    private LectureService lectureService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+    private Member teacher;
+    private Member other;
+    private Long lectureId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        teacher = newTeacher();
+        other = newTeacher();
+        lectureId = lectureService.createLecture(teacher, new LectureRequest("권한" + SEQUENCE.get(), LectureType.ACADEMY,
+                Subject.MATH, List.of(new LectureScheduleRequest(DayOfWeek.FRIDAY, LocalTime.of(18, 0), LocalTime.of(19, 0)))))
+                .getId();
+    }
+
+    @Test
+    void createdLectureIsVerifiedWithoutQueries() {
+        statistics.clear();
+        lectureOwnership.verify(teacher, lectureId);
+        assertThatThrownBy(() -> lectureOwnership.verify(other, lectureId))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("해당 강의에 대한 권한이 없습니다.");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void evictedEntryIsReloadedOnce() {
+        // 담당 강사 변경 (변경 API가 생기면 같은 트랜잭션에서 evict)
+        jdbcTemplate.update("UPDATE lectures SET teacher_id = ? WHERE id = ?", other.getId(), lectureId);
+        lectureOwnership.evict(lectureId);
+
+        statistics.clear();
+        lectureOwnership.verify(other, lectureId);
+        lectureOwnership.verify(other, lectureId);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThatThrownBy(() -> lectureOwnership.verify(teacher, lectureId))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("해당 강의에 대한 권한이 없습니다.");
+    }
+
+    @Test
+    void missingLectureIsRejected() {
+        assertThatThrownBy(() -> lectureOwnership.verify(teacher, -1L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("해당 강의가 없습니다. id=-1");
+        assertThat(lectureOwnership.teacherOf(-1L)).isNull();
+    }
+
+    private Member newTeacher() {
+        int n = SEQUENCE.incrementAndGet();
+        return memberRepository.save(Member.builder()
+                .name("권한" + n)
+                .email("ownership-" + n + "@test.com")
+                .role(Role.TEACHER)
+                .build());
+    }
+}
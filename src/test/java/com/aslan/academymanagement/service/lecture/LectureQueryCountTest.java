@@ -0,0 +1,105 @@
+package com.aslan.academymanagement.service.lecture;
+
+import com.aslan.academymanagement.domain.Member;
+import com.aslan.academymanagement.domain.enums.LectureType;
+import com.aslan.academymanagement.domain.enums.Role;
+import com.aslan.academymanagement.domain.enums.Subject;
+import com.aslan.academymanagement.dto.LectureRequest;
+import com.aslan.academymanagement.dto.LectureResponse;
+import com.aslan.academymanagement.dto.LectureScheduleRequest;
+import com.aslan.academymanagement.repository.MemberRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 강의 조회 경로의 SQL 실행 횟수 회귀 테스트
+ * - 강의 수와 무관하게 정해진 횟수만 실행되어야 함 (N+1이 생기면 실패)
+ */
+@SpringBootTest
+class LectureQueryCountTest {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+    private static final int LECTURES = 5;
+
+    @Autowired
+    private LectureService lectureService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Member teacher;
+    private Long lectureId;
+    private List<Long> lectureIds;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        int n = SEQUENCE.incrementAndGet();
+        teacher = memberRepository.save(Member.builder()
+                .name("강사" + n)
+                .email("query-count-" + n + "@test.com")
+                .role(Role.TEACHER)
+                .build());
+        lectureIds = new ArrayList<>();
+        for (int i = 0; i < LECTURES; i++) {
+            lectureId = lectureService.createLecture(teacher, lectureRequest(i)).getId();
+            lectureIds.add(lectureId);
+        }
+        statistics.clear();
+    }
+
+    @Test
+    void retrieveAllLecturesRunsOneQuery() {
+        List<LectureResponse> lectures = lectureService.retrieveAllLectures();
+
+        assertThat(lectures)
+                .filteredOn(lecture -> lectureIds.contains(lecture.getId()))
+                .hasSize(LECTURES)
+                .allSatisfy(lecture -> assertThat(lecture.getSchedules()).hasSize(2));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void retrieveMyLecturesRunsOneQuery() {
+        List<LectureResponse> lectures = lectureService.retrieveMyLectures(teacher);
+
+        assertThat(lectures).hasSize(LECTURES);
+        assertThat(lectures).allSatisfy(lecture -> assertThat(lecture.getSchedules()).hasSize(2));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void retrieveLectureRunsOneQuery() {
+        LectureResponse lecture = lectureService.retrieveLecture(lectureId);
+
+        assertThat(lecture.getSchedules()).hasSize(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    // 같은 강사의 강의끼리 시간이 겹치지 않도록 강의마다 2시간씩 뒤로
+    private static LectureRequest lectureRequest(int index) {
+        LocalTime start = LocalTime.of(9 + index * 2, 0);
+        return new LectureRequest("강의" + index, LectureType.ACADEMY, Subject.MATH, List.of(
+                new LectureScheduleRequest(DayOfWeek.MONDAY, start, start.plusMinutes(90)),
+                new LectureScheduleRequest(DayOfWeek.WEDNESDAY, start, start.plusMinutes(90))));
+    }
+}
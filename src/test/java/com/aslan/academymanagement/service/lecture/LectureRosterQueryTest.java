@@ -0,0 +1,173 @@
+package com.aslan.academymanagement.service.lecture;
+
+import com.aslan.academymanagement.domain.Member;
+import com.aslan.academymanagement.domain.enums.LectureType;
+import com.aslan.academymanagement.domain.enums.Role;
+import com.aslan.academymanagement.domain.enums.Subject;
+import com.aslan.academymanagement.dto.CursorPage;
+import com.aslan.academymanagement.dto.LectureRequest;
+import com.aslan.academymanagement.dto.LectureScheduleRequest;
+import com.aslan.academymanagement.dto.RosterSort;
+import com.aslan.academymanagement.dto.StudentResponse;
+import com.aslan.academymanagement.repository.MemberRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.sql.Date;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class LectureRosterQueryTest {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+    private static final String[] NAMES = {"다은", "가온", "나래", "가온", "라희", "나래", "마루"};
+
+    @Autowired
+    private LectureService lectureService;
+
+    @Autowired
+    private LectureStudentService lectureStudentService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private Member teacher;
+    private Long lectureId;
+
+    @BeforeEach
+    void setUp() {
+        int n = SEQUENCE.incrementAndGet();
+        teacher = memberRepository.save(Member.builder()
+                .name("명단" + n)
+                .email("roster-" + n + "@test.com")
+                .role(Role.TEACHER)
+                .build());
+        lectureId = lectureService.createLecture(teacher, new LectureRequest("명단 강의", LectureType.ACADEMY,
+                Subject.KOREAN, List.of(new LectureScheduleRequest(DayOfWeek.SUNDAY, LocalTime.of(10, 0), LocalTime.of(11, 0)))))
+                .getId();
+    }
+
+    @Test
+    void pagesByNameWithTiesBrokenById() {
+        enroll(NAMES.length);
+
+        List<StudentResponse> all = readAll(RosterSort.NAME, 2);
+
+        assertThat(all).hasSize(NAMES.length)
+                .isSortedAccordingTo(Comparator.comparing(StudentResponse::getName).thenComparing(StudentResponse::getId));
+        assertThat(all).extracting(StudentResponse::getName)
+                .containsExactly("가온", "가온", "나래", "나래", "다은", "라희", "마루");
+    }
+
+    @Test
+    void pagesByStudentId() {
+        List<Long> ids = enroll(5);
+
+        List<StudentResponse> all = readAll(RosterSort.STUDENT_ID, 3);
+
+        assertThat(all).extracting(StudentResponse::getId).containsExactlyInAnyOrderElementsOf(ids);
+        assertThat(all).isSortedAccordingTo(Comparator.comparing(StudentResponse::getStudentId));
+    }
+
+    @Test
+    void queryCountDoesNotGrowWithRosterSize() {
+        enroll(3);
+        assertThat(countStatements()).isEqualTo(1);
+
+        enroll(80);
+        assertThat(countStatements()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsInvalidSizeAndCursor() {
+        assertThatThrownBy(() -> lectureStudentService.getStudentsByLecture(teacher, lectureId, RosterSort.NAME, null, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> lectureStudentService.getStudentsByLecture(teacher, lectureId, RosterSort.NAME, "bad", 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서입니다.");
+    }
+
+    @Test
+    void rosterEndpointReturnsCursorPage() throws Exception {
+        enroll(3);
+
+        mockMvc.perform(get("/api/v1/lecture/" + lectureId + "/students?size=2").with(user(teacher.getEmail())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].name").value(contains("가온", "나래")))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
+    // 명단 1 (권한 확인은 LectureOwnership 캐시)
+    private long countStatements() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        CursorPage<StudentResponse> page = lectureStudentService.getStudentsByLecture(
+                teacher, lectureId, RosterSort.NAME, null, 100);
+        assertThat(page.getItems()).isNotEmpty();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private List<StudentResponse> readAll(RosterSort sort, int size) {
+        List<StudentResponse> all = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<StudentResponse> page = lectureStudentService.getStudentsByLecture(teacher, lectureId, sort, cursor, size);
+            assertThat(page.getItems()).hasSizeLessThanOrEqualTo(size);
+            all.addAll(page.getItems());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return all;
+    }
+
+    private List<Long> enroll(int count) {
+        String prefix = "ROSTER" + SEQUENCE.incrementAndGet() + "-";
+        jdbcTemplate.batchUpdate("""
+                        INSERT INTO students (student_id, name, birth_date, parent_phone_number, grade, division,
+                                              attendance_count, average_score)
+                        VALUES (?, ?, ?, '010-0000-0000', 'GRADE_3', 'ELEMENTARY', 0, 0.0)
+                        """,
+                IntStream.range(0, count).boxed().toList(), count, (ps, i) -> {
+                    ps.setString(1, prefix + (char) ('Z' - i % 26) + i);
+                    ps.setString(2, NAMES[i % NAMES.length]);
+                    ps.setDate(3, Date.valueOf(LocalDate.of(2016, 1, 1)));
+                });
+        List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM students WHERE student_id LIKE ? ORDER BY id",
+                Long.class, prefix + "%");
+        lectureStudentService.registerStudents(teacher, lectureId, ids);
+        return ids;
+    }
+}
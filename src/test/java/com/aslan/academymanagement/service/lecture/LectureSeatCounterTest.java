@@ -0,0 +1,162 @@
+package com.aslan.academymanagement.service.lecture;
+
+import com.aslan.academymanagement.domain.Member;
+import com.aslan.academymanagement.domain.enums.LectureType;
+import com.aslan.academymanagement.domain.enums.Role;
+import com.aslan.academymanagement.domain.enums.Subject;
+import com.aslan.academymanagement.dto.LectureRequest;
+import com.aslan.academymanagement.dto.LectureScheduleRequest;
+import com.aslan.academymanagement.repository.LectureRepository;
+import com.aslan.academymanagement.repository.LectureStudentRepository;
+import com.aslan.academymanagement.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class LectureSeatCounterTest {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+    private static final int CAPACITY = 30;
+    private static final int APPLICANTS = 2_000;
+    private static final int THREADS = 64;
+
+    @Autowired
+    private LectureService lectureService;
+
+    @Autowired
+    private LectureStudentService lectureStudentService;
+
+    @Autowired
+    private LectureSeatCounter lectureSeatCounter;
+
+    @Autowired
+    private LectureStudentRepository lectureStudentRepository;
+
+    @Autowired
+    private LectureRepository lectureRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Member teacher;
+    private Long lectureId;
+
+    @BeforeEach
+    void setUp() {
+        int n = SEQUENCE.incrementAndGet();
+        teacher = memberRepository.save(Member.builder()
+                .name("특강" + n)
+                .email("seat-" + n + "@test.com")
+                .role(Role.TEACHER)
+                .build());
+        lectureId = lectureService.createLecture(teacher, new LectureRequest("특강" + n, LectureType.SPECIAL_LECTURE,
+                Subject.MATH, List.of(new LectureScheduleRequest(DayOfWeek.SATURDAY, LocalTime.of(10, 0), LocalTime.of(12, 0))),
+                CAPACITY)).getId();
+    }
+
+    @Test
+    void thousandsOfSimultaneousRegistrationsNeverOversell() throws Exception {
+        List<Long> applicants = insertStudents(APPLICANTS);
+        AtomicInteger admitted = new AtomicInteger();
+        ConcurrentLinkedQueue<String> rejections = new ConcurrentLinkedQueue<>();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (Long studentId : applicants) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    lectureStudentService.registerStudent(teacher, lectureId, studentId);
+                    admitted.incrementAndGet();
+                } catch (IllegalStateException e) {
+                    rejections.add(e.getMessage());
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        assertThat(admitted.get()).isEqualTo(CAPACITY);
+        assertThat(rejections).hasSize(APPLICANTS - CAPACITY).allMatch(message -> message.startsWith("정원이 마감"));
+        assertThat(lectureStudentRepository.countByLectureId(lectureId)).isEqualTo(CAPACITY);
+        assertThat(lectureSeatCounter.taken(lectureId)).isEqualTo(CAPACITY);
+    }
+
+    @Test
+    void seatIsReturnedOnRemovalAndFailedRegistration() {
+        List<Long> students = insertStudents(CAPACITY + 1);
+        for (int i = 0; i < CAPACITY; i++) {
+            lectureStudentService.registerStudent(teacher, lectureId, students.get(i));
+        }
+        Long waiting = students.get(CAPACITY);
+        assertThatThrownBy(() -> lectureStudentService.registerStudent(teacher, lectureId, waiting))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageStartingWith("정원이 마감");
+
+        // 중복 등록으로 실패해도 자리를 차지하지 않음
+        assertThatThrownBy(() -> lectureStudentService.registerStudent(teacher, lectureId, students.get(0)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("이미 등록된 학생입니다.");
+        assertThat(lectureSeatCounter.taken(lectureId)).isEqualTo(CAPACITY);
+
+        lectureStudentService.removeStudent(teacher, lectureId, students.get(0));
+        lectureStudentService.registerStudent(teacher, lectureId, waiting);
+        assertThat(lectureStudentRepository.countByLectureId(lectureId)).isEqualTo(CAPACITY);
+    }
+
+    @Test
+    void counterStartsFromStoredEnrolledCount() {
+        // 저장된 수강생 수만 어긋나게 바꾼 강의: 카운터는 COUNT(*)가 아니라 저장된 값으로 시작
+        jdbcTemplate.update("UPDATE lectures SET enrolled_count = 7 WHERE id = ?", lectureId);
+
+        assertThat(lectureSeatCounter.taken(lectureId)).isEqualTo(7);
+        assertThat(lectureRepository.findIdsWithEnrolledCountMismatch()).contains(lectureId);
+
+        jdbcTemplate.update("UPDATE lectures SET enrolled_count = 0 WHERE id = ?", lectureId);
+        assertThat(lectureRepository.findIdsWithEnrolledCountMismatch()).doesNotContain(lectureId);
+    }
+
+    // 학생 번호 형식(ES/MS + 3자리)으로는 수천 명을 만들 수 없으므로 JDBC로 직접 넣음
+    private List<Long> insertStudents(int count) {
+        String prefix = "SEAT" + SEQUENCE.get() + "-";
+        jdbcTemplate.batchUpdate("""
+                        INSERT INTO students (student_id, name, birth_date, parent_phone_number, grade, division,
+                                              attendance_count, average_score)
+                        VALUES (?, '특강신청', ?, '010-0000-0000', 'GRADE_5', 'ELEMENTARY', 0, 0.0)
+                        """,
+                IntStream.range(0, count).boxed().toList(), count, (ps, i) -> {
+                    ps.setString(1, prefix + i);
+                    ps.setDate(2, Date.valueOf(LocalDate.of(2014, 1, 1)));
+                });
+        return jdbcTemplate.queryForList("SELECT id FROM students WHERE student_id LIKE ? ORDER BY id",
+                Long.class, prefix + "%");
+    }
+}
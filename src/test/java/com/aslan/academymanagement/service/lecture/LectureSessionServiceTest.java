@@ -0,0 +1,161 @@
+package com.aslan.academymanagement.service.lecture;
+
+import com.aslan.academymanagement.domain.Member;
+import com.aslan.academymanagement.domain.Student;
+import com.aslan.academymanagement.domain.enums.Division;
+import com.aslan.academymanagement.domain.enums.Grade;
+import com.aslan.academymanagement.domain.enums.LectureType;
+import com.aslan.academymanagement.domain.enums.Role;
+import com.aslan.academymanagement.domain.enums.Subject;
+import com.aslan.academymanagement.dto.AttendanceResult;
+import com.aslan.academymanagement.dto.LectureRequest;
+import com.aslan.academymanagement.dto.LectureScheduleRequest;
+import com.aslan.academymanagement.dto.LectureSessionResponse;
+import com.aslan.academymanagement.dto.SessionAttendanceEntry;
+import com.aslan.academymanagement.dto.StudentRequest;
+import com.aslan.academymanagement.repository.MemberRepository;
+import com.aslan.academymanagement.service.student.StudentManagementService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 휴일 설정 때문에 컨텍스트가 따로 뜨므로 DB도 따로 사용
+// (같은 메모리 DB를 create-drop하면 다른 컨텍스트의 메모리 색인/카운터가 지워진 id를 가리키게 됨)
+@SpringBootTest(properties = {
+        "academy.holidays=2020-03-02, 2020-03-20",
+        "spring.datasource.url=jdbc:h2:mem:sessiondb"
+})
+class LectureSessionServiceTest {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    // 2020-03-02(월) ~ 2020-03-15(일), 3/2는 휴일
+    private static final LocalDate TERM_START = LocalDate.of(2020, 3, 2);
+    private static final LocalDate TERM_END = LocalDate.of(2020, 3, 15);
+
+    @Autowired
+    private LectureSessionService lectureSessionService;
+
+    @Autowired
+    private LectureService lectureService;
+
+    @Autowired
+    private LectureStudentService lectureStudentService;
+
+    @Autowired
+    private StudentManagementService studentManagementService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private Member teacher;
+
+    @BeforeEach
+    void setUp() {
+        teacher = newTeacher();
+    }
+
+    @Test
+    void materializesWeeklySchedulesSkippingHolidays() {
+        Long lectureId = createLecture(teacher,
+                new LectureScheduleRequest(DayOfWeek.MONDAY, LocalTime.of(16, 0), LocalTime.of(17, 0)),
+                new LectureScheduleRequest(DayOfWeek.THURSDAY, LocalTime.of(14, 0), LocalTime.of(15, 30)));
+
+        // 월 3/9, 목 3/5, 3/12 (월 3/2는 휴일)
+        assertThat(lectureSessionService.generate(teacher, lectureId, TERM_START, TERM_END)).isEqualTo(3);
+        assertThat(lectureSessionService.getSessions(teacher.getId(), TERM_START)).isEmpty();
+
+        List<LectureSessionResponse> thursday = lectureSessionService.getSessions(teacher.getId(), LocalDate.of(2020, 3, 5));
+        assertThat(thursday).singleElement().satisfies(session -> {
+            assertThat(session.lectureId()).isEqualTo(lectureId);
+            assertThat(session.startTime()).isEqualTo(LocalTime.of(14, 0));
+            assertThat(session.endTime()).isEqualTo(LocalTime.of(15, 30));
+        });
+    }
+
+    @Test
+    void regeneratingOnlyAddsMissingSessions() {
+        createLecture(teacher, new LectureScheduleRequest(DayOfWeek.FRIDAY, LocalTime.of(10, 0), LocalTime.of(11, 0)));
+        createLecture(teacher, new LectureScheduleRequest(DayOfWeek.FRIDAY, LocalTime.of(13, 0), LocalTime.of(14, 0)));
+
+        // 3/6, 3/13 × 2개 강의
+        assertThat(lectureSessionService.generateForTeacher(teacher, TERM_START, TERM_END)).isEqualTo(4);
+        assertThat(lectureSessionService.generateForTeacher(teacher, TERM_START, TERM_END)).isZero();
+
+        // 기간을 늘리면 늘어난 부분만 생성 (3/20은 휴일, 3/27만 추가)
+        assertThat(lectureSessionService.generateForTeacher(teacher, TERM_START, TERM_END.plusDays(14))).isEqualTo(2);
+        assertThat(lectureSessionService.getSessions(teacher.getId(), LocalDate.of(2020, 3, 13)))
+                .extracting(LectureSessionResponse::startTime)
+                .containsExactly(LocalTime.of(10, 0), LocalTime.of(13, 0));
+    }
+
+    @Test
+    void lectureAttendanceIsLinkedToTodaysSession() {
+        LocalDate today = LocalDate.now();
+        Long lectureId = createLecture(teacher,
+                new LectureScheduleRequest(today.getDayOfWeek(), LocalTime.of(0, 0), LocalTime.of(0, 30)));
+        assertThat(lectureSessionService.generate(teacher, lectureId, today, today)).isEqualTo(1);
+        Long sessionId = lectureSessionService.getSessions(teacher.getId(), today).get(0).sessionId();
+
+        String studentId = "ES" + (790 + SEQUENCE.incrementAndGet());
+        Student student = studentManagementService.registerStudent(StudentRequest.builder()
+                .studentId(studentId)
+                .name("회차")
+                .birthDate(LocalDate.of(2016, 1, 1))
+                .parentPhoneNumber("010-0000-0000")
+                .grade(Grade.GRADE_2)
+                .division(Division.ELEMENTARY)
+                .build());
+        lectureStudentService.registerStudent(teacher, lectureId, student.getId());
+
+        List<AttendanceResult> results = studentManagementService.checkAttendances(lectureId, List.of(studentId));
+        assertThat(results).extracting(AttendanceResult::getStatus).containsExactly(AttendanceResult.Status.ATTENDED);
+
+        assertThat(lectureSessionService.getAttendance(teacher, sessionId))
+                .extracting(SessionAttendanceEntry::studentId)
+                .containsExactly(studentId);
+    }
+
+    @Test
+    void rejectsOtherTeachersAndOversizedTerms() {
+        Long lectureId = createLecture(teacher,
+                new LectureScheduleRequest(DayOfWeek.TUESDAY, LocalTime.of(9, 0), LocalTime.of(10, 0)));
+        Member other = newTeacher();
+
+        assertThatThrownBy(() -> lectureSessionService.generate(other, lectureId, TERM_START, TERM_END))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> lectureSessionService.generate(teacher, lectureId, TERM_START, TERM_START.plusYears(2)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> lectureSessionService.generate(teacher, lectureId, TERM_END, TERM_START))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        lectureSessionService.generate(teacher, lectureId, TERM_START, TERM_END);
+        Long sessionId = lectureSessionService.getSessions(teacher.getId(), LocalDate.of(2020, 3, 3)).get(0).sessionId();
+        assertThatThrownBy(() -> lectureSessionService.getAttendance(other, sessionId))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Member newTeacher() {
+        int n = SEQUENCE.incrementAndGet();
+        return memberRepository.save(Member.builder()
+                .name("회차" + n)
+                .email("session-" + n + "@test.com")
+                .role(Role.TEACHER)
+                .build());
+    }
+
+    private Long createLecture(Member owner, LectureScheduleRequest... schedules) {
+        return lectureService.createLecture(owner, new LectureRequest("회차 강의", LectureType.ACADEMY,
+                Subject.MATH, List.of(schedules))).getId();
+    }
+}
@@ -0,0 +1,279 @@
+package com.aslan.academymanagement.service.lecture;
+
+import com.aslan.academymanagement.domain.Member;
+import com.aslan.academymanagement.domain.enums.LectureType;
+import com.aslan.academymanagement.domain.enums.Role;
+import com.aslan.academymanagement.domain.enums.Subject;
+import com.aslan.academymanagement.dto.EnrollmentResult;
+import com.aslan.academymanagement.dto.LectureRequest;
+import com.aslan.academymanagement.dto.LectureScheduleRequest;
+import com.aslan.academymanagement.repository.LectureStudentRepository;
+import com.aslan.academymanagement.repository.MemberRepository;
+import com.aslan.academymanagement.service.notification.NotificationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+class LectureWaitlistTest {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+    private static final int CAPACITY = 5;
+
+    @Autowired
+    private LectureService lectureService;
+
+    @Autowired
+    private LectureStudentService lectureStudentService;
+
+    @Autowired
+    private LectureSeatCounter lectureSeatCounter;
+
+    @Autowired
+    private LectureWaitlist lectureWaitlist;
+
+    @Autowired
+    private LectureStudentRepository lectureStudentRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @SpyBean
+    private NotificationService notificationService;
+
+    private Member teacher;
+    private Long lectureId;
+
+    @BeforeEach
+    void setUp() {
+        teacher = teacher("대기");
+        lectureId = createLecture(teacher, LocalTime.of(10, 0), LocalTime.of(12, 0));
+    }
+
+    @Test
+    void joinEnrollsDirectlyWhileSeatsRemain() {
+        List<Long> students = insertStudents(CAPACITY + 1);
+        for (int i = 0; i < CAPACITY; i++) {
+            assertThat(lectureStudentService.joinWaitlist(teacher, lectureId, students.get(i)).getStatus())
+                    .isEqualTo(EnrollmentResult.Status.ENROLLED);
+        }
+
+        EnrollmentResult result = lectureStudentService.joinWaitlist(teacher, lectureId, students.get(CAPACITY));
+        assertThat(result.getStatus()).isEqualTo(EnrollmentResult.Status.WAITLISTED);
+        assertThat(result.getMessage()).isEqualTo("대기 1번으로 등록되었습니다.");
+        assertThatThrownBy(() -> lectureStudentService.joinWaitlist(teacher, lectureId, students.get(CAPACITY)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("이미 대기 중인 학생입니다.");
+    }
+
+    @Test
+    void freedSeatGoesToFirstWaiterInOrder() {
+        List<Long> students = insertStudents(CAPACITY + 3);
+        fill(students);
+        List<Long> waiters = students.subList(CAPACITY, CAPACITY + 3);
+        for (int i = 0; i < waiters.size(); i++) {
+            assertThat(lectureStudentService.joinWaitlist(teacher, lectureId, waiters.get(i)).getMessage())
+                    .isEqualTo("대기 " + (i + 1) + "번으로 등록되었습니다.");
+        }
+        assertThat(waitlistRows()).containsExactlyElementsOf(waiters);
+
+        lectureStudentService.removeStudent(teacher, lectureId, students.get(0));
+
+        assertThat(enrolled()).contains(waiters.get(0)).doesNotContain(students.get(0)).hasSize(CAPACITY);
+        assertThat(lectureStudentService.getWaitlist(teacher, lectureId)).containsExactly(waiters.get(1), waiters.get(2));
+        assertThat(waitlistRows()).containsExactly(waiters.get(1), waiters.get(2));
+        assertThat(lectureSeatCounter.taken(lectureId)).isEqualTo(CAPACITY);
+    }
+
+    @Test
+    void directRegistrationCannotJumpTheQueue() {
+        List<Long> students = insertStudents(CAPACITY + 2);
+        fill(students);
+        Long waiter = students.get(CAPACITY);
+        Long latecomer = students.get(CAPACITY + 1);
+        lectureStudentService.joinWaitlist(teacher, lectureId, waiter);
+
+        // 수강생이 빠진 자리는 대기자가 먼저 가져가므로 새 등록은 여전히 마감
+        lectureStudentService.removeStudent(teacher, lectureId, students.get(0));
+        assertThatThrownBy(() -> lectureStudentService.registerStudent(teacher, lectureId, latecomer))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageStartingWith("정원이 마감");
+        assertThat(enrolled()).contains(waiter).doesNotContain(latecomer);
+    }
+
+    @Test
+    void leavingTheWaitlistDropsTheRow() {
+        List<Long> students = insertStudents(CAPACITY + 2);
+        fill(students);
+        lectureStudentService.joinWaitlist(teacher, lectureId, students.get(CAPACITY));
+        lectureStudentService.joinWaitlist(teacher, lectureId, students.get(CAPACITY + 1));
+
+        lectureStudentService.leaveWaitlist(teacher, lectureId, students.get(CAPACITY));
+
+        assertThat(waitlistRows()).containsExactly(students.get(CAPACITY + 1));
+        assertThat(lectureStudentService.getWaitlist(teacher, lectureId)).containsExactly(students.get(CAPACITY + 1));
+        assertThatThrownBy(() -> lectureStudentService.leaveWaitlist(teacher, lectureId, students.get(CAPACITY)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("대기 중인 학생이 아닙니다.");
+    }
+
+    @Test
+    void conflictingWaiterIsSkipped() {
+        List<Long> students = insertStudents(CAPACITY + 2);
+        fill(students);
+        Long busy = students.get(CAPACITY);
+        Long next = students.get(CAPACITY + 1);
+        lectureStudentService.joinWaitlist(teacher, lectureId, busy);
+        lectureStudentService.joinWaitlist(teacher, lectureId, next);
+
+        // 대기하는 동안 같은 시간대의 다른 강의에 등록
+        Member other = teacher("겹침");
+        Long otherLectureId = createLecture(other, LocalTime.of(11, 0), LocalTime.of(13, 0));
+        lectureStudentService.registerStudent(other, otherLectureId, busy);
+
+        lectureStudentService.removeStudent(teacher, lectureId, students.get(0));
+
+        assertThat(enrolled()).contains(next).doesNotContain(busy).hasSize(CAPACITY);
+        assertThat(lectureWaitlist.waiting(lectureId)).isEmpty();
+        assertThat(waitlistRows()).isEmpty();
+        assertThat(lectureSeatCounter.taken(lectureId)).isEqualTo(CAPACITY);
+    }
+
+    @Test
+    void promotedWaiterWithoutParentPhoneIsNotifiedDirectly() {
+        List<Long> students = insertStudents(CAPACITY);
+        fill(students);
+        // 중등부처럼 학부모 연락처 없이 본인 연락처만 있는 학생
+        String studentId = "WAIT" + SEQUENCE.get() + "-self";
+        jdbcTemplate.update("""
+                INSERT INTO students (student_id, name, birth_date, phone_number, grade, division,
+                                      attendance_count, average_score)
+                VALUES (?, '본인연락', DATE '2011-01-01', '010-9999-0000', 'MIDDLE_1', 'MIDDLE', 0, 0.0)
+                """, studentId);
+        Long waiter = jdbcTemplate.queryForObject("SELECT id FROM students WHERE student_id = ?", Long.class, studentId);
+        lectureStudentService.joinWaitlist(teacher, lectureId, waiter);
+
+        lectureStudentService.removeStudent(teacher, lectureId, students.get(0));
+
+        assertThat(enrolled()).contains(waiter);
+        verify(notificationService, timeout(5_000)).notifyStudent(eq("010-9999-0000"), startsWith("🎉 본인연락 학생이"));
+        verify(notificationService, never()).notifyParent(isNull(), anyString());
+    }
+
+    @Test
+    void concurrentRemovalsAndJoinsKeepOrderAndCapacity() throws Exception {
+        int waiting = 20;
+        List<Long> students = insertStudents(CAPACITY + waiting);
+        fill(students);
+        List<Long> waiters = students.subList(CAPACITY, CAPACITY + waiting);
+        List<Long> early = waiters.subList(0, CAPACITY);
+        List<Long> late = waiters.subList(CAPACITY, waiting);
+        for (Long waiter : early) {
+            lectureStudentService.joinWaitlist(teacher, lectureId, waiter);
+        }
+
+        // 수강생 전원 취소와 나머지 대기 등록이 동시에 일어나도 먼저 줄 선 학생부터 자리를 받음
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (Long student : students.subList(0, CAPACITY)) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                lectureStudentService.removeStudent(teacher, lectureId, student);
+                return null;
+            }));
+        }
+        for (Long waiter : late) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                lectureStudentService.joinWaitlist(teacher, lectureId, waiter);
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        assertThat(enrolled()).containsExactlyInAnyOrderElementsOf(early);
+        assertThat(lectureStudentRepository.countByLectureId(lectureId)).isEqualTo(CAPACITY);
+        assertThat(lectureSeatCounter.taken(lectureId)).isEqualTo(CAPACITY);
+        assertThat(lectureWaitlist.waiting(lectureId)).containsExactlyInAnyOrderElementsOf(late);
+        assertThat(waitlistRows()).containsExactlyElementsOf(lectureWaitlist.waiting(lectureId));
+    }
+
+    private void fill(List<Long> students) {
+        for (int i = 0; i < CAPACITY; i++) {
+            lectureStudentService.registerStudent(teacher, lectureId, students.get(i));
+        }
+    }
+
+    private List<Long> enrolled() {
+        return jdbcTemplate.queryForList("SELECT student_id FROM lecture_students WHERE lecture_id = ?",
+                Long.class, lectureId);
+    }
+
+    private List<Long> waitlistRows() {
+        return jdbcTemplate.queryForList("SELECT student_id FROM lecture_waitlist WHERE lecture_id = ? ORDER BY ticket",
+                Long.class, lectureId);
+    }
+
+    private Member teacher(String name) {
+        int n = SEQUENCE.incrementAndGet();
+        return memberRepository.save(Member.builder()
+                .name(name + n)
+                .email("waitlist-" + n + "@test.com")
+                .role(Role.TEACHER)
+                .build());
+    }
+
+    private Long createLecture(Member owner, LocalTime start, LocalTime end) {
+        return lectureService.createLecture(owner, new LectureRequest("대기반" + SEQUENCE.get(), LectureType.SPECIAL_LECTURE,
+                Subject.MATH, List.of(new LectureScheduleRequest(DayOfWeek.SUNDAY, start, end)), CAPACITY)).getId();
+    }
+
+    private List<Long> insertStudents(int count) {
+        String prefix = "WAIT" + SEQUENCE.get() + "-";
+        jdbcTemplate.batchUpdate("""
+                        INSERT INTO students (student_id, name, birth_date, parent_phone_number, grade, division,
+                                              attendance_count, average_score)
+                        VALUES (?, '대기신청', ?, '010-0000-0000', 'GRADE_5', 'ELEMENTARY', 0, 0.0)
+                        """,
+                IntStream.range(0, count).boxed().toList(), count, (ps, i) -> {
+                    ps.setString(1, prefix + i);
+                    ps.setDate(2, Date.valueOf(LocalDate.of(2014, 1, 1)));
+                });
+        return jdbcTemplate.queryForList("SELECT id FROM students WHERE student_id LIKE ? ORDER BY id",
+                Long.class, prefix + "%");
+    }
+}
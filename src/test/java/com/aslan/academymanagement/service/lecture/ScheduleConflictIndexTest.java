@@ -0,0 +1,124 @@
+package com.aslan.academymanagement.service.lecture;
+
+import com.aslan.academymanagement.domain.Member;
+import com.aslan.academymanagement.domain.Student;
+import com.aslan.academymanagement.domain.enums.Division;
+import com.aslan.academymanagement.domain.enums.Grade;
+import com.aslan.academymanagement.domain.enums.LectureType;
+import com.aslan.academymanagement.domain.enums.Role;
+import com.aslan.academymanagement.domain.enums.Subject;
+import com.aslan.academymanagement.dto.LectureRequest;
+import com.aslan.academymanagement.dto.LectureScheduleRequest;
+import com.aslan.academymanagement.dto.StudentRequest;
+import com.aslan.academymanagement.repository.LectureRepository;
+import com.aslan.academymanagement.repository.MemberRepository;
+import com.aslan.academymanagement.service.student.StudentManagementService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class ScheduleConflictIndexTest {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private LectureService lectureService;
+
+    @Autowired
+    private LectureStudentService lectureStudentService;
+
+    @Autowired
+    private StudentManagementService studentManagementService;
+
+    @Autowired
+    private LectureRepository lectureRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private Member teacher;
+
+    @BeforeEach
+    void setUp() {
+        int n = SEQUENCE.incrementAndGet();
+        teacher = memberRepository.save(Member.builder()
+                .name("충돌" + n)
+                .email("conflict-" + n + "@test.com")
+                .role(Role.TEACHER)
+                .build());
+    }
+
+    @Test
+    void rejectsOverlappingLectureForSameTeacher() {
+        create(teacher, "수학", DayOfWeek.MONDAY, 16, 0, 17, 0);
+
+        assertThatThrownBy(() -> create(teacher, "영어", DayOfWeek.MONDAY, 16, 30, 17, 30))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("수학");
+        // 거절된 강의는 저장되지 않고, 바로 이어지는 시간이나 다른 강사는 허용
+        assertThat(lectureRepository.findAllByTeacher(teacher)).hasSize(1);
+        create(teacher, "영어", DayOfWeek.MONDAY, 17, 0, 18, 0);
+        create(otherTeacher(), "국어", DayOfWeek.MONDAY, 16, 0, 17, 0);
+    }
+
+    @Test
+    void rejectsInvalidOrSelfOverlappingSchedules() {
+        assertThatThrownBy(() -> create(teacher, "거꾸로", DayOfWeek.TUESDAY, 17, 0, 16, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> lectureService.createLecture(teacher, new LectureRequest("중복", LectureType.ACADEMY,
+                Subject.MATH, List.of(
+                        new LectureScheduleRequest(DayOfWeek.TUESDAY, LocalTime.of(16, 0), LocalTime.of(17, 0)),
+                        new LectureScheduleRequest(DayOfWeek.TUESDAY, LocalTime.of(16, 30), LocalTime.of(18, 0))))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(lectureRepository.findAllByTeacher(teacher)).isEmpty();
+    }
+
+    @Test
+    void rejectsOverlappingEnrollmentUntilStudentIsRemoved() {
+        Long math = create(teacher, "수학", DayOfWeek.WEDNESDAY, 16, 0, 17, 0);
+        Member other = otherTeacher();
+        Long english = create(other, "영어", DayOfWeek.WEDNESDAY, 16, 30, 17, 30);
+        Student student = studentManagementService.registerStudent(StudentRequest.builder()
+                .studentId("ES" + (760 + SEQUENCE.get()))
+                .name("시간표")
+                .birthDate(LocalDate.of(2016, 1, 1))
+                .parentPhoneNumber("010-0000-0000")
+                .grade(Grade.GRADE_2)
+                .division(Division.ELEMENTARY)
+                .build());
+
+        lectureStudentService.registerStudent(teacher, math, student.getId());
+        assertThatThrownBy(() -> lectureStudentService.registerStudent(other, english, student.getId()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("수학");
+
+        lectureStudentService.removeStudent(teacher, math, student.getId());
+        lectureStudentService.registerStudent(other, english, student.getId());
+    }
+
+    private Member otherTeacher() {
+        int n = SEQUENCE.incrementAndGet();
+        return memberRepository.save(Member.builder()
+                .name("충돌" + n)
+                .email("conflict-" + n + "@test.com")
+                .role(Role.TEACHER)
+                .build());
+    }
+
+    private Long create(Member owner, String title, DayOfWeek day, int startHour, int startMinute, int endHour, int endMinute) {
+        return lectureService.createLecture(owner, new LectureRequest(title, LectureType.ACADEMY, Subject.MATH, List.of(
+                new LectureScheduleRequest(day, LocalTime.of(startHour, startMinute), LocalTime.of(endHour, endMinute)))))
+                .getId();
+    }
+}
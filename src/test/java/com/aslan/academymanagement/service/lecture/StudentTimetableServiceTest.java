@@ -0,0 +1,131 @@
+package com.aslan.academymanagement.service.lecture;
+
+import com.aslan.academymanagement.domain.Member;
+import com.aslan.academymanagement.domain.Student;
+import com.aslan.academymanagement.domain.enums.Division;
+import com.aslan.academymanagement.domain.enums.Grade;
+import com.aslan.academymanagement.domain.enums.LectureType;
+import com.aslan.academymanagement.domain.enums.Role;
+import com.aslan.academymanagement.domain.enums.Subject;
+import com.aslan.academymanagement.dto.LectureRequest;
+import com.aslan.academymanagement.dto.LectureScheduleRequest;
+import com.aslan.academymanagement.dto.StudentRequest;
+import com.aslan.academymanagement.repository.MemberRepository;
+import com.aslan.academymanagement.service.student.StudentManagementService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class StudentTimetableServiceTest {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private LectureService lectureService;
+
+    @Autowired
+    private LectureStudentService lectureStudentService;
+
+    @Autowired
+    private StudentManagementService studentManagementService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private Member teacher;
+    private Student student;
+
+    @BeforeEach
+    void setUp() {
+        int n = SEQUENCE.incrementAndGet();
+        teacher = memberRepository.save(Member.builder()
+                .name("시간표강사" + n)
+                .email("timetable-" + n + "@test.com")
+                .role(Role.TEACHER)
+                .build());
+        student = studentManagementService.registerStudent(StudentRequest.builder()
+                .studentId("ES" + (780 + n))
+                .name("시간표" + n)
+                .birthDate(LocalDate.of(2016, 1, 1))
+                .parentPhoneNumber("010-0000-0000")
+                .grade(Grade.GRADE_2)
+                .division(Division.ELEMENTARY)
+                .build());
+    }
+
+    @Test
+    void returnsWeekGridFromOneQueryAndServesRepeatsFromCache() throws Exception {
+        Long math = create("수학", new LectureScheduleRequest(DayOfWeek.MONDAY, LocalTime.of(18, 0), LocalTime.of(19, 0)),
+                new LectureScheduleRequest(DayOfWeek.WEDNESDAY, LocalTime.of(16, 0), LocalTime.of(17, 0)));
+        Long english = create("영어", new LectureScheduleRequest(DayOfWeek.MONDAY, LocalTime.of(15, 0), LocalTime.of(16, 0)));
+        lectureStudentService.registerStudent(teacher, math, student.getId());
+        lectureStudentService.registerStudent(teacher, english, student.getId());
+        String url = "/api/v1/students/" + student.getStudentId() + "/timetable";
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        mockMvc.perform(get(url).with(user(teacher.getEmail())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.days.length()").value(7))
+                .andExpect(jsonPath("$.days[0].dayOfWeek").value("MONDAY"))
+                .andExpect(jsonPath("$.days[0].lectures[*].title").value(contains("영어", "수학")))
+                .andExpect(jsonPath("$.days[0].lectures[0].teacherName").value(teacher.getName()))
+                .andExpect(jsonPath("$.days[2].lectures.length()").value(1))
+                .andExpect(jsonPath("$.days[1].lectures.length()").value(0));
+        // 학생 조회 1회 + 시간표 조인 쿼리 1회 (강의마다 따로 조회하지 않음)
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+        statistics.clear();
+        mockMvc.perform(get(url).with(user(teacher.getEmail()))).andExpect(status().isOk());
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void enrollmentChangesRefreshTheTimetable() throws Exception {
+        Long math = create("수학", new LectureScheduleRequest(DayOfWeek.FRIDAY, LocalTime.of(18, 0), LocalTime.of(19, 0)));
+        String url = "/api/v1/students/" + student.getStudentId() + "/timetable";
+        mockMvc.perform(get(url).with(user(teacher.getEmail())))
+                .andExpect(jsonPath("$.days[4].lectures.length()").value(0));
+
+        lectureStudentService.registerStudent(teacher, math, student.getId());
+        mockMvc.perform(get(url).with(user(teacher.getEmail())))
+                .andExpect(jsonPath("$.days[4].lectures.length()").value(1));
+
+        lectureStudentService.removeStudent(teacher, math, student.getId());
+        mockMvc.perform(get(url).with(user(teacher.getEmail())))
+                .andExpect(jsonPath("$.days[4].lectures.length()").value(0));
+    }
+
+    private Long create(String title, LectureScheduleRequest... schedules) {
+        return lectureService.createLecture(teacher,
+                new LectureRequest(title, LectureType.ACADEMY, Subject.MATH, List.of(schedules))).getId();
+    }
+}
@@ -0,0 +1,49 @@
+package com.aslan.academymanagement.service.ranking;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RankedSetTest {
+
+    @Test
+    void matchesSortedListUnderRandomUpdates() {
+        RankedSet rankedSet = new RankedSet();
+        Map<Long, Double> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 5_000; i++) {
+            long id = random.nextInt(300);
+            if (random.nextInt(5) == 0) {
+                rankedSet.remove(id);
+                expected.remove(id);
+            } else {
+                double value = random.nextInt(100);
+                rankedSet.put(id, value);
+                expected.put(id, value);
+            }
+        }
+
+        List<Long> sorted = expected.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .map(Map.Entry::getKey)
+                .toList();
+
+        assertThat(rankedSet.size()).isEqualTo(sorted.size());
+        assertThat(rankedSet.range(0, sorted.size())).isEqualTo(sorted);
+        assertThat(rankedSet.range(10, 20)).isEqualTo(sorted.subList(10, 30));
+        for (int i = 0; i < sorted.size(); i++) {
+            assertThat(rankedSet.rank(sorted.get(i))).isEqualTo(i + 1);
+        }
+        assertThat(rankedSet.countAtLeast(50))
+                .isEqualTo((int) expected.values().stream().filter(v -> v >= 50).count());
+        assertThat(rankedSet.rank(-1L)).isEqualTo(-1);
+    }
+}
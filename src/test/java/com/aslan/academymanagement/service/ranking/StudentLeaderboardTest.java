@@ -0,0 +1,103 @@
+package com.aslan.academymanagement.service.ranking;
+
+import com.aslan.academymanagement.domain.Student;
+import com.aslan.academymanagement.domain.enums.Division;
+import com.aslan.academymanagement.domain.enums.Grade;
+import com.aslan.academymanagement.dto.StudentRankResponse;
+import com.aslan.academymanagement.event.StudentUpdatedEvent;
+import com.aslan.academymanagement.repository.StudentRepository;
+import com.aslan.academymanagement.service.student.StudentManagementService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class StudentLeaderboardTest {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    @Autowired
+    private StudentLeaderboard studentLeaderboard;
+
+    @Autowired
+    private StudentManagementService studentManagementService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    private Student student;
+
+    @BeforeEach
+    void setUp() {
+        student = studentRepository.save(Student.builder()
+                .studentId("RANK" + SEQUENCE.incrementAndGet())
+                .name("랭킹")
+                .birthDate(LocalDate.of(2015, 1, 1))
+                .parentPhoneNumber("010-0000-0000")
+                .grade(Grade.GRADE_3)
+                .division(Division.ELEMENTARY)
+                .attendanceCount(0)
+                .averageScore(0.0)
+                .build());
+    }
+
+    @Test
+    void committedWritesShowUpInTopAndRank() {
+        studentManagementService.updateScore(student.getStudentId(), 100.0);
+        studentManagementService.checkAttendance(student.getStudentId());
+
+        assertThat(studentLeaderboard.topByScore(Division.ELEMENTARY, 100.0, 0, 1000))
+                .extracting(Student::getStudentId)
+                .contains(student.getStudentId());
+
+        StudentRankResponse rank = studentLeaderboard.getRank(student.getStudentId()).orElseThrow();
+        assertThat(rank.getAverageScore()).isEqualTo(100.0);
+        assertThat(rank.getAttendanceCount()).isEqualTo(1);
+        assertThat(rank.getScoreRank()).isEqualTo(
+                studentLeaderboard.topByScore(Division.ELEMENTARY, 100.0, 0, 1000).stream()
+                        .map(Student::getStudentId).toList()
+                        .indexOf(student.getStudentId()) + 1);
+    }
+
+    @Test
+    void staleEventArrivingLateIsIgnored() {
+        studentManagementService.updateScore(student.getStudentId(), 100.0);
+        long version = studentRepository.findByStudentId(student.getStudentId()).orElseThrow().getVersion();
+
+        // 먼저 커밋된 트랜잭션의 이벤트가 뒤늦게 도착한 경우
+        studentLeaderboard.onStudentUpdated(event(0, 0.0, version - 1));
+
+        StudentRankResponse rank = studentLeaderboard.getRank(student.getStudentId()).orElseThrow();
+        assertThat(rank.getAverageScore()).isEqualTo(100.0);
+        assertThat(studentLeaderboard.topByScore(Division.ELEMENTARY, 100.0, 0, 1000))
+                .extracting(Student::getStudentId)
+                .contains(student.getStudentId());
+
+        // 더 새로운 이벤트는 그대로 반영
+        studentLeaderboard.onStudentUpdated(event(3, 50.0, version + 1));
+        rank = studentLeaderboard.getRank(student.getStudentId()).orElseThrow();
+        assertThat(rank.getAverageScore()).isEqualTo(50.0);
+        assertThat(rank.getAttendanceCount()).isEqualTo(3);
+    }
+
+    @Test
+    void counterUpdatesBumpTheVersion() {
+        long before = studentRepository.findByStudentId(student.getStudentId()).orElseThrow().getVersion();
+        studentManagementService.checkAttendance(student.getStudentId());
+        studentManagementService.updateScore(student.getStudentId(), 90.0);
+
+        assertThat(studentRepository.findByStudentId(student.getStudentId()).orElseThrow().getVersion())
+                .isEqualTo(before + 2);
+    }
+
+    private StudentUpdatedEvent event(int attendanceCount, double averageScore, long version) {
+        return new StudentUpdatedEvent(student.getId(), student.getStudentId(), student.getName(),
+                Division.ELEMENTARY, attendanceCount, averageScore, version);
+    }
+}
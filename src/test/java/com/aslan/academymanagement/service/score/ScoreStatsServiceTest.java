@@ -0,0 +1,73 @@
+package com.aslan.academymanagement.service.score;
+
+import com.aslan.academymanagement.domain.Student;
+import com.aslan.academymanagement.domain.enums.Division;
+import com.aslan.academymanagement.domain.enums.Grade;
+import com.aslan.academymanagement.dto.ScoreStatsResponse;
+import com.aslan.academymanagement.repository.StudentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@SpringBootTest
+class ScoreStatsServiceTest {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger(800);
+
+    @Autowired
+    private ScoreStatsService scoreStatsService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    private String studentId;
+
+    @BeforeEach
+    void setUp() {
+        studentId = "MS" + SEQUENCE.incrementAndGet();
+        studentRepository.save(Student.builder()
+                .studentId(studentId)
+                .name("성적")
+                .birthDate(LocalDate.of(2011, 1, 1))
+                .phoneNumber("010-0000-0000")
+                .grade(Grade.MIDDLE_1)
+                .division(Division.MIDDLE)
+                .attendanceCount(0)
+                .averageScore(0.0)
+                .build());
+    }
+
+    @Test
+    void recordUpdatesAggregatesIncrementally() {
+        scoreStatsService.record(studentId, 70.0);
+        scoreStatsService.record(studentId, 80.0);
+        scoreStatsService.record(studentId, 90.0);
+
+        ScoreStatsResponse stats = scoreStatsService.getStats(studentId);
+        assertThat(stats.getCount()).isEqualTo(3);
+        assertThat(stats.getAverage()).isEqualTo(80.0);
+        assertThat(stats.getStandardDeviation()).isCloseTo(8.16, within(0.01));
+        assertThat(stats.getMinScore()).isEqualTo(70.0);
+        assertThat(stats.getMaxScore()).isEqualTo(90.0);
+        assertThat(stats.getTrend()).isEqualTo(10.0);
+        assertThat(studentRepository.findByStudentId(studentId).orElseThrow().getAverageScore()).isEqualTo(80.0);
+    }
+
+    @Test
+    void rebuildReplaysHistoryIntoSameAggregates() {
+        scoreStatsService.record(studentId, 95.0);
+        scoreStatsService.record(studentId, 85.0);
+        ScoreStatsResponse incremental = scoreStatsService.getStats(studentId);
+
+        assertThat(scoreStatsService.rebuild(studentId)).isEqualTo(incremental);
+        assertThat(scoreStatsService.rebuildAll()).isGreaterThanOrEqualTo(1);
+        assertThat(scoreStatsService.getStats(studentId)).isEqualTo(incremental);
+    }
+}
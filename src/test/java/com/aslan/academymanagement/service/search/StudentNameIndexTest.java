@@ -0,0 +1,119 @@
+package com.aslan.academymanagement.service.search;
+
+import com.aslan.academymanagement.domain.enums.Division;
+import com.aslan.academymanagement.dto.StudentSuggestion;
+import com.aslan.academymanagement.event.StudentUpdatedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StudentNameIndexTest {
+
+    private StudentNameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new StudentNameIndex(null);
+        index.put(student(1L, "ES001", "김민수"));
+        index.put(student(2L, "ES002", "김민지"));
+        index.put(student(3L, "ES003", "이민수"));
+        index.put(student(4L, "ES004", "Alice Kim"));
+    }
+
+    @Test
+    void searchBySyllableNgram() {
+        assertThat(names(index.search("민수", 10))).containsExactly("김민수", "이민수");
+        assertThat(names(index.search("김", 10))).containsExactly("김민수", "김민지");
+    }
+
+    @Test
+    void searchByChosungAndMixedQuery() {
+        assertThat(names(index.search("ㄱㅁㅅ", 10))).containsExactly("김민수");
+        assertThat(names(index.search("ㅁㅅ", 10))).containsExactly("김민수", "이민수");
+        assertThat(names(index.search("김ㅁ", 10))).containsExactly("김민수", "김민지");
+    }
+
+    @Test
+    void prefixMatchesComeFirstAndLatinIsCaseInsensitive() {
+        assertThat(names(index.search("민", 10))).containsExactly("김민수", "김민지", "이민수");
+        assertThat(names(index.search("alice", 10))).containsExactly("Alice Kim");
+        assertThat(names(index.search("ekim", 10))).containsExactly("Alice Kim");
+    }
+
+    @Test
+    void mixedQueryIgnoresNamesSharingOnlyTheSyllablePrefix() {
+        // 김으로 시작하지만 둘째 글자 초성이 ㅁ이 아닌 이름이 많아도 결과는 교집합 후보에서만 나옴
+        for (long id = 100; id < 5_100; id++) {
+            index.put(student(id, "ES" + id, "김하" + (char) ('가' + id % 500)));
+        }
+        index.put(student(10L, "ES010", "박김마"));
+
+        assertThat(names(index.search("김ㅁ", 10))).containsExactly("김민수", "김민지", "박김마");
+        assertThat(names(index.search("김ㅁ", 1))).containsExactly("김민수");
+        assertThat(names(index.search("ㄱ민", 10))).containsExactly("김민수", "김민지");
+        assertThat(names(index.search("김ㅎ", 3))).hasSize(3).allMatch(name -> name.startsWith("김하"));
+        assertThat(index.search("김ㅈ", 10)).isEmpty();
+    }
+
+    @Test
+    void renameReplacesOldKeys() {
+        index.put(student(1L, "ES001", "박서준"));
+
+        assertThat(names(index.search("ㄱㅁㅅ", 10))).isEmpty();
+        assertThat(names(index.search("ㅂㅅㅈ", 10))).containsExactly("박서준");
+    }
+
+    @Test
+    void concurrentRenamesLeaveOnlyTheNewestName() throws Exception {
+        int threads = 8;
+        int renames = 2_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int t = 0; t < threads; t++) {
+                int offset = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int version = offset; version < renames; version += threads) {
+                        index.put(student(1L, "ES001", "하나" + (char) ('가' + version), version));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // 이전 이름의 항목이 정렬 집합/posting list에 남지 않고, 늦게 도착한 낮은 version은 무시됨
+        String newest = "하나" + (char) ('가' + renames - 1);
+        assertThat(names(index.search("하나", 10))).containsExactly(newest);
+        assertThat(names(index.search("ㅎㄴ", 10))).containsExactly(newest);
+        assertThat(names(index.search("나" + (char) ('가' + renames - 2), 10))).isEmpty();
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    private static StudentUpdatedEvent student(Long id, String studentId, String name) {
+        return student(id, studentId, name, 0L);
+    }
+
+    private static StudentUpdatedEvent student(Long id, String studentId, String name, long version) {
+        return new StudentUpdatedEvent(id, studentId, name, Division.ELEMENTARY, 0, 0.0, version);
+    }
+
+    private static List<String> names(List<StudentSuggestion> suggestions) {
+        return suggestions.stream().map(StudentSuggestion::name).toList();
+    }
+}
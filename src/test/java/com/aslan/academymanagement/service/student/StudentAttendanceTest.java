@@ -0,0 +1,102 @@
+package com.aslan.academymanagement.service.student;
+
+import com.aslan.academymanagement.domain.Member;
+import com.aslan.academymanagement.domain.Student;
+import com.aslan.academymanagement.domain.enums.Division;
+import com.aslan.academymanagement.domain.enums.Grade;
+import com.aslan.academymanagement.domain.enums.LectureType;
+import com.aslan.academymanagement.domain.enums.Role;
+import com.aslan.academymanagement.domain.enums.Subject;
+import com.aslan.academymanagement.dto.AttendanceResult;
+import com.aslan.academymanagement.dto.LectureRequest;
+import com.aslan.academymanagement.dto.LectureScheduleRequest;
+import com.aslan.academymanagement.repository.MemberRepository;
+import com.aslan.academymanagement.repository.StudentRepository;
+import com.aslan.academymanagement.service.lecture.LectureService;
+import com.aslan.academymanagement.service.lecture.LectureStudentService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class StudentAttendanceTest {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger(960);
+
+    @Autowired
+    private StudentManagementService studentManagementService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private LectureService lectureService;
+
+    @Autowired
+    private LectureStudentService lectureStudentService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    void studentsOfOtherDivisionsAreNotCheckedIn() {
+        // 테스트는 초등부 Profile로 실행 → 같은 강의의 중등부 학생은 출석 처리하지 않음
+        Member teacher = newTeacher();
+        Long lectureId = lectureService.createLecture(teacher, new LectureRequest("부서 확인", LectureType.ACADEMY,
+                Subject.MATH, List.of(new LectureScheduleRequest(DayOfWeek.SUNDAY, LocalTime.of(9, 0), LocalTime.of(10, 0)))))
+                .getId();
+        Student elementary = newStudent("ES", Division.ELEMENTARY);
+        Student middle = newStudent("MS", Division.MIDDLE);
+        lectureStudentService.registerStudent(teacher, lectureId, elementary.getId());
+        lectureStudentService.registerStudent(teacher, lectureId, middle.getId());
+
+        List<AttendanceResult> results = studentManagementService.checkAttendances(lectureId,
+                List.of(elementary.getStudentId(), middle.getStudentId()));
+        assertThat(results).extracting(AttendanceResult::getStatus)
+                .containsExactly(AttendanceResult.Status.ATTENDED, AttendanceResult.Status.NOT_ENROLLED);
+
+        // 단건 출석도 같은 기준
+        assertThatThrownBy(() -> studentManagementService.checkAttendance(middle.getStudentId()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("학생을 찾을 수 없습니다: " + middle.getStudentId());
+
+        assertThat(attendanceCount(elementary)).isEqualTo(1);
+        assertThat(attendanceCount(middle)).isZero();
+    }
+
+    private int attendanceCount(Student student) {
+        return studentRepository.findByStudentId(student.getStudentId()).orElseThrow().getAttendanceCount();
+    }
+
+    private Student newStudent(String prefix, Division division) {
+        return studentRepository.save(Student.builder()
+                .studentId(prefix + SEQUENCE.incrementAndGet())
+                .name("부서")
+                .birthDate(LocalDate.of(2012, 1, 1))
+                .phoneNumber("010-0000-0000")
+                .parentPhoneNumber("010-0000-0000")
+                .grade(division == Division.ELEMENTARY ? Grade.GRADE_5 : Grade.MIDDLE_2)
+                .division(division)
+                .attendanceCount(0)
+                .averageScore(0.0)
+                .build());
+    }
+
+    private Member newTeacher() {
+        int n = SEQUENCE.incrementAndGet();
+        return memberRepository.save(Member.builder()
+                .name("부서" + n)
+                .email("division-" + n + "@test.com")
+                .role(Role.TEACHER)
+                .build());
+    }
+}
@@ -0,0 +1,78 @@
+package com.aslan.academymanagement.service.student;
+
+import com.aslan.academymanagement.domain.Student;
+import com.aslan.academymanagement.domain.enums.Division;
+import com.aslan.academymanagement.domain.enums.Grade;
+import com.aslan.academymanagement.dto.StudentRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class StudentCacheTest {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger(740);
+
+    @Autowired
+    private StudentManagementService studentManagementService;
+
+    @Autowired
+    private StudentCache studentCache;
+
+    @Test
+    void repeatedReadsAreServedFromCache() {
+        String studentId = register();
+        long hits = hitCount();
+
+        studentManagementService.getStudent(studentId);
+        studentManagementService.getStudent(studentId);
+        studentManagementService.getStudent(studentId);
+
+        assertThat(hitCount() - hits).isEqualTo(2);
+    }
+
+    @Test
+    void writesInvalidateCachedStudent() {
+        String studentId = register();
+        assertThat(studentManagementService.getStudent(studentId).getAttendanceCount()).isZero();
+
+        studentManagementService.checkAttendance(studentId);
+        assertThat(studentManagementService.getStudent(studentId).getAttendanceCount()).isEqualTo(1);
+
+        studentManagementService.updateScore(studentId, 70.0);
+        assertThat(studentManagementService.getStudent(studentId).getAverageScore()).isEqualTo(70.0);
+
+        StudentRequest rename = request(studentId);
+        rename.setName("바뀐이름");
+        studentManagementService.updateStudent(studentId, rename);
+        Student student = studentManagementService.getStudent(studentId);
+        assertThat(student.getName()).isEqualTo("바뀐이름");
+        assertThat(student.getAttendanceCount()).isEqualTo(1);
+    }
+
+    private long hitCount() {
+        return (long) studentCache.getStats().get("hitCount");
+    }
+
+    private String register() {
+        String studentId = "ES" + SEQUENCE.incrementAndGet();
+        studentManagementService.registerStudent(request(studentId));
+        return studentId;
+    }
+
+    private static StudentRequest request(String studentId) {
+        return StudentRequest.builder()
+                .studentId(studentId)
+                .name("캐시")
+                .birthDate(LocalDate.of(2016, 1, 1))
+                .parentPhoneNumber("010-0000-0000")
+                .grade(Grade.GRADE_2)
+                .division(Division.ELEMENTARY)
+                .build();
+    }
+}
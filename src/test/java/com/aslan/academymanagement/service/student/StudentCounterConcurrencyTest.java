@@ -0,0 +1,146 @@
+package com.aslan.academymanagement.service.student;
+
+import com.aslan.academymanagement.domain.Student;
+import com.aslan.academymanagement.domain.StudentScoreStats;
+import com.aslan.academymanagement.domain.enums.Division;
+import com.aslan.academymanagement.domain.enums.Grade;
+import com.aslan.academymanagement.dto.StudentRequest;
+import com.aslan.academymanagement.repository.StudentRepository;
+import com.aslan.academymanagement.repository.StudentScoreStatsRepository;
+import com.aslan.academymanagement.service.attendance.AttendanceLogService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@SpringBootTest
+class StudentCounterConcurrencyTest {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger(900);
+    private static final int THREADS = 16;
+    private static final int CALLS_PER_THREAD = 25;
+
+    @Autowired
+    private StudentManagementService studentManagementService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private StudentScoreStatsRepository studentScoreStatsRepository;
+
+    @Autowired
+    private AttendanceLogService attendanceLogService;
+
+    private String studentId;
+
+    @BeforeEach
+    void setUp() {
+        studentId = "ES" + SEQUENCE.incrementAndGet();
+        studentRepository.save(Student.builder()
+                .studentId(studentId)
+                .name("동시성")
+                .birthDate(LocalDate.of(2015, 1, 1))
+                .parentPhoneNumber("010-0000-0000")
+                .grade(Grade.GRADE_3)
+                .division(Division.ELEMENTARY)
+                .attendanceCount(0)
+                .averageScore(0.0)
+                .build());
+    }
+
+    @Test
+    void concurrentCheckAttendanceDoesNotLoseIncrements() throws Exception {
+        runConcurrently(call -> studentManagementService.checkAttendance(studentId));
+
+        Student student = studentRepository.findByStudentId(studentId).orElseThrow();
+        assertThat(student.getAttendanceCount()).isEqualTo(THREADS * CALLS_PER_THREAD);
+
+        // 일별 집계도 같은 트랜잭션에서 누락 없이 증가해야 함
+        LocalDate today = LocalDate.now();
+        assertThat(attendanceLogService.getSummary(studentId, today, today).getCheckInCount())
+                .isEqualTo(THREADS * CALLS_PER_THREAD);
+    }
+
+    @Test
+    void concurrentUpdateScoreAppliesEveryScore() throws Exception {
+        // 호출마다 다른 점수(0, 0.25, ..., 99.75)를 넣어 하나라도 유실되면 건수/합계가 어긋나게 함
+        int calls = THREADS * CALLS_PER_THREAD;
+        runConcurrently(call -> studentManagementService.updateScore(studentId, call / 4.0));
+
+        StudentScoreStats stats = studentScoreStatsRepository.findByStudentId(studentId).orElseThrow();
+        double expectedSum = (calls - 1) * calls / 8.0;
+        assertThat(stats.getScoreCount()).isEqualTo(calls);
+        assertThat(stats.getScoreSum()).isEqualTo(expectedSum);
+        assertThat(stats.getMinScore()).isEqualTo(0.0);
+        assertThat(stats.getMaxScore()).isEqualTo((calls - 1) / 4.0);
+
+        Student student = studentRepository.findByStudentId(studentId).orElseThrow();
+        assertThat(student.getAverageScore()).isCloseTo(expectedSum / calls, within(0.01));
+    }
+
+    @Test
+    void updateStudentRacingCheckInsNeitherFailsNorLosesCounts() throws Exception {
+        // 짝수 호출은 출석, 홀수 호출은 정보 수정: 수정이 version 충돌로 실패하거나 옛 출석 횟수로 덮어쓰면 안 됨
+        runConcurrently(call -> {
+            if (call % 2 == 0) {
+                studentManagementService.checkAttendance(studentId);
+            } else {
+                studentManagementService.updateStudent(studentId, updateRequest("수정" + call));
+            }
+        });
+
+        Student student = studentRepository.findByStudentId(studentId).orElseThrow();
+        assertThat(student.getAttendanceCount()).isEqualTo(THREADS * CALLS_PER_THREAD / 2);
+        assertThat(student.getName()).startsWith("수정");
+    }
+
+    private StudentRequest updateRequest(String name) {
+        return StudentRequest.builder()
+                .studentId(studentId)
+                .name(name)
+                .birthDate(LocalDate.of(2015, 1, 1))
+                .parentPhoneNumber("010-0000-0000")
+                .grade(Grade.GRADE_3)
+                .division(Division.ELEMENTARY)
+                .build();
+    }
+
+    // 스레드마다 CALLS_PER_THREAD번 호출, 인자는 전체에서 겹치지 않는 호출 번호 (0 ~ THREADS * CALLS_PER_THREAD - 1)
+    private void runConcurrently(IntConsumer task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                int first = i * CALLS_PER_THREAD;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < CALLS_PER_THREAD; j++) {
+                        task.accept(first + j);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.aslan.academymanagement.service.student;
+
+import com.aslan.academymanagement.repository.StudentRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StudentIdFilterTest {
+
+    @Test
+    void answersMaybeUntilWarmedUp() {
+        StudentIdFilter filter = newFilter(Stream.empty());
+
+        assertThat(filter.mightContain("ES001")).isTrue();
+
+        filter.warmUp();
+        assertThat(filter.mightContain("ES001")).isFalse();
+    }
+
+    @Test
+    void neverReportsKnownIdsAsNew() {
+        StudentIdFilter filter = newFilter(IntStream.range(0, 10_000).mapToObj(i -> "ES" + i));
+        filter.warmUp();
+        filter.put("MS123");
+
+        assertThat(IntStream.range(0, 10_000).allMatch(i -> filter.mightContain("ES" + i))).isTrue();
+        assertThat(filter.mightContain("MS123")).isTrue();
+    }
+
+    @Test
+    void keepsFalsePositiveRateNearTarget() {
+        StudentIdFilter filter = newFilter(IntStream.range(0, 10_000).mapToObj(i -> "ES" + i));
+        filter.warmUp();
+
+        long falsePositives = IntStream.range(0, 10_000)
+                .filter(i -> filter.mightContain("MS" + i))
+                .count();
+
+        // 목표 1% → 여유를 두고 3% 미만
+        assertThat(falsePositives).isLessThan(300);
+    }
+
+    private static StudentIdFilter newFilter(Stream<String> studentIds) {
+        StudentRepository repository = mock(StudentRepository.class);
+        when(repository.streamStudentIds()).thenReturn(studentIds);
+        return new StudentIdFilter(repository, 10_000, 0.01);
+    }
+}
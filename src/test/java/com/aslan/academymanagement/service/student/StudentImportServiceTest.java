@@ -0,0 +1,126 @@
+package com.aslan.academymanagement.service.student;
+
+import com.aslan.academymanagement.dto.StudentImportResponse;
+import com.aslan.academymanagement.dto.StudentImportResponse.RowError;
+import com.aslan.academymanagement.repository.StudentRepository;
+import com.aslan.academymanagement.service.search.StudentNameIndex;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class StudentImportServiceTest {
+
+    @Autowired
+    private StudentImportService studentImportService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private StudentNameIndex studentNameIndex;
+
+    @Test
+    void importsCsvAndReportsInvalidRows() throws IOException {
+        String csv = """
+                studentId,name,birthDate,phoneNumber,parentPhoneNumber,grade,division,specialNotes
+                ES701,"가져오기, 첫째",2016-03-01,,010-1111-1111,GRADE_2,ELEMENTARY,
+                ES702,가져오기둘째,2016-04-01,,,GRADE_2,ELEMENTARY,
+                ES701,가져오기중복,2016-05-01,,010-2222-2222,GRADE_2,ELEMENTARY,
+
+                ES703,가져오기셋째,not-a-date,,010-3333-3333,GRADE_2,ELEMENTARY,
+                XX704,가져오기넷째,2016-06-01,,010-4444-4444,GRADE_2,ELEMENTARY,
+                ES705,가져오기다섯째,2016-07-01,,010-5555-5555,GRADE_3,ELEMENTARY,
+                """;
+
+        StudentImportResponse response = importStudents(csv, StudentImportService.Format.CSV);
+
+        assertThat(response.getTotalRows()).isEqualTo(6);
+        assertThat(response.getImported()).isEqualTo(2);
+        assertThat(response.getFailed()).isEqualTo(4);
+        assertThat(response.getErrors()).extracting(RowError::getLine).containsExactlyInAnyOrder(3L, 4L, 6L, 7L);
+        assertThat(response.getErrors())
+                .filteredOn(error -> error.getLine() == 3)
+                .extracting(RowError::getMessage)
+                .containsExactly("초등부는 학부모 연락처가 필수입니다!");
+        assertThat(response.getErrors())
+                .filteredOn(error -> error.getLine() == 4)
+                .extracting(RowError::getMessage)
+                .containsExactly("이미 존재하는 학생 번호입니다: ES701");
+
+        assertThat(studentRepository.findByStudentId("ES701")).get()
+                .satisfies(student -> {
+                    assertThat(student.getName()).isEqualTo("가져오기, 첫째");
+                    assertThat(student.getAttendanceCount()).isZero();
+                    assertThat(student.getCreatedAt()).isNotNull();
+                });
+        assertThat(studentRepository.existsByStudentId("ES705")).isTrue();
+        // 커밋 후 이벤트로 검색 색인에도 반영됨
+        assertThat(studentNameIndex.search("가져오기다섯째", 10)).hasSize(1);
+    }
+
+    @Test
+    void importsJsonLinesAndRejectsExistingStudents() throws IOException {
+        String jsonl = """
+                {"studentId":"ES711","name":"제이슨","birthDate":"2015-01-01","parentPhoneNumber":"010-0000-0001","grade":"GRADE_3","division":"ELEMENTARY"}
+                {"studentId":"ES712","name":"라인","birthDate":"2015-01-01","parentPhoneNumber":"010-0000-0002","grade":"GRADE_9","division":"ELEMENTARY"}
+                {broken
+                """;
+        StudentImportResponse first = importStudents(jsonl, StudentImportService.Format.JSONL);
+
+        assertThat(first.getImported()).isEqualTo(1);
+        assertThat(first.getErrors()).extracting(RowError::getMessage)
+                .containsExactly("잘못된 값입니다: grade", "읽을 수 없는 행입니다.");
+
+        StudentImportResponse second = importStudents(jsonl.lines().findFirst().orElseThrow(),
+                StudentImportService.Format.JSONL);
+
+        assertThat(second.getImported()).isZero();
+        assertThat(second.getErrors()).extracting(RowError::getStudentId).containsExactly("ES711");
+    }
+
+    @Test
+    void rejectsRowsFromAnotherDivision() throws IOException {
+        String csv = """
+                studentId,name,birthDate,phoneNumber,parentPhoneNumber,grade,division,specialNotes
+                ES725,부서일치,2016-03-01,,010-1111-1111,GRADE_2,ELEMENTARY,
+                MS726,부서다름,2011-03-01,010-2222-2222,010-3333-3333,MIDDLE_1,MIDDLE,
+                """;
+
+        StudentImportResponse response = importStudents(csv, StudentImportService.Format.CSV);
+
+        assertThat(response.getImported()).isEqualTo(1);
+        assertThat(response.getErrors()).singleElement()
+                .satisfies(error -> {
+                    assertThat(error.getLine()).isEqualTo(3L);
+                    assertThat(error.getStudentId()).isEqualTo("MS726");
+                    assertThat(error.getMessage()).isEqualTo("부서가 일치하지 않습니다: MIDDLE (현재 부서: ELEMENTARY)");
+                });
+        assertThat(studentRepository.existsByStudentId("MS726")).isFalse();
+    }
+
+    @Test
+    void rejectsCsvWithoutRequiredColumns() {
+        assertThatThrownBy(() -> importStudents("studentId,name\nES721,이름\n", StudentImportService.Format.CSV))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("birthDate");
+    }
+
+    @Test
+    void parsesQuotedCsvValues() {
+        assertThat(StudentImportService.parseCsvLine("a,\"b,c\",\"say \"\"hi\"\"\",,"))
+                .containsExactly("a", "b,c", "say \"hi\"", "", "");
+    }
+
+    private StudentImportResponse importStudents(String body, StudentImportService.Format format) throws IOException {
+        return studentImportService.importStudents(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), format);
+    }
+}
@@ -0,0 +1,174 @@
+package com.aslan.academymanagement.service.student;
+
+import com.aslan.academymanagement.domain.enums.Division;
+import com.aslan.academymanagement.domain.enums.Grade;
+import com.aslan.academymanagement.dto.CursorPage;
+import com.aslan.academymanagement.dto.StudentResponse;
+import com.aslan.academymanagement.dto.StudentSearchCondition;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class StudentQueryServiceTest {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+    private static final int COUNT = 12;
+
+    @Autowired
+    private StudentQueryService studentQueryService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String prefix;
+
+    @BeforeEach
+    void setUp() {
+        // 짝수: 초등부 4학년, 홀수: 중등부 2/3학년 / 평균 점수는 0, 8, 16, ... 88
+        prefix = "QUERY" + SEQUENCE.incrementAndGet() + "-";
+        jdbcTemplate.batchUpdate("""
+                        INSERT INTO students (student_id, name, birth_date, parent_phone_number, grade, division,
+                                              attendance_count, average_score)
+                        VALUES (?, '목록조회', ?, '010-0000-0000', ?, ?, 0, ?)
+                        """,
+                IntStream.range(0, COUNT).boxed().toList(), COUNT, (ps, i) -> {
+                    ps.setString(1, prefix + i);
+                    ps.setDate(2, Date.valueOf(LocalDate.of(2012, 1, 1)));
+                    ps.setString(3, i % 2 == 0 ? "GRADE_4" : i % 4 == 1 ? "MIDDLE_2" : "MIDDLE_3");
+                    ps.setString(4, i % 2 == 0 ? "ELEMENTARY" : "MIDDLE");
+                    ps.setDouble(5, i * 8.0);
+                });
+    }
+
+    @Test
+    void cursorRoundTripVisitsEveryMatchingStudentOnce() throws Exception {
+        List<StudentResponse> all = new ArrayList<>();
+        String cursor = null;
+        JsonNode page;
+        do {
+            MockHttpServletRequestBuilder request = get("/api/v1/students")
+                    .param("division", "MIDDLE")
+                    .param("size", "3");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            page = objectMapper.readTree(mockMvc.perform(request.with(user("query@test.com")))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsByteArray());
+            List<StudentResponse> items = objectMapper.convertValue(page.get("items"), new TypeReference<>() {
+            });
+            assertThat(items).hasSizeLessThanOrEqualTo(3);
+            all.addAll(items);
+            cursor = page.get("nextCursor").isNull() ? null : page.get("nextCursor").asText();
+        } while (cursor != null);
+
+        // 마지막 페이지는 다음 커서가 없음
+        assertThat(page.get("hasNext").asBoolean()).isFalse();
+        assertThat(all).isSortedAccordingTo(Comparator.comparing(StudentResponse::getId))
+                .extracting(StudentResponse::getId).doesNotHaveDuplicates();
+        assertThat(all).allSatisfy(student -> assertThat(student.getDivision()).isEqualTo(Division.MIDDLE));
+        assertThat(mine(all)).containsExactly(1, 3, 5, 7, 9, 11);
+    }
+
+    @Test
+    void eachFilterIsApplied() {
+        assertFilter(new StudentSearchCondition(Division.ELEMENTARY, null, null),
+                student -> student.getDivision() == Division.ELEMENTARY, 0, 2, 4, 6, 8, 10);
+        assertFilter(new StudentSearchCondition(null, Grade.MIDDLE_3, null),
+                student -> student.getGrade() == Grade.MIDDLE_3, 3, 7, 11);
+        assertFilter(new StudentSearchCondition(null, null, 60.0),
+                student -> student.getAverageScore() >= 60.0, 8, 9, 10, 11);
+        assertFilter(new StudentSearchCondition(Division.MIDDLE, Grade.MIDDLE_2, 40.0),
+                student -> student.getGrade() == Grade.MIDDLE_2 && student.getAverageScore() >= 40.0, 5, 9);
+        assertFilter(new StudentSearchCondition(),
+                student -> true, IntStream.range(0, COUNT).toArray());
+    }
+
+    @Test
+    void lastPageHasNoNextCursor() {
+        // 조건에 맞는 학생이 size보다 적으면 첫 페이지가 곧 마지막 페이지
+        CursorPage<StudentResponse> page = studentQueryService.getStudents(
+                new StudentSearchCondition(Division.MIDDLE, Grade.MIDDLE_3, 1000.0), null, 10);
+        assertThat(page.getItems()).isEmpty();
+        assertThat(page.getNextCursor()).isNull();
+        assertThat(page.isHasNext()).isFalse();
+
+        assertThatThrownBy(() -> studentQueryService.getStudents(new StudentSearchCondition(), "bad", 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서입니다.");
+    }
+
+    @Test
+    void exportStreamsTheSameStudentsAsThePages() throws Exception {
+        byte[] body = mockMvc.perform(get("/api/v1/students/export")
+                        .param("division", "MIDDLE")
+                        .param("minScore", "30")
+                        .with(user("query@test.com")))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+        List<StudentResponse> exported = objectMapper.readValue(body, new TypeReference<>() {
+        });
+
+        List<StudentResponse> paged = readAll(new StudentSearchCondition(Division.MIDDLE, null, 30.0), 5);
+        assertThat(exported).extracting(StudentResponse::getId)
+                .containsExactlyElementsOf(paged.stream().map(StudentResponse::getId).toList());
+        assertThat(mine(exported)).containsExactly(5, 7, 9, 11);
+    }
+
+    private void assertFilter(StudentSearchCondition condition, Predicate<StudentResponse> expected, int... indexes) {
+        List<StudentResponse> all = readAll(condition, 4);
+        assertThat(all).allMatch(expected);
+        assertThat(mine(all)).containsExactly(IntStream.of(indexes).boxed().toArray(Integer[]::new));
+    }
+
+    private List<StudentResponse> readAll(StudentSearchCondition condition, int size) {
+        List<StudentResponse> all = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<StudentResponse> page = studentQueryService.getStudents(condition, cursor, size);
+            all.addAll(page.getItems());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return all;
+    }
+
+    // 이 테스트에서 넣은 학생의 번호 (다른 테스트의 학생은 제외)
+    private List<Integer> mine(List<StudentResponse> students) {
+        return students.stream()
+                .map(StudentResponse::getStudentId)
+                .filter(studentId -> studentId.startsWith(prefix))
+                .map(studentId -> Integer.parseInt(studentId.substring(prefix.length())))
+                .toList();
+    }
+}
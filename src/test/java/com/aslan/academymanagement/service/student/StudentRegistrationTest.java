@@ -0,0 +1,79 @@
+package com.aslan.academymanagement.service.student;
+
+import com.aslan.academymanagement.domain.enums.Division;
+import com.aslan.academymanagement.domain.enums.Grade;
+import com.aslan.academymanagement.dto.StudentRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class StudentRegistrationTest {
+
+    @Autowired
+    private StudentManagementService studentManagementService;
+
+    @Autowired
+    private StudentIdFilter studentIdFilter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void registeredIdIsAddedToFilterAndRejectedAgain() {
+        assertThat(studentIdFilter.mightContain("ES731")).isFalse();
+
+        studentManagementService.registerStudent(request("ES731"));
+
+        assertThat(studentIdFilter.mightContain("ES731")).isTrue();
+        assertThatThrownBy(() -> studentManagementService.registerStudent(request("ES731")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("이미 존재하는 학생 번호입니다: ES731");
+    }
+
+    @Test
+    void uniqueConstraintCatchesIdsTheFilterHasNotSeen() {
+        // 이벤트 없이 직접 넣어 필터는 모르는 상태 (동시 등록 상황과 같음)
+        jdbcTemplate.update("""
+                INSERT INTO students (student_id, name, birth_date, grade, division, attendance_count, average_score)
+                VALUES ('ES732', '직접등록', DATE '2016-01-01', 'GRADE_2', 'ELEMENTARY', 0, 0.0)
+                """);
+        assertThat(studentIdFilter.mightContain("ES732")).isFalse();
+
+        assertThatThrownBy(() -> studentManagementService.registerStudent(request("ES732")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("이미 존재하는 학생 번호입니다: ES732");
+    }
+
+    @Test
+    void otherIntegrityViolationsAreNotReportedAsDuplicateIds() {
+        // 길이 초과 이름: 학생 번호 유니크 제약과 무관한 위반은 그대로 전파
+        StudentRequest request = request("ES733", "가".repeat(300));
+
+        assertThatThrownBy(() -> studentManagementService.registerStudent(request))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThat(studentIdFilter.mightContain("ES733")).isFalse();
+    }
+
+    private static StudentRequest request(String studentId) {
+        return request(studentId, "필터");
+    }
+
+    private static StudentRequest request(String studentId, String name) {
+        return StudentRequest.builder()
+                .studentId(studentId)
+                .name(name)
+                .birthDate(LocalDate.of(2016, 1, 1))
+                .parentPhoneNumber("010-0000-0000")
+                .grade(Grade.GRADE_2)
+                .division(Division.ELEMENTARY)
+                .build();
+    }
+}